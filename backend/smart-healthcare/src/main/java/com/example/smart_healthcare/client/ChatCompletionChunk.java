@@ -0,0 +1,16 @@
+package com.example.smart_healthcare.client;
+
+/**
+ * 스트리밍 Chat Completions 조각
+ * - content: choices[0].delta.content 조각 (없으면 null)
+ * - finishReason: 마지막 조각의 finish_reason (stop, length 등, 중간 조각에서는 null)
+ */
+public record ChatCompletionChunk(
+        String content,
+        String finishReason
+) {
+
+    public boolean hasContent() {
+        return content != null;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.smart_healthcare.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+/**
+ * Chat Completions 응답 envelope
+ * - 사용하는 필드만 선언하고 나머지는 무시 (중간 Map 생성 없이 바로 디코딩)
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record ChatCompletionResponse(
+        String id,
+        String model,
+        List<Choice> choices,
+        Usage usage,
+        Object error            // OpenAI 표준 에러 객체 (정상 응답에서는 null)
+) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Choice(
+            Message message,
+            @JsonProperty("finish_reason") String finishReason
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Message(
+            String role,
+            String content
+    ) {}
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record Usage(
+            @JsonProperty("prompt_tokens") int promptTokens,
+            @JsonProperty("completion_tokens") int completionTokens,
+            @JsonProperty("total_tokens") int totalTokens,
+            @JsonProperty("prompt_tokens_details") PromptTokensDetails promptTokensDetails
+    ) {
+
+        /**
+         * 프롬프트 캐시에서 재사용된 입력 토큰 수 (미지원 모델이면 0)
+         */
+        public int cachedTokens() {
+            return promptTokensDetails != null ? promptTokensDetails.cachedTokens() : 0;
+        }
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record PromptTokensDetails(
+            @JsonProperty("cached_tokens") int cachedTokens
+    ) {}
+
+    /**
+     * 스트리밍으로 조립한 content와 마지막 청크의 finish_reason을 일반 응답 형태로 감싸기
+     */
+    public static ChatCompletionResponse ofContent(String content, String finishReason) {
+        return new ChatCompletionResponse(null, null,
+                List.of(new Choice(new Message("assistant", content), finishReason)), null, null);
+    }
+
+    public boolean hasChoices() {
+        return choices != null && !choices.isEmpty();
+    }
+
+    /**
+     * choices[0].finish_reason (없으면 null)
+     */
+    public String finishReason() {
+        if (!hasChoices() || choices.get(0) == null) {
+            return null;
+        }
+        return choices.get(0).finishReason();
+    }
+
+    /**
+     * 모델이 응답을 끝까지 생성했는지 여부 (finish_reason=stop, length/content_filter 등은 중단된 응답)
+     */
+    public boolean isCompleted() {
+        return "stop".equals(finishReason());
+    }
+
+    /**
+     * choices[0].message.content (없으면 null)
+     */
+    public String firstContent() {
+        if (!hasChoices() || choices.get(0) == null || choices.get(0).message() == null) {
+            return null;
+        }
+        return choices.get(0).message().content();
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.smart_healthcare.client;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Batch API 작업 상태 (POST /batches, GET /batches/{id} 응답)
+ * - status: validating, in_progress, finalizing, completed, failed, expired, cancelling, cancelled
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record OpenAIBatch(
+        String id,
+        String status,
+        @JsonProperty("input_file_id") String inputFileId,
+        @JsonProperty("output_file_id") String outputFileId,
+        @JsonProperty("error_file_id") String errorFileId,
+        @JsonProperty("request_counts") RequestCounts requestCounts
+) {
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record RequestCounts(int total, int completed, int failed) {}
+
+    public boolean isCompleted() {
+        return "completed".equals(status);
+    }
+
+    /**
+     * 더 이상 진행되지 않는 실패 상태
+     */
+    public boolean isTerminalFailure() {
+        return "failed".equals(status) || "expired".equals(status) || "cancelled".equals(status);
+    }
+}
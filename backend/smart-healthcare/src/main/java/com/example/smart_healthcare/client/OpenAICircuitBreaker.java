@@ -0,0 +1,275 @@
+package com.example.smart_healthcare.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * OpenAI 호출 서킷 브레이커 + 적응형 타임아웃
+ * - CLOSED: 최근 호출 창에서 실패율/지연 호출 비율이 임계치를 넘으면 OPEN
+ * - OPEN: open-duration 동안 호출을 즉시 실패 처리 (스레드/DB 커넥션 점유 방지)
+ * - HALF_OPEN: 제한된 수의 탐색 호출을 허용하고 성공 시 CLOSED, 실패 시 다시 OPEN
+ * - 타임아웃: 최근 성공 호출 지연의 p99 × 배수 (min~max 범위), 표본이 부족하면 max 사용
+ * - 지연 표본은 호출 종류(모델 + max_tokens)별로 따로 모아, 짧은 분류 호출이 긴 계획 생성 호출의 타임아웃을 줄이지 않음
+ */
+@Slf4j
+@Component
+public class OpenAICircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long slowCallThresholdMillis;
+    private final int slowCallRateThreshold;
+    private final long openDurationMillis;
+    private final int halfOpenProbes;
+    private final long minTimeoutMillis;
+    private final long maxTimeoutMillis;
+    private final double timeoutMultiplier;
+    private final int sampleSize;
+    private final int minLatencySamples;
+    private final LongSupplier clock;
+
+    // 최근 호출 결과 창 (this 모니터로 보호)
+    private final boolean[] failures;
+    private final boolean[] slowCalls;
+    private int windowIndex;
+    private int windowCount;
+
+    // 호출 종류별 최근 성공 호출 지연 (ms)
+    private final Map<String, LatencyWindow> latencies = new LinkedHashMap<>();
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenInFlight;
+    private long shortCircuitedCount;
+
+    @Autowired
+    public OpenAICircuitBreaker(@Value("${openai.circuit.window-size:20}") int windowSize,
+                                @Value("${openai.circuit.minimum-calls:10}") int minimumCalls,
+                                @Value("${openai.circuit.failure-rate-threshold:50}") int failureRateThreshold,
+                                @Value("${openai.circuit.slow-call-threshold-seconds:90}") long slowCallThresholdSeconds,
+                                @Value("${openai.circuit.slow-call-rate-threshold:80}") int slowCallRateThreshold,
+                                @Value("${openai.circuit.open-duration-seconds:30}") long openDurationSeconds,
+                                @Value("${openai.circuit.half-open-probes:1}") int halfOpenProbes,
+                                @Value("${openai.timeout.min-seconds:30}") long minTimeoutSeconds,
+                                @Value("${openai.timeout.max-seconds:180}") long maxTimeoutSeconds,
+                                @Value("${openai.timeout.p99-multiplier:1.5}") double timeoutMultiplier,
+                                @Value("${openai.timeout.sample-size:100}") int sampleSize,
+                                @Value("${openai.timeout.min-samples:20}") int minLatencySamples) {
+        this(windowSize, minimumCalls, failureRateThreshold, slowCallThresholdSeconds, slowCallRateThreshold,
+                openDurationSeconds, halfOpenProbes, minTimeoutSeconds, maxTimeoutSeconds, timeoutMultiplier,
+                sampleSize, minLatencySamples, System::currentTimeMillis);
+    }
+
+    /**
+     * 시각 공급자 지정 (테스트에서 OPEN 유지 시간을 직접 진행)
+     * - clock: 현재 시각 (ms)
+     */
+    OpenAICircuitBreaker(int windowSize, int minimumCalls, int failureRateThreshold, long slowCallThresholdSeconds,
+                         int slowCallRateThreshold, long openDurationSeconds, int halfOpenProbes,
+                         long minTimeoutSeconds, long maxTimeoutSeconds, double timeoutMultiplier,
+                         int sampleSize, int minLatencySamples, LongSupplier clock) {
+        this.failures = new boolean[windowSize];
+        this.slowCalls = new boolean[windowSize];
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallThresholdMillis = slowCallThresholdSeconds * 1000L;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openDurationMillis = openDurationSeconds * 1000L;
+        this.halfOpenProbes = halfOpenProbes;
+        this.minTimeoutMillis = minTimeoutSeconds * 1000L;
+        this.maxTimeoutMillis = maxTimeoutSeconds * 1000L;
+        this.timeoutMultiplier = timeoutMultiplier;
+        this.sampleSize = sampleSize;
+        this.minLatencySamples = minLatencySamples;
+        this.clock = clock;
+    }
+
+    /**
+     * 호출 허용 여부 (허용된 호출은 반드시 onSuccess/onFailure/onIgnored 중 하나로 결과 기록)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAt < openDurationMillis) {
+                shortCircuitedCount++;
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight >= halfOpenProbes) {
+                shortCircuitedCount++;
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    /**
+     * 재시도 허용 여부 (OPEN 상태에서는 재시도로 부하를 키우지 않음)
+     */
+    public synchronized boolean isClosed() {
+        return state == State.CLOSED;
+    }
+
+    /**
+     * 성공 호출 기록
+     * - latencyKey: 호출 종류 (모델 + max_tokens), 같은 종류의 지연만 해당 타임아웃 계산에 사용
+     */
+    public synchronized void onSuccess(String latencyKey, long latencyMillis) {
+        latencies.computeIfAbsent(latencyKey, key -> new LatencyWindow(sampleSize)).add(latencyMillis);
+        record(false, latencyMillis > slowCallThresholdMillis);
+    }
+
+    /**
+     * 스트리밍 호출 성공 기록
+     * - 전체 스트림 시간은 생성 길이에 비례하고 유휴 타임아웃으로 따로 관리하므로 지연 표본/지연 호출 판단에서 제외
+     */
+    public synchronized void onStreamSuccess() {
+        record(false, false);
+    }
+
+    public synchronized void onFailure(long latencyMillis) {
+        record(true, latencyMillis > slowCallThresholdMillis);
+    }
+
+    /**
+     * 결과 판단 없이 종료된 호출 (취소 등) - HALF_OPEN 탐색 슬롯만 반납
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && halfOpenInFlight > 0) {
+            halfOpenInFlight--;
+        }
+    }
+
+    /**
+     * 현재 적용할 호출 타임아웃 (같은 종류 호출의 최근 p99 기반)
+     */
+    public synchronized Duration currentTimeout(String latencyKey) {
+        LatencyWindow window = latencies.get(latencyKey);
+        if (window == null || window.count < minLatencySamples) {
+            return Duration.ofMillis(maxTimeoutMillis);
+        }
+        long adaptive = (long) (window.percentile(99) * timeoutMultiplier);
+        return Duration.ofMillis(Math.max(minTimeoutMillis, Math.min(maxTimeoutMillis, adaptive)));
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized Map<String, Object> getMetrics() {
+        int failureCount = 0;
+        int slowCount = 0;
+        for (int i = 0; i < windowCount; i++) {
+            failureCount += failures[i] ? 1 : 0;
+            slowCount += slowCalls[i] ? 1 : 0;
+        }
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("state", state.name());
+        metrics.put("windowCalls", windowCount);
+        metrics.put("failureRate", windowCount > 0 ? failureCount * 100 / windowCount : 0);
+        metrics.put("slowCallRate", windowCount > 0 ? slowCount * 100 / windowCount : 0);
+        metrics.put("shortCircuited", shortCircuitedCount);
+        Map<String, Object> latencyMetrics = new LinkedHashMap<>();
+        latencies.forEach((key, window) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("samples", window.count);
+            entry.put("p99LatencyMillis", window.percentile(99));
+            entry.put("timeoutMillis", currentTimeout(key).toMillis());
+            latencyMetrics.put(key, entry);
+        });
+        metrics.put("latency", latencyMetrics);
+        return metrics;
+    }
+
+    private void record(boolean failed, boolean slow) {
+        switch (state) {
+            case HALF_OPEN -> {
+                halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+                transitionTo(failed || slow ? State.OPEN : State.CLOSED);
+            }
+            case CLOSED -> {
+                failures[windowIndex] = failed;
+                slowCalls[windowIndex] = slow;
+                windowIndex = (windowIndex + 1) % failures.length;
+                windowCount = Math.min(windowCount + 1, failures.length);
+                evaluate();
+            }
+            default -> {
+                // OPEN 전환 이전에 시작된 호출의 결과는 무시
+            }
+        }
+    }
+
+    private void evaluate() {
+        if (windowCount < minimumCalls) {
+            return;
+        }
+        int failureCount = 0;
+        int slowCount = 0;
+        for (int i = 0; i < windowCount; i++) {
+            failureCount += failures[i] ? 1 : 0;
+            slowCount += slowCalls[i] ? 1 : 0;
+        }
+        int failureRate = failureCount * 100 / windowCount;
+        int slowRate = slowCount * 100 / windowCount;
+        if (failureRate >= failureRateThreshold || slowRate >= slowCallRateThreshold) {
+            log.error("🔌 OpenAI 서킷 OPEN: 실패율={}%, 지연 호출 비율={}% (최근 {}건)", failureRate, slowRate, windowCount);
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        if (state != next) {
+            log.warn("🔌 OpenAI 서킷 상태 변경: {} → {}", state, next);
+        }
+        state = next;
+        switch (next) {
+            case OPEN -> openedAt = clock.getAsLong();
+            case HALF_OPEN -> halfOpenInFlight = 0;
+            case CLOSED -> {
+                windowIndex = 0;
+                windowCount = 0;
+            }
+        }
+    }
+
+    /**
+     * 호출 종류 하나의 최근 성공 지연 (원형 버퍼, 외부 모니터로 보호)
+     */
+    private static final class LatencyWindow {
+        private final long[] samples;
+        private int index;
+        private int count;
+
+        LatencyWindow(int size) {
+            this.samples = new long[size];
+        }
+
+        void add(long latencyMillis) {
+            samples[index] = latencyMillis;
+            index = (index + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        long percentile(int p) {
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            int position = (int) Math.ceil(p / 100.0 * sorted.length) - 1;
+            return sorted[Math.max(0, position)];
+        }
+    }
+}
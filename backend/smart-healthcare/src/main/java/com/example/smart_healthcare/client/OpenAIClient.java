@@ -1,17 +1,28 @@
 package com.example.smart_healthcare.client;
 
+import com.example.smart_healthcare.common.util.SingleFlight;
+import com.example.smart_healthcare.exception.OpenAIException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.util.retry.Retry;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * OpenAI API 호출을 담당하는 단일 클라이언트
@@ -21,18 +32,37 @@ import java.util.Map;
 @Component
 public class OpenAIClient {
 
+    private static final Duration BATCH_CALL_TIMEOUT = Duration.ofSeconds(120);
+
     private final WebClient webClient;
     private final ObjectMapper objectMapper;
     private final String apiKey;
     private final String baseUrl;
+    private final OpenAIResponseCache responseCache;
+    private final OpenAIRateLimiter rateLimiter;
+    private final OpenAICircuitBreaker circuitBreaker;
+    private final OpenAIUsageMetrics usageMetrics;
+    private final OpenAIModelRouter modelRouter;
+    // 캐시에 아직 없는 같은 프롬프트(캐시 키)의 동시 호출은 하나로 합침
+    private final SingleFlight<String, ChatCompletionResponse> inFlightCompletions = new SingleFlight<>();
 
     public OpenAIClient(WebClient.Builder webClientBuilder, 
                        ObjectMapper objectMapper,
+                       OpenAIResponseCache responseCache,
+                       OpenAIRateLimiter rateLimiter,
+                       OpenAICircuitBreaker circuitBreaker,
+                       OpenAIUsageMetrics usageMetrics,
+                       OpenAIModelRouter modelRouter,
                        @Value("${openai.api.base-url:https://api.openai.com/v1}") String baseUrl,
                        @Value("${openai.api.key:}") String apiKey) {
         this.objectMapper = objectMapper;
         this.apiKey = apiKey;
         this.baseUrl = baseUrl;
+        this.responseCache = responseCache;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.usageMetrics = usageMetrics;
+        this.modelRouter = modelRouter;
         
         // API 키 유효성 검증
         if (apiKey == null || apiKey.trim().isEmpty()) {
@@ -53,6 +83,14 @@ public class OpenAIClient {
                 .build();
     }
 
+    /**
+     * 캐시된 응답 제거
+     * - 캐시는 finish_reason=stop 응답만 저장하지만, 내용이 파싱되지 않는 응답은 호출 측이 이 메서드로 제거
+     */
+    public void evictCachedResponse(Map<String, Object> request) {
+        responseCache.evict(responseCache.keyOf(request));
+    }
+
     /**
      * API 키 유효성 검증
      */
@@ -62,111 +100,449 @@ public class OpenAIClient {
 
     /**
      * Chat Completions API 호출 (JSON 응답)
+     * - 비동기 파이프라인({@link #postJsonAsync})을 블로킹으로 기다리는 동기 버전
      */
     public <T> T postJson(String path, Object requestBody, Class<T> responseType) {
-        log.info("🔑 API 키 유효성 검사: isValid={}", isApiKeyValid());
-        if (!isApiKeyValid()) {
-            log.warn("❌ OpenAI API 키가 유효하지 않음. 호출을 건너뜁니다.");
+        try {
+            T response = postJsonAsync(path, requestBody, responseType).block();
+
+            if (response != null) {
+                log.info("✅ 응답 객체 생성 성공: {}", response.getClass().getSimpleName());
+            }
+            return response;
+
+        } catch (OpenAIException e) {
+            // 호출 제한 초과는 null 응답과 구분되도록 그대로 전달
+            throw e;
+        } catch (Exception e) {
+            logCallFailure(e);
             return null;
         }
+    }
 
-        try {
-            log.info("🚀 OpenAI API 호출 시작: {}", baseUrl + path);
-            String requestBodyJson = objectMapper.writeValueAsString(requestBody);
-            log.info("📤 요청 본문 크기: {} bytes", requestBodyJson.length());
-            log.info("📤 요청 본문 미리보기: {}", requestBodyJson.length() > 500 ? requestBodyJson.substring(0, 500) + "..." : requestBodyJson);
+    /**
+     * Chat Completions API 호출 (JSON 응답, 논블로킹)
+     * - 구독 전까지 호출하지 않으며, 응답을 기다리는 동안 호출 스레드를 점유하지 않음
+     * - API 키가 유효하지 않으면 빈 Mono 반환 (동기 버전의 null 반환과 동일한 의미)
+     * - 호출 제한기 한도 초과 시 OpenAIException(RATE_LIMITED)
+     */
+    public <T> Mono<T> postJsonAsync(String path, Object requestBody, Class<T> responseType) {
+        // 서킷 허가와 호출 제한기 대기는 구독 시점에 수행 (구독되지 않거나 늦게 구독되는 Mono가 HALF_OPEN 탐색 슬롯을 점유하지 않도록)
+        return Mono.defer(() -> {
+            log.info("🔑 API 키 유효성 검사: isValid={}", isApiKeyValid());
+            if (!isApiKeyValid()) {
+                log.warn("❌ OpenAI API 키가 유효하지 않음. 호출을 건너뜁니다.");
+                return Mono.empty();
+            }
+
+            try {
+                log.info("🚀 OpenAI API 호출 시작: {}", baseUrl + path);
+                String requestBodyJson = objectMapper.writeValueAsString(requestBody);
+                log.info("📤 요청 본문 크기: {} bytes", requestBodyJson.length());
+                log.info("📤 요청 본문 미리보기: {}", requestBodyJson.length() > 500 ? requestBodyJson.substring(0, 500) + "..." : requestBodyJson);
+            } catch (Exception e) {
+                return Mono.error(e);
+            }
+
+            // 서킷이 열려 있으면 대기 없이 즉시 실패
+            if (!circuitBreaker.tryAcquire()) {
+                return Mono.error(circuitOpenException());
+            }
 
-            T response = webClient.post()
+            // 호출 제한기에서 허가를 받은 뒤 호출하고, 재시도를 포함한 호출이 끝나면 허가 반납
+            return rateLimiter.acquire(rateLimiter.estimateTokens(requestBody))
+                    .doOnError(e -> circuitBreaker.onIgnored())
+                    .flatMap(permit -> callJson(path, requestBody, responseType)
+                            .doFinally(signal -> permit.release()))
+                    .doOnCancel(circuitBreaker::onIgnored);
+        });
+    }
+
+    private <T> Mono<T> callJson(String path, Object requestBody, Class<T> responseType) {
+        // 시도마다 같은 종류 호출의 현재 타임아웃(최근 p99 기반)을 적용하고 결과를 서킷 브레이커에 기록
+        String latencyKey = latencyKeyOf(requestBody);
+        Mono<T> attempt = Mono.defer(() -> {
+            Duration timeout = circuitBreaker.currentTimeout(latencyKey);
+            long startedAt = System.currentTimeMillis();
+            return webClient.post()
                     .uri(path)
                     .bodyValue(requestBody)
                     .retrieve()
                     .bodyToMono(responseType)
-                    .timeout(Duration.ofSeconds(180)) // 120초 → 180초로 증가 (긴 응답 처리)
-                    .retryWhen(Retry.backoff(2, Duration.ofSeconds(3)) // 재시도 횟수를 2회로 줄이고 간격 증가
-                            .filter(throwable -> {
-                                // 타임아웃이나 네트워크 오류만 재시도
-                                boolean shouldRetry = throwable instanceof java.util.concurrent.TimeoutException ||
-                                       throwable instanceof org.springframework.web.reactive.function.client.WebClientRequestException ||
-                                       (throwable instanceof org.springframework.web.reactive.function.client.WebClientResponseException &&
-                                        ((org.springframework.web.reactive.function.client.WebClientResponseException) throwable).getStatusCode().is5xxServerError());
-                                if (shouldRetry) {
-                                    log.warn("⚠️ OpenAI API 재시도 대상 예외: {}", throwable.getClass().getSimpleName());
-                                }
-                                return shouldRetry;
-                            })
-                            .doBeforeRetry(retrySignal -> {
-                                log.warn("🔄 OpenAI API 재시도 {}/2회...", retrySignal.totalRetries() + 1);
-                            }))
+                    .timeout(timeout)
+                    .doOnSuccess(response -> {
+                        long latency = System.currentTimeMillis() - startedAt;
+                        circuitBreaker.onSuccess(latencyKey, latency);
+                        modelRouter.recordLatency(modelOf(requestBody), latency);
+                    })
                     .doOnError(throwable -> {
                         if (throwable instanceof java.util.concurrent.TimeoutException) {
-                            log.error("⏰ OpenAI API 타임아웃 (180초 초과): {}", throwable.getMessage());
-                        } else if (throwable instanceof org.springframework.web.reactive.function.client.WebClientResponseException) {
-                            org.springframework.web.reactive.function.client.WebClientResponseException webClientEx = 
-                                (org.springframework.web.reactive.function.client.WebClientResponseException) throwable;
-                            log.error("🌐 OpenAI API HTTP 오류: {}", webClientEx.getStatusCode());
-                            log.error("🌐 응답 본문: {}", webClientEx.getResponseBodyAsString());
-                        } else {
-                            log.error("🌐 OpenAI API 네트워크 오류: {} - {}", throwable.getClass().getSimpleName(), throwable.getMessage());
+                            log.error("⏰ OpenAI API 타임아웃 ({}초 초과)", timeout.toSeconds());
                         }
-                    })
-                    .block();
+                        recordFailure(throwable, System.currentTimeMillis() - startedAt);
+                    });
+        });
 
-            log.info("✅ OpenAI API 호출 성공: responseType={}", responseType.getSimpleName());
-            if (response != null) {
-                log.info("✅ 응답 객체 생성 성공: {}", response.getClass().getSimpleName());
-            }
-            return response;
+        return attempt
+                .retryWhen(Retry.backoff(2, Duration.ofSeconds(3)) // 재시도 횟수를 2회로 줄이고 간격 증가
+                        .filter(throwable -> {
+                            // 타임아웃이나 네트워크 오류만 재시도 (서킷이 열렸으면 재시도하지 않음)
+                            boolean shouldRetry = circuitBreaker.isClosed() && (
+                                   throwable instanceof java.util.concurrent.TimeoutException ||
+                                   throwable instanceof org.springframework.web.reactive.function.client.WebClientRequestException ||
+                                   (throwable instanceof org.springframework.web.reactive.function.client.WebClientResponseException &&
+                                    ((org.springframework.web.reactive.function.client.WebClientResponseException) throwable).getStatusCode().is5xxServerError()));
+                            if (shouldRetry) {
+                                log.warn("⚠️ OpenAI API 재시도 대상 예외: {}", throwable.getClass().getSimpleName());
+                            }
+                            return shouldRetry;
+                        })
+                        .doBeforeRetry(retrySignal -> {
+                            log.warn("🔄 OpenAI API 재시도 {}/2회...", retrySignal.totalRetries() + 1);
+                        }))
+                .doOnError(throwable -> {
+                    if (throwable instanceof java.util.concurrent.TimeoutException) {
+                        log.error("⏰ OpenAI API 타임아웃 (재시도 포함): {}", throwable.getMessage());
+                    } else if (throwable instanceof org.springframework.web.reactive.function.client.WebClientResponseException) {
+                        org.springframework.web.reactive.function.client.WebClientResponseException webClientEx = 
+                            (org.springframework.web.reactive.function.client.WebClientResponseException) throwable;
+                        log.error("🌐 OpenAI API HTTP 오류: {}", webClientEx.getStatusCode());
+                        log.error("🌐 응답 본문: {}", webClientEx.getResponseBodyAsString());
+                    } else {
+                        log.error("🌐 OpenAI API 네트워크 오류: {} - {}", throwable.getClass().getSimpleName(), throwable.getMessage());
+                    }
+                })
+                .doOnSuccess(response -> log.info("✅ OpenAI API 호출 성공: responseType={}", responseType.getSimpleName()));
+    }
 
-        } catch (Exception e) {
-            log.error("❌ OpenAI API 호출 실패: {}", e.getMessage(), e);
-            log.error("❌ 예외 타입: {}", e.getClass().getSimpleName());
-            log.error("❌ 예외 스택 트레이스:", e);
+    private String modelOf(Object requestBody) {
+        return requestBody instanceof Map<?, ?> map && map.get("model") instanceof String model ? model : null;
+    }
+
+    /**
+     * 적응형 타임아웃의 호출 종류 (모델 + max_tokens: 체형 분석/요일별/전체 계획 호출을 구분)
+     */
+    private String latencyKeyOf(Object requestBody) {
+        Object maxTokens = requestBody instanceof Map<?, ?> map ? map.get("max_tokens") : null;
+        return modelOf(requestBody) + "/" + (maxTokens != null ? maxTokens : "default");
+    }
+
+    /**
+     * 서킷 브레이커 실패 기록
+     * - 타임아웃, 네트워크 오류, 5xx, 429만 OpenAI 장애로 간주 (그 외 4xx는 요청 문제이므로 제외)
+     */
+    private void recordFailure(Throwable throwable, long latencyMillis) {
+        boolean providerFailure = throwable instanceof java.util.concurrent.TimeoutException
+                || throwable instanceof org.springframework.web.reactive.function.client.WebClientRequestException
+                || (throwable instanceof org.springframework.web.reactive.function.client.WebClientResponseException responseEx
+                    && (responseEx.getStatusCode().is5xxServerError() || responseEx.getStatusCode().value() == 429));
+        if (providerFailure) {
+            circuitBreaker.onFailure(latencyMillis);
+        } else {
+            circuitBreaker.onIgnored();
+        }
+    }
+
+    private OpenAIException circuitOpenException() {
+        log.warn("🔌 OpenAI 서킷 OPEN 상태 - 호출을 즉시 실패 처리합니다.");
+        return new OpenAIException("OpenAI 서비스 응답이 불안정하여 잠시 호출을 중단했습니다. 잠시 후 다시 시도해주세요.",
+                "CIRCUIT_OPEN", 503);
+    }
+
+    /**
+     * 표준 Chat Completions 호출 (타입 응답)
+     * - 동일한 프롬프트의 응답이 캐시에 있으면 API를 호출하지 않음
+     * - 동일한 프롬프트가 호출 중이면 그 응답을 함께 사용
+     */
+    public ChatCompletionResponse chatCompletions(Map<String, Object> request) {
+        String cacheKey = responseCache.keyOf(request);
+        ChatCompletionResponse cached = responseCache.get(cacheKey);
+        if (cached != null) {
+            return cached;
+        }
+
+        return inFlightCompletions.execute(cacheKey, () -> {
+            logChatRequest(request);
             
-            // WebClientResponseException인 경우 추가 정보 출력
-            if (e instanceof org.springframework.web.reactive.function.client.WebClientResponseException) {
-                org.springframework.web.reactive.function.client.WebClientResponseException webClientEx = 
-                    (org.springframework.web.reactive.function.client.WebClientResponseException) e;
-                log.error("❌ HTTP 상태 코드: {}", webClientEx.getStatusCode());
-                log.error("❌ 응답 본문: {}", webClientEx.getResponseBodyAsString());
-                log.error("❌ 응답 헤더: {}", webClientEx.getHeaders());
-            }
+            ChatCompletionResponse response = postJson("/chat/completions", request, ChatCompletionResponse.class);
+            logChatResponse(response);
+            responseCache.put(cacheKey, response);
             
-            return null;
+            return response;
+        });
+    }
+
+    /**
+     * 표준 Chat Completions 호출 (타입 응답, 논블로킹)
+     * - 실패 시에도 동기 버전과 동일하게 null로 완료되어 호출 측의 null 가드를 그대로 사용
+     * - 단, 호출 제한 초과(OpenAIException)는 원인이 드러나도록 예외로 완료
+     */
+    public CompletableFuture<ChatCompletionResponse> chatCompletionsAsync(Map<String, Object> request) {
+        String cacheKey = responseCache.keyOf(request);
+        ChatCompletionResponse cached = responseCache.get(cacheKey);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
         }
+
+        return inFlightCompletions.executeAsync(cacheKey, () -> {
+            logChatRequest(request);
+
+            return postJsonAsync("/chat/completions", request, ChatCompletionResponse.class)
+                    .onErrorResume(e -> !(e instanceof OpenAIException), e -> {
+                        logCallFailure(e);
+                        return Mono.empty();
+                    })
+                    .toFuture()
+                    .thenApply(response -> {
+                        logChatResponse(response);
+                        responseCache.put(cacheKey, response);
+                        return response;
+                    });
+        });
     }
 
     /**
-     * 표준 Chat Completions 호출 (Map 응답)
+     * 스트리밍 Chat Completions 호출 (stream: true)
+     * - SSE 청크의 choices[0].delta.content 조각과 마지막 finish_reason을 순서대로 방출
+     * - 캐시 히트 시 전체 응답을 하나의 조각으로 방출
+     * - 스트림이 finish_reason=stop으로 끝나면 조립된 전체 응답을 캐시에 저장
      */
-    @SuppressWarnings("unchecked")
-    public Map<String, Object> chatCompletions(Map<String, Object> request) {
+    public Flux<ChatCompletionChunk> streamChatCompletions(Map<String, Object> request) {
+        // 캐시 확인과 서킷 허가는 구독 시점에 수행 (구독되지 않은 Flux가 HALF_OPEN 탐색 슬롯을 점유하지 않도록)
+        return Flux.defer(() -> {
+            String cacheKey = responseCache.keyOf(request);
+            ChatCompletionResponse cached = responseCache.get(cacheKey);
+            if (cached != null) {
+                return Flux.just(new ChatCompletionChunk(cached.firstContent(), cached.finishReason()));
+            }
+
+            if (!isApiKeyValid()) {
+                log.warn("❌ OpenAI API 키가 유효하지 않음. 스트리밍 호출을 건너뜁니다.");
+                return Flux.error(new IllegalStateException("OpenAI API 키가 유효하지 않습니다."));
+            }
+
+            logChatRequest(request);
+            Map<String, Object> streamRequest = new HashMap<>(request);
+            streamRequest.put("stream", true);
+            // 마지막 청크로 usage를 받아 프롬프트 캐시 적중 여부 집계
+            streamRequest.put("stream_options", Map.of("include_usage", true));
+            StringBuilder fullContent = new StringBuilder();
+            AtomicReference<String> finishReason = new AtomicReference<>();
+
+            if (!circuitBreaker.tryAcquire()) {
+                return Flux.error(circuitOpenException());
+            }
+
+            return rateLimiter.acquire(rateLimiter.estimateTokens(request))
+                    .doOnError(e -> circuitBreaker.onIgnored())
+                    .flatMapMany(permit -> {
+                        long startedAt = System.currentTimeMillis();
+                        return webClient.post()
+                                .uri("/chat/completions")
+                                .accept(MediaType.TEXT_EVENT_STREAM)
+                                .bodyValue(streamRequest)
+                                .retrieve()
+                                .bodyToFlux(String.class)
+                                // 첫 조각 및 조각 사이의 대기 시간 제한 (전체 생성 시간이 아닌 유휴 시간 기준, 호출 제한기 대기는 제외)
+                                .timeout(Duration.ofSeconds(60))
+                                .doFinally(signal -> permit.release())
+                                .takeWhile(data -> !"[DONE]".equals(data.trim()))
+                                .mapNotNull(this::extractChunk)
+                                .doOnNext(chunk -> {
+                                    if (chunk.hasContent()) {
+                                        fullContent.append(chunk.content());
+                                    }
+                                    if (chunk.finishReason() != null) {
+                                        finishReason.set(chunk.finishReason());
+                                    }
+                                })
+                                .doOnComplete(() -> {
+                                    // 전체 스트림 시간은 일반 호출 지연과 성격이 달라 타임아웃/모델 라우팅 지연 표본에 넣지 않음
+                                    circuitBreaker.onStreamSuccess();
+                                    log.info("✅ OpenAI 스트리밍 완료: {} 문자 ({}ms)", fullContent.length(), System.currentTimeMillis() - startedAt);
+                                    responseCache.put(cacheKey, ChatCompletionResponse.ofContent(fullContent.toString(), finishReason.get()));
+                                })
+                                .doOnError(e -> recordFailure(e, System.currentTimeMillis() - startedAt));
+                    })
+                    .doOnError(this::logCallFailure)
+                    .doOnCancel(circuitBreaker::onIgnored);
+        });
+    }
+
+    /**
+     * 스트리밍 청크(JSON)에서 delta.content와 finish_reason 추출 (usage 청크는 지표만 기록하고 방출하지 않음)
+     */
+    private ChatCompletionChunk extractChunk(String data) {
+        try {
+            JsonNode chunk = objectMapper.readTree(data);
+            JsonNode usage = chunk.path("usage");
+            if (usage.isObject()) {
+                usageMetrics.record(objectMapper.treeToValue(usage, ChatCompletionResponse.Usage.class));
+            }
+            JsonNode reason = chunk.path("choices").path(0).path("finish_reason");
+            JsonNode content = chunk.path("choices").path(0).path("delta").path("content");
+            if (!reason.isTextual() && !content.isTextual()) {
+                return null;
+            }
+            return new ChatCompletionChunk(content.isTextual() ? content.asText() : null,
+                    reason.isTextual() ? reason.asText() : null);
+        } catch (Exception e) {
+            log.warn("⚠️ 스트리밍 청크 파싱 실패, 건너뜀: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void logChatRequest(Map<String, Object> request) {
         log.info("🔍 OpenAI API 호출 디버깅 정보:");
         log.info("  - Base URL: {}", baseUrl);
         log.info("  - API 키 길이: {}", apiKey != null ? apiKey.length() : 0);
         log.info("  - API 키 유효성: {}", isApiKeyValid());
         log.info("  - 요청 경로: /chat/completions");
         log.info("  - 요청 본문 키: {}", request.keySet());
-        
-        Map<String, Object> response = postJson("/chat/completions", request, Map.class);
-        
+    }
+
+    private void logChatResponse(ChatCompletionResponse response) {
         if (response != null) {
             log.info("✅ OpenAI API 응답 수신 성공:");
-            log.info("  - 응답 키: {}", response.keySet());
-            if (response.containsKey("choices")) {
-                log.info("  - choices 수: {}", ((List<?>) response.get("choices")).size());
-            }
-            if (response.containsKey("usage")) {
-                log.info("  - usage 정보: {}", response.get("usage"));
+            log.info("  - choices 수: {}", response.hasChoices() ? response.choices().size() : 0);
+            if (response.usage() != null) {
+                log.info("  - usage 정보: {}", response.usage());
+                usageMetrics.record(response.usage());
             }
         } else {
             log.error("❌ OpenAI API 응답이 null입니다.");
         }
+    }
+
+    private void logCallFailure(Throwable e) {
+        log.error("❌ OpenAI API 호출 실패: {}", e.getMessage(), e);
+        log.error("❌ 예외 타입: {}", e.getClass().getSimpleName());
         
-        return response;
+        // WebClientResponseException인 경우 추가 정보 출력
+        if (e instanceof org.springframework.web.reactive.function.client.WebClientResponseException) {
+            org.springframework.web.reactive.function.client.WebClientResponseException webClientEx = 
+                (org.springframework.web.reactive.function.client.WebClientResponseException) e;
+            log.error("❌ HTTP 상태 코드: {}", webClientEx.getStatusCode());
+            log.error("❌ 응답 본문: {}", webClientEx.getResponseBodyAsString());
+            log.error("❌ 응답 헤더: {}", webClientEx.getHeaders());
+        }
+    }
+
+    /**
+     * Batch API 입력 파일 업로드 (POST /files, purpose=batch)
+     * - 배치 API는 별도 쿼터를 사용하므로 호출 제한기/서킷 브레이커를 거치지 않음
+     * @return 업로드된 파일 ID
+     */
+    public String uploadBatchFile(byte[] jsonl, String filename) {
+        requireApiKey();
+        MultipartBodyBuilder body = new MultipartBodyBuilder();
+        body.part("purpose", "batch");
+        body.part("file", new org.springframework.core.io.ByteArrayResource(jsonl) {
+            @Override
+            public String getFilename() {
+                return filename;
+            }
+        }).contentType(MediaType.APPLICATION_OCTET_STREAM);
+
+        JsonNode response = webClient.post()
+                .uri("/files")
+                .contentType(MediaType.MULTIPART_FORM_DATA)
+                .body(BodyInserters.fromMultipartData(body.build()))
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .timeout(BATCH_CALL_TIMEOUT)
+                .block();
+        String fileId = response != null ? response.path("id").asText(null) : null;
+        if (fileId == null) {
+            throw new OpenAIException("배치 입력 파일 업로드 응답에 id가 없습니다.");
+        }
+        log.info("📤 배치 입력 파일 업로드: fileId={}, size={} bytes", fileId, jsonl.length);
+        return fileId;
+    }
+
+    /**
+     * Batch 작업 생성 (POST /batches, /v1/chat/completions, 24시간 완료 창)
+     */
+    public OpenAIBatch createBatch(String inputFileId, Map<String, String> metadata) {
+        requireApiKey();
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("input_file_id", inputFileId);
+        request.put("endpoint", "/v1/chat/completions");
+        request.put("completion_window", "24h");
+        request.put("metadata", metadata);
+
+        OpenAIBatch batch = webClient.post()
+                .uri("/batches")
+                .bodyValue(request)
+                .retrieve()
+                .bodyToMono(OpenAIBatch.class)
+                .timeout(BATCH_CALL_TIMEOUT)
+                .block();
+        log.info("📦 배치 작업 생성: batchId={}, status={}", batch != null ? batch.id() : null, batch != null ? batch.status() : null);
+        return batch;
+    }
+
+    /**
+     * Batch 작업 상태 조회 (GET /batches/{id})
+     */
+    public OpenAIBatch getBatch(String batchId) {
+        requireApiKey();
+        return webClient.get()
+                .uri("/batches/{id}", batchId)
+                .retrieve()
+                .bodyToMono(OpenAIBatch.class)
+                .timeout(BATCH_CALL_TIMEOUT)
+                .block();
+    }
+
+    /**
+     * 파일 내용 다운로드 (GET /files/{id}/content, 배치 결과 JSONL)
+     * - 줄 단위로 디코딩하므로 전체 파일이 코덱 버퍼 한도(10MB)를 넘어도 됨
+     */
+    public List<String> downloadFileLines(String fileId) {
+        requireApiKey();
+        return webClient.get()
+                .uri("/files/{id}/content", fileId)
+                .accept(MediaType.ALL)
+                .retrieve()
+                .bodyToFlux(String.class)
+                .filter(line -> !line.isBlank())
+                .collectList()
+                .timeout(BATCH_CALL_TIMEOUT)
+                .block();
+    }
+
+    private void requireApiKey() {
+        if (!isApiKeyValid()) {
+            throw new OpenAIException("OpenAI API 키가 설정되지 않아 배치 작업을 처리할 수 없습니다.", "API_KEY_MISSING", 503);
+        }
+    }
+
+    /**
+     * 응답 캐시, 호출 제한기, 서킷 브레이커, 토큰 사용량, 모델 라우팅 지표
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> cacheMetrics = new LinkedHashMap<>();
+        cacheMetrics.put("size", responseCache.size());
+        cacheMetrics.put("hits", responseCache.getHitCount());
+        cacheMetrics.put("misses", responseCache.getMissCount());
+        cacheMetrics.put("evictions", responseCache.getEvictionCount());
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("cache", cacheMetrics);
+        metrics.put("singleFlight", Map.of(
+                "executions", inFlightCompletions.getExecutionCount(),
+                "shared", inFlightCompletions.getSharedCount(),
+                "inFlight", inFlightCompletions.inFlightCount()));
+        metrics.put("rateLimiter", rateLimiter.getMetrics());
+        metrics.put("circuitBreaker", circuitBreaker.getMetrics());
+        metrics.put("usage", usageMetrics.getMetrics());
+        metrics.put("routing", modelRouter.getMetrics());
+        return metrics;
     }
 
     /**
-     * 기본 모델 설정
+     * 기본 모델 설정 (작업별 모델은 OpenAIModelRouter에서 결정, 여기서는 진단/연결 테스트용)
      */
     public String getDefaultModel() {
         // gpt-4o 모델 사용 (높은 품질의 추천을 위해)
@@ -0,0 +1,194 @@
+package com.example.smart_healthcare.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 작업 유형별 모델 라우팅
+ * - 작업마다 model / max_tokens / temperature를 설정(openai.routing.{task}.*)에서 결정
+ * - 서킷이 CLOSED가 아니거나 기본 모델의 최근 p99 지연이 SLO를 넘으면 fallback-model로 전환
+ * - 지연 표본은 latency-window-seconds가 지나면 버려지므로, 전환 후 일정 시간이 지나면 기본 모델을 다시 시도
+ * - 짧은 JSON을 돌려주는 체형 분석은 기본부터 작은 모델/작은 max_tokens 사용
+ */
+@Slf4j
+@Component
+public class OpenAIModelRouter {
+
+    public enum TaskType {
+        BODY_ANALYSIS("body-analysis", "gpt-4o-mini", 2500, 0.3, "", 30),
+        WORKOUT_PLAN("workout", "gpt-4o", 8192, 0.5, "gpt-4o-mini", 90),
+        DIET_PLAN("diet", "gpt-4o", 8192, 0.5, "gpt-4o-mini", 90);
+
+        private final String key;
+        private final String defaultModel;
+        private final int defaultMaxTokens;
+        private final double defaultTemperature;
+        private final String defaultFallbackModel;
+        private final long defaultSloSeconds;
+
+        TaskType(String key, String defaultModel, int defaultMaxTokens, double defaultTemperature,
+                 String defaultFallbackModel, long defaultSloSeconds) {
+            this.key = key;
+            this.defaultModel = defaultModel;
+            this.defaultMaxTokens = defaultMaxTokens;
+            this.defaultTemperature = defaultTemperature;
+            this.defaultFallbackModel = defaultFallbackModel;
+            this.defaultSloSeconds = defaultSloSeconds;
+        }
+    }
+
+    /**
+     * 요청에 적용할 모델 설정
+     * @param fallback 대체 모델로 전환되었는지 여부
+     */
+    public record ModelRoute(String model, int maxTokens, double temperature, boolean fallback) {}
+
+    private record TaskConfig(String model, int maxTokens, double temperature, String fallbackModel,
+                              int fallbackMaxTokens, long sloMillis) {}
+
+    private static final int LATENCY_WINDOW = 50;
+    private static final int MIN_LATENCY_SAMPLES = 10;
+
+    private final OpenAICircuitBreaker circuitBreaker;
+    private final long latencyWindowMillis;
+    private final Map<TaskType, TaskConfig> configs = new EnumMap<>(TaskType.class);
+    private final Map<TaskType, Boolean> degraded = new ConcurrentHashMap<>();
+    private final Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+
+    public OpenAIModelRouter(Environment environment, OpenAICircuitBreaker circuitBreaker) {
+        this.circuitBreaker = circuitBreaker;
+        this.latencyWindowMillis = environment.getProperty("openai.routing.latency-window-seconds", Long.class, 300L) * 1000L;
+        for (TaskType task : TaskType.values()) {
+            String prefix = "openai.routing." + task.key + ".";
+            int maxTokens = environment.getProperty(prefix + "max-tokens", Integer.class, task.defaultMaxTokens);
+            TaskConfig config = new TaskConfig(
+                    environment.getProperty(prefix + "model", task.defaultModel),
+                    maxTokens,
+                    environment.getProperty(prefix + "temperature", Double.class, task.defaultTemperature),
+                    environment.getProperty(prefix + "fallback-model", task.defaultFallbackModel),
+                    environment.getProperty(prefix + "fallback-max-tokens", Integer.class, maxTokens),
+                    environment.getProperty(prefix + "slo-seconds", Long.class, task.defaultSloSeconds) * 1000L);
+            configs.put(task, config);
+            log.info("🧭 OpenAI 라우팅: {} → model={}, max_tokens={}, temperature={}, fallback={}",
+                    task.key, config.model(), config.maxTokens(), config.temperature(),
+                    config.fallbackModel().isBlank() ? "없음" : config.fallbackModel());
+        }
+    }
+
+    /**
+     * 작업 유형에 맞는 모델 선택
+     */
+    public ModelRoute route(TaskType task) {
+        TaskConfig config = configs.get(task);
+        boolean useFallback = !config.fallbackModel().isBlank() && shouldDegrade(config);
+
+        Boolean previous = degraded.put(task, useFallback);
+        if (previous != null && previous != useFallback) {
+            if (useFallback) {
+                log.warn("⚠️ {} 작업을 대체 모델로 전환: {} → {} (circuit={}, p99={}ms)", task.key, config.model(),
+                        config.fallbackModel(), circuitBreaker.getState(), p99Of(config.model()));
+            } else {
+                log.info("✅ {} 작업을 기본 모델로 복귀: {}", task.key, config.model());
+            }
+        }
+
+        return useFallback
+                ? new ModelRoute(config.fallbackModel(), config.fallbackMaxTokens(), config.temperature(), true)
+                : new ModelRoute(config.model(), config.maxTokens(), config.temperature(), false);
+    }
+
+    /**
+     * 요청 본문에 model / max_tokens / temperature 설정
+     */
+    public ModelRoute apply(Map<String, Object> request, TaskType task) {
+        ModelRoute route = route(task);
+        request.put("model", route.model());
+        request.put("max_tokens", route.maxTokens());
+        request.put("temperature", route.temperature());
+        return route;
+    }
+
+    /**
+     * 성공한 호출의 모델별 지연 기록 (OpenAIClient에서 호출)
+     */
+    public void recordLatency(String model, long latencyMillis) {
+        if (model != null) {
+            latencies.computeIfAbsent(model, key -> new LatencyWindow()).add(latencyMillis);
+        }
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> tasks = new LinkedHashMap<>();
+        configs.forEach((task, config) -> {
+            Map<String, Object> taskMetrics = new LinkedHashMap<>();
+            taskMetrics.put("model", config.model());
+            taskMetrics.put("fallbackModel", config.fallbackModel());
+            taskMetrics.put("degraded", degraded.getOrDefault(task, false));
+            taskMetrics.put("sloMillis", config.sloMillis());
+            tasks.put(task.key, taskMetrics);
+        });
+        Map<String, Object> models = new LinkedHashMap<>();
+        latencies.forEach((model, window) -> models.put(model, window.p99(latencyWindowMillis)));
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("tasks", tasks);
+        metrics.put("p99LatencyMillisByModel", models);
+        return metrics;
+    }
+
+    private boolean shouldDegrade(TaskConfig config) {
+        if (circuitBreaker.getState() != OpenAICircuitBreaker.State.CLOSED) {
+            return true;
+        }
+        Long p99 = p99Of(config.model());
+        return p99 != null && p99 > config.sloMillis();
+    }
+
+    private Long p99Of(String model) {
+        LatencyWindow window = latencies.get(model);
+        return window != null ? window.p99(latencyWindowMillis) : null;
+    }
+
+    /**
+     * 모델별 최근 성공 호출 지연 (고정 크기 순환 버퍼, 기록 시각 포함)
+     */
+    private static final class LatencyWindow {
+        private final long[] samples = new long[LATENCY_WINDOW];
+        private final long[] recordedAt = new long[LATENCY_WINDOW];
+        private int index;
+        private int count;
+
+        synchronized void add(long latencyMillis) {
+            samples[index] = latencyMillis;
+            recordedAt[index] = System.currentTimeMillis();
+            index = (index + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        /**
+         * maxAgeMillis 이내 표본의 p99 (표본이 부족하면 null)
+         */
+        synchronized Long p99(long maxAgeMillis) {
+            long cutoff = System.currentTimeMillis() - maxAgeMillis;
+            long[] recent = new long[count];
+            int size = 0;
+            for (int i = 0; i < count; i++) {
+                if (recordedAt[i] >= cutoff) {
+                    recent[size++] = samples[i];
+                }
+            }
+            if (size < MIN_LATENCY_SAMPLES) {
+                return null;
+            }
+            Arrays.sort(recent, 0, size);
+            return recent[(int) Math.ceil(0.99 * size) - 1];
+        }
+    }
+}
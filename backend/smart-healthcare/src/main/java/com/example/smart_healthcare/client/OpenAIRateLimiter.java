@@ -0,0 +1,308 @@
+package com.example.smart_healthcare.client;
+
+import com.example.smart_healthcare.exception.OpenAIException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * OpenAI 호출 제한기 (프로세스 내)
+ * - 동시 호출 수(max in-flight) 제한
+ * - 분당 요청 수 / 분당 추정 토큰 수 토큰 버킷
+ * - 한도를 넘으면 FIFO 대기열에서 대기하고, 예상 대기 시간이 max-wait를 넘으면 즉시 실패
+ * - 대기열 깊이, 대기 시간, 거절/타임아웃 건수 지표 제공
+ */
+@Slf4j
+@Component
+public class OpenAIRateLimiter {
+
+    private final int maxInFlight;
+    private final double requestsPerMinute;
+    private final double tokensPerMinute;
+    private final long maxWaitMillis;
+    private final int maxQueueSize;
+    private final Scheduler timer;
+    private final LongSupplier nanoClock;
+
+    // 상태 (this 모니터로 보호)
+    private final Deque<Waiter> queue = new ArrayDeque<>();
+    private long queuedTokens;
+    private int inFlight;
+    private double availableRequests;
+    private double availableTokens;
+    private long lastRefillNanos;
+    private boolean drainScheduled;
+
+    // 지표
+    private final AtomicLong acquiredCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong timedOutCount = new AtomicLong();
+    private final AtomicLong totalWaitMillis = new AtomicLong();
+    private final AtomicLong maxObservedWaitMillis = new AtomicLong();
+
+    @Autowired
+    public OpenAIRateLimiter(@Value("${openai.limiter.max-in-flight:8}") int maxInFlight,
+                             @Value("${openai.limiter.requests-per-minute:500}") double requestsPerMinute,
+                             @Value("${openai.limiter.tokens-per-minute:300000}") double tokensPerMinute,
+                             @Value("${openai.limiter.max-wait-seconds:30}") long maxWaitSeconds,
+                             @Value("${openai.limiter.max-queue-size:200}") int maxQueueSize) {
+        this(maxInFlight, requestsPerMinute, tokensPerMinute, maxWaitSeconds, maxQueueSize,
+                Schedulers.parallel(), System::nanoTime);
+    }
+
+    /**
+     * 타이머/시각 지정 (테스트에서 버킷 보충과 대기 시간 초과를 직접 진행)
+     * - timer: 대기 시간 초과, 지연 drain 예약용
+     * - nanoClock: 버킷 보충, 대기 시간 계산용 (ns)
+     */
+    OpenAIRateLimiter(int maxInFlight, double requestsPerMinute, double tokensPerMinute, long maxWaitSeconds,
+                      int maxQueueSize, Scheduler timer, LongSupplier nanoClock) {
+        this.maxInFlight = maxInFlight;
+        this.requestsPerMinute = requestsPerMinute;
+        this.tokensPerMinute = tokensPerMinute;
+        this.maxWaitMillis = maxWaitSeconds * 1000L;
+        this.maxQueueSize = maxQueueSize;
+        this.timer = timer;
+        this.nanoClock = nanoClock;
+        this.availableRequests = requestsPerMinute;
+        this.availableTokens = tokensPerMinute;
+        this.lastRefillNanos = nanoClock.getAsLong();
+        log.info("🚦 OpenAI 호출 제한 설정: maxInFlight={}, rpm={}, tpm={}, maxWait={}초, maxQueue={}",
+                maxInFlight, requestsPerMinute, tokensPerMinute, maxWaitSeconds, maxQueueSize);
+    }
+
+    /**
+     * 요청 본문으로 토큰 수 추정
+     * - 프롬프트: 한글/영문 혼합 기준 약 3자당 1토큰으로 근사
+     * - 출력: max_tokens 전체를 예약 (OpenAI의 TPM 계산 방식과 동일)
+     */
+    public int estimateTokens(Object requestBody) {
+        if (!(requestBody instanceof Map<?, ?> request)) {
+            return 1;
+        }
+        long promptChars = 0;
+        if (request.get("messages") instanceof List<?> messages) {
+            for (Object message : messages) {
+                if (message instanceof Map<?, ?> map && map.get("content") instanceof String content) {
+                    promptChars += content.length();
+                }
+            }
+        }
+        int maxTokens = request.get("max_tokens") instanceof Number number ? number.intValue() : 0;
+        return (int) Math.max(1, promptChars / 3 + maxTokens);
+    }
+
+    /**
+     * 호출 허가 획득
+     * - 허가를 받으면 호출 종료 후 반드시 {@link Permit#release()} 호출
+     * - 대기열 초과 또는 예상 대기 시간 초과 시 즉시 OpenAIException(RATE_LIMITED)
+     */
+    public Mono<Permit> acquire(int estimatedTokens) {
+        int cost = (int) Math.min(estimatedTokens, tokensPerMinute);
+        return Mono.<Permit>create(sink -> {
+            Waiter waiter = new Waiter(sink, cost, nanoClock.getAsLong());
+            waiter.timeout = timer.schedule(() -> expire(waiter), maxWaitMillis, TimeUnit.MILLISECONDS);
+
+            String rejectReason;
+            synchronized (this) {
+                rejectReason = checkFastFail(cost);
+                if (rejectReason == null) {
+                    queue.addLast(waiter);
+                    queuedTokens += cost;
+                }
+            }
+            if (rejectReason != null) {
+                waiter.timeout.dispose();
+                rejectedCount.incrementAndGet();
+                log.warn("🚦 OpenAI 호출 거절: {}", rejectReason);
+                sink.error(new OpenAIException(rejectReason, "RATE_LIMITED", 429));
+                return;
+            }
+
+            sink.onCancel(() -> cancel(waiter));
+            drain();
+        }).doOnDiscard(Permit.class, Permit::release);
+    }
+
+    /**
+     * 현재 지표
+     */
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        synchronized (this) {
+            refill();
+            metrics.put("queueDepth", queue.size());
+            metrics.put("inFlight", inFlight);
+            metrics.put("availableRequests", (long) availableRequests);
+            metrics.put("availableTokens", (long) availableTokens);
+        }
+        long acquired = acquiredCount.get();
+        metrics.put("acquired", acquired);
+        metrics.put("rejected", rejectedCount.get());
+        metrics.put("timedOut", timedOutCount.get());
+        metrics.put("avgWaitMillis", acquired > 0 ? totalWaitMillis.get() / acquired : 0);
+        metrics.put("maxWaitMillis", maxObservedWaitMillis.get());
+        return metrics;
+    }
+
+    /**
+     * 즉시 실패 조건 확인 (this 모니터 안에서 호출)
+     */
+    private String checkFastFail(int cost) {
+        if (queue.size() >= maxQueueSize) {
+            return "OpenAI 호출 대기열이 가득 찼습니다. (대기 " + queue.size() + "건)";
+        }
+        refill();
+        double tokenDeficit = queuedTokens + cost - availableTokens;
+        double requestDeficit = queue.size() + 1 - availableRequests;
+        long tokenWaitMillis = tokenDeficit > 0 ? (long) (tokenDeficit * 60_000 / tokensPerMinute) : 0;
+        long requestWaitMillis = requestDeficit > 0 ? (long) (requestDeficit * 60_000 / requestsPerMinute) : 0;
+        long expectedWaitMillis = Math.max(tokenWaitMillis, requestWaitMillis);
+        if (expectedWaitMillis > maxWaitMillis) {
+            return String.format("OpenAI 호출 한도 초과: 예상 대기 %d초가 제한 %d초를 넘습니다.",
+                    expectedWaitMillis / 1000, maxWaitMillis / 1000);
+        }
+        return null;
+    }
+
+    /**
+     * 대기열 앞에서부터 허가 가능한 요청에 허가 발급
+     */
+    private void drain() {
+        List<Waiter> granted = new ArrayList<>();
+        synchronized (this) {
+            refill();
+            while (!queue.isEmpty() && inFlight < maxInFlight) {
+                Waiter head = queue.peekFirst();
+                if (availableRequests < 1 || availableTokens < head.cost) {
+                    scheduleDrain(millisUntilAvailable(head.cost));
+                    break;
+                }
+                queue.pollFirst();
+                queuedTokens -= head.cost;
+                if (!head.done.compareAndSet(false, true)) {
+                    continue;
+                }
+                inFlight++;
+                availableRequests -= 1;
+                availableTokens -= head.cost;
+                granted.add(head);
+            }
+        }
+
+        for (Waiter waiter : granted) {
+            waiter.timeout.dispose();
+            long waitMillis = TimeUnit.NANOSECONDS.toMillis(nanoClock.getAsLong() - waiter.enqueuedAt);
+            acquiredCount.incrementAndGet();
+            totalWaitMillis.addAndGet(waitMillis);
+            maxObservedWaitMillis.accumulateAndGet(waitMillis, Math::max);
+            if (waitMillis > 1000) {
+                log.info("🚦 OpenAI 호출 허가 (대기 {}ms, 예상 토큰 {})", waitMillis, waiter.cost);
+            }
+            waiter.sink.success(new Permit());
+        }
+    }
+
+    private void expire(Waiter waiter) {
+        if (waiter.done.compareAndSet(false, true)) {
+            remove(waiter);
+            timedOutCount.incrementAndGet();
+            log.warn("⏰ OpenAI 호출 대기 시간 초과 ({}초)", maxWaitMillis / 1000);
+            waiter.sink.error(new OpenAIException("OpenAI 호출 대기 시간이 초과되었습니다.", "RATE_LIMITED", 429));
+        }
+    }
+
+    private void cancel(Waiter waiter) {
+        if (waiter.done.compareAndSet(false, true)) {
+            waiter.timeout.dispose();
+            remove(waiter);
+        }
+    }
+
+    private synchronized void remove(Waiter waiter) {
+        if (queue.remove(waiter)) {
+            queuedTokens -= waiter.cost;
+        }
+    }
+
+    private void release() {
+        synchronized (this) {
+            inFlight--;
+        }
+        drain();
+    }
+
+    /**
+     * 경과 시간만큼 버킷 보충 (this 모니터 안에서 호출)
+     */
+    private void refill() {
+        long now = nanoClock.getAsLong();
+        double elapsedMinutes = (now - lastRefillNanos) / 60_000_000_000.0;
+        lastRefillNanos = now;
+        availableRequests = Math.min(requestsPerMinute, availableRequests + elapsedMinutes * requestsPerMinute);
+        availableTokens = Math.min(tokensPerMinute, availableTokens + elapsedMinutes * tokensPerMinute);
+    }
+
+    private long millisUntilAvailable(int cost) {
+        double requestWait = availableRequests < 1 ? (1 - availableRequests) * 60_000 / requestsPerMinute : 0;
+        double tokenWait = availableTokens < cost ? (cost - availableTokens) * 60_000 / tokensPerMinute : 0;
+        return Math.max(1, (long) Math.ceil(Math.max(requestWait, tokenWait)));
+    }
+
+    private void scheduleDrain(long delayMillis) {
+        if (drainScheduled) {
+            return;
+        }
+        drainScheduled = true;
+        timer.schedule(() -> {
+            synchronized (this) {
+                drainScheduled = false;
+            }
+            drain();
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 호출 허가 - 호출이 끝나면 release() (중복 호출 안전)
+     */
+    public final class Permit {
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                OpenAIRateLimiter.this.release();
+            }
+        }
+    }
+
+    private static final class Waiter {
+        private final MonoSink<Permit> sink;
+        private final int cost;
+        private final long enqueuedAt;
+        private final AtomicBoolean done = new AtomicBoolean();
+        private volatile Disposable timeout;
+
+        private Waiter(MonoSink<Permit> sink, int cost, long enqueuedAt) {
+            this.sink = sink;
+            this.cost = cost;
+            this.enqueuedAt = enqueuedAt;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.smart_healthcare.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * OpenAI Chat Completions 응답 캐시 (내용 주소 기반)
+ * - 키: (model, temperature, system 프롬프트, user 프롬프트)의 SHA-256 해시
+ * - 동일한 인바디/설문 데이터로 재요청 시 GPT 호출 없이 즉시 응답
+ * - TTL 만료 + 최대 엔트리 수 초과 시 LRU 방식으로 제거
+ * - 운동/식단/체형 분석 서비스가 OpenAIClient를 통해 공유
+ * - finish_reason=stop인 응답만 저장하고, 호출 측에서 파싱에 실패한 응답은 evict로 제거
+ */
+@Slf4j
+@Component
+public class OpenAIResponseCache {
+
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final int maxEntries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    // access-order LinkedHashMap: 가장 오래 사용되지 않은 엔트리부터 제거
+    private final LinkedHashMap<String, Entry> entries;
+
+    public OpenAIResponseCache(@Value("${openai.cache.enabled:true}") boolean enabled,
+                               @Value("${openai.cache.ttl-minutes:60}") long ttlMinutes,
+                               @Value("${openai.cache.max-entries:500}") int maxEntries) {
+        this.enabled = enabled;
+        this.ttlMillis = ttlMinutes * 60_000L;
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                boolean evict = size() > OpenAIResponseCache.this.maxEntries;
+                if (evict) {
+                    evictions.incrementAndGet();
+                }
+                return evict;
+            }
+        };
+        log.info("🗄️ OpenAI 응답 캐시 설정: enabled={}, ttl={}분, maxEntries={}", enabled, ttlMinutes, maxEntries);
+    }
+
+    /**
+     * 요청 본문으로부터 캐시 키 생성
+     * - 캐시 대상이 아니면 null 반환
+     */
+    public String keyOf(Map<String, Object> request) {
+        if (!enabled || request == null) {
+            return null;
+        }
+        StringBuilder material = new StringBuilder();
+        material.append("model=").append(request.get("model")).append('\n');
+        material.append("temperature=").append(request.get("temperature")).append('\n');
+        appendMessages(material, request.get("messages"));
+        return sha256(material.toString());
+    }
+
+    /**
+     * 캐시 조회 (만료된 엔트리는 제거 후 miss 처리)
+     */
+    public ChatCompletionResponse get(String key) {
+        if (key == null) {
+            return null;
+        }
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && !entry.isExpired(System.currentTimeMillis())) {
+                long hitCount = hits.incrementAndGet();
+                log.info("🎯 OpenAI 응답 캐시 히트: key={}..., 누적 hit={}, miss={}", key.substring(0, 12), hitCount, misses.get());
+                return entry.response();
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+
+    /**
+     * 정상 완료된 응답만 저장
+     * - choices가 비어있거나 finish_reason이 stop이 아닌 응답(max_tokens 잘림 등)은 캐시하지 않음
+     */
+    public void put(String key, ChatCompletionResponse response) {
+        if (key == null || response == null || !response.isCompleted()) {
+            return;
+        }
+        synchronized (entries) {
+            entries.put(key, new Entry(response, System.currentTimeMillis() + ttlMillis));
+        }
+    }
+
+    /**
+     * 캐시된 응답 제거 (호출 측에서 content 파싱에 실패한 경우 같은 응답이 재사용되지 않도록)
+     */
+    public void evict(String key) {
+        if (key == null) {
+            return;
+        }
+        synchronized (entries) {
+            if (entries.remove(key) != null) {
+                evictions.incrementAndGet();
+                log.info("🗑️ OpenAI 응답 캐시 제거: key={}...", key.substring(0, 12));
+            }
+        }
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    private void appendMessages(StringBuilder material, Object messages) {
+        if (!(messages instanceof List<?> list)) {
+            return;
+        }
+        for (Object message : list) {
+            if (message instanceof Map<?, ?> map) {
+                material.append(map.get("role")).append(':').append(map.get("content")).append('\n');
+            }
+        }
+    }
+
+    private String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private record Entry(ChatCompletionResponse response, long expiresAt) {
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.smart_healthcare.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * OpenAI 토큰 사용량 지표
+ * - usage.prompt_tokens_details.cached_tokens 로 프롬프트 캐시(공통 prefix 재사용) 적중률을 추적
+ * - 응답 캐시에서 반환된 응답은 실제 호출이 아니므로 집계하지 않음
+ */
+@Slf4j
+@Component
+public class OpenAIUsageMetrics {
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder promptTokens = new LongAdder();
+    private final LongAdder cachedTokens = new LongAdder();
+    private final LongAdder completionTokens = new LongAdder();
+    private final LongAdder cacheHitCalls = new LongAdder();
+
+    public void record(ChatCompletionResponse.Usage usage) {
+        if (usage == null) {
+            return;
+        }
+        int cached = usage.cachedTokens();
+        calls.increment();
+        promptTokens.add(usage.promptTokens());
+        cachedTokens.add(cached);
+        completionTokens.add(usage.completionTokens());
+        if (cached > 0) {
+            cacheHitCalls.increment();
+        }
+        log.info("📊 프롬프트 캐시: cached_tokens={}/{}", cached, usage.promptTokens());
+    }
+
+    public Map<String, Object> getMetrics() {
+        long prompt = promptTokens.sum();
+        long cached = cachedTokens.sum();
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("calls", calls.sum());
+        metrics.put("promptTokens", prompt);
+        metrics.put("cachedPromptTokens", cached);
+        metrics.put("completionTokens", completionTokens.sum());
+        metrics.put("cacheHitCalls", cacheHitCalls.sum());
+        metrics.put("cachedTokenRatio", prompt > 0 ? (double) cached / prompt : 0.0);
+        return metrics;
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.smart_healthcare.common.dto;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서 페이지 응답 (전체 건수를 세지 않음)
+ * - nextCursor를 다음 요청의 cursor로 넘기면 이어서 조회, hasNext가 false이면 마지막 페이지
+ */
+public record CursorPageDto<T>(List<T> content, String nextCursor, boolean hasNext, int size) {
+
+    /**
+     * size + 1건 조회 결과로 다음 페이지 여부를 판단하고 마지막 행의 커서를 만든다
+     */
+    public static <E, T> CursorPageDto<T> of(List<E> rows, int size, Function<E, T> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorPageDto<>(page.stream().map(mapper).toList(), nextCursor, hasNext, size);
+    }
+}
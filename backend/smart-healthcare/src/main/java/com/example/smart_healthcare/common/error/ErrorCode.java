@@ -15,6 +15,7 @@ public enum ErrorCode {
     NOT_FOUND(HttpStatus.NOT_FOUND, "404", "리소스를 찾을 수 없습니다"),
     CONFLICT(HttpStatus.CONFLICT, "409", "충돌이 발생했습니다"),
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "500", "서버 오류가 발생했습니다"),
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "503", "요청이 많아 잠시 처리할 수 없습니다"),
     
     // 클라이언트가 특별한 처리가 필요한 핵심 도메인 상황
     EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT, "409", "이미 사용 중인 이메일입니다"),
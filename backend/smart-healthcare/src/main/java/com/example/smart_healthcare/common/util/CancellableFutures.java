@@ -0,0 +1,68 @@
+package com.example.smart_healthcare.common.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
+
+/**
+ * CompletableFuture 취소 전파
+ * - CompletableFuture 체인은 마지막 단계를 취소해도 앞 단계(진행 중인 GPT 스트림 등)가 취소되지 않으므로 명시적으로 연결
+ * - Mono.toFuture()로 만든 future는 취소 시 구독을 해제하므로, 최종 future 취소로 외부 호출까지 중단 가능
+ */
+public final class CancellableFutures {
+
+    private CancellableFutures() {
+    }
+
+    /**
+     * downstream이 취소되면 upstream도 취소 (downstream 반환)
+     */
+    public static <T> CompletableFuture<T> propagateCancel(CompletableFuture<T> downstream, CompletableFuture<?> upstream) {
+        downstream.whenComplete((value, e) -> {
+            if (downstream.isCancelled()) {
+                upstream.cancel(true);
+            }
+        });
+        return downstream;
+    }
+
+    /**
+     * handle + thenCompose와 같으나, 결과 future가 취소되면 next가 만든 future도 취소
+     * - 취소가 next 실행보다 먼저 일어나도 next가 만든 future를 바로 취소
+     */
+    public static <T, U> CompletableFuture<U> handleCompose(CompletableFuture<T> source,
+                                                            BiFunction<? super T, Throwable, CompletableFuture<U>> next) {
+        CompletableFuture<U> result = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<U>> inner = new AtomicReference<>();
+        source.whenComplete((value, e) -> {
+            if (result.isDone()) {
+                return;
+            }
+            CompletableFuture<U> composed;
+            try {
+                composed = next.apply(value, e);
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+                return;
+            }
+            inner.set(composed);
+            composed.whenComplete((nextValue, nextError) -> {
+                if (nextError != null) {
+                    result.completeExceptionally(nextError);
+                } else {
+                    result.complete(nextValue);
+                }
+            });
+            if (result.isCancelled()) {
+                composed.cancel(true);
+            }
+        });
+        result.whenComplete((value, e) -> {
+            CompletableFuture<U> composed = inner.get();
+            if (result.isCancelled() && composed != null) {
+                composed.cancel(true);
+            }
+        });
+        return result;
+    }
+}
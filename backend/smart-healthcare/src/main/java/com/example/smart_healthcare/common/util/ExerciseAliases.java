@@ -0,0 +1,126 @@
+package com.example.smart_healthcare.common.util;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 운동명 별칭(한글/영어) 매핑
+ * - 운동 단위: "덤벨 로우", "dumbbell row" → 정규화 키 "dumbbell row" (운동 영상 인덱스 키, YouTube 검색어)
+ * - 단어 단위: "로우" → "row" (YouTube 검색 결과 제목의 관련성 검증)
+ * - 위에서부터 처음 일치하는 항목을 사용하므로 더 구체적인 항목을 먼저 둔다
+ */
+public final class ExerciseAliases {
+
+    /**
+     * 운동 별칭: patterns 중 하나의 모든 단어가 운동명에 포함되면 key로 정규화
+     */
+    private record Exercise(String key, List<List<String>> patterns) {}
+
+    /**
+     * 단어 별칭: words 중 하나가 단어에 포함되면 english 중 하나가 포함된 텍스트와 유사하다고 판단
+     */
+    private record Word(List<String> words, List<String> english) {}
+
+    private static final List<Exercise> EXERCISES = List.of(
+            new Exercise("push up", List.of(List.of("푸시업"), List.of("푸쉬업"), List.of("push up"), List.of("pushup"), List.of("push-up"))),
+            new Exercise("pull up", List.of(List.of("풀업"), List.of("턱걸이"), List.of("pull up"), List.of("pullup"), List.of("pull-up"))),
+            new Exercise("lat pulldown", List.of(List.of("랫풀다운"), List.of("랫풀"), List.of("lat pulldown"), List.of("lat pull down"))),
+            new Exercise("squat", List.of(List.of("스쿼트"), List.of("squat"))),
+            new Exercise("lunge", List.of(List.of("런지"), List.of("lunge"))),
+            new Exercise("plank", List.of(List.of("플랭크"), List.of("plank"))),
+            new Exercise("crunch", List.of(List.of("크런치"), List.of("crunch"))),
+            new Exercise("deadlift", List.of(List.of("데드리프트"), List.of("deadlift"))),
+            new Exercise("dumbbell row", List.of(List.of("덤벨", "로우"), List.of("dumbbell row"))),
+            new Exercise("barbell row", List.of(List.of("바벨", "로우"), List.of("barbell row"))),
+            new Exercise("bench press", List.of(List.of("벤치", "프레스"), List.of("bench press"))),
+            new Exercise("shoulder press", List.of(List.of("숄더", "프레스"), List.of("어깨", "프레스"), List.of("shoulder press"))),
+            new Exercise("dumbbell press", List.of(List.of("덤벨", "프레스"), List.of("dumbbell press"))),
+            new Exercise("lateral raise", List.of(List.of("레터럴", "레이즈"), List.of("lateral raise"))),
+            new Exercise("bicep curl", List.of(List.of("이두", "컬"), List.of("바이셉", "컬"), List.of("bicep curl"), List.of("biceps curl"))),
+            new Exercise("hammer curl", List.of(List.of("해머", "컬"), List.of("hammer curl"))),
+            new Exercise("mountain climber", List.of(List.of("마운틴", "클라이머"), List.of("mountain climber"))),
+            new Exercise("burpee", List.of(List.of("버피"), List.of("burpee"))),
+            new Exercise("leg raise", List.of(List.of("레그", "레이즈"), List.of("leg raise"))),
+            new Exercise("running", List.of(List.of("러닝"), List.of("달리기"), List.of("running"))),
+            new Exercise("walking", List.of(List.of("걷기"), List.of("walking")))
+    );
+
+    private static final List<Word> WORDS = List.of(
+            new Word(List.of("로우", "row"), List.of("row")),
+            new Word(List.of("스쿼트", "squat"), List.of("squat")),
+            new Word(List.of("프레스", "press"), List.of("press")),
+            new Word(List.of("풀업", "pull"), List.of("pull")),
+            new Word(List.of("랫풀다운", "랫풀", "pulldown"), List.of("pulldown", "pull down", "lat pulldown")),
+            new Word(List.of("크런치", "crunch"), List.of("crunch")),
+            new Word(List.of("플랭크", "plank"), List.of("plank")),
+            new Word(List.of("런지", "lunge"), List.of("lunge")),
+            new Word(List.of("데드리프트", "deadlift"), List.of("deadlift")),
+            new Word(List.of("푸시업", "푸쉬업", "push"), List.of("push")),
+            new Word(List.of("덤벨", "dumbbell"), List.of("dumbbell", "dumb bell")),
+            new Word(List.of("바벨", "barbell"), List.of("barbell", "bar bell")),
+            new Word(List.of("숄더", "shoulder"), List.of("shoulder")),
+            new Word(List.of("레터럴", "lateral"), List.of("lateral")),
+            new Word(List.of("레이즈", "레즈", "raise"), List.of("raise")),
+            new Word(List.of("컬", "curl"), List.of("curl")),
+            new Word(List.of("익스텐션", "extension"), List.of("extension")),
+            new Word(List.of("마운틴", "mountain"), List.of("mountain")),
+            new Word(List.of("클라이머", "climber"), List.of("climber")),
+            new Word(List.of("버피", "burpee"), List.of("burpee")),
+            new Word(List.of("점프", "jump"), List.of("jump")),
+            new Word(List.of("러닝", "running"), List.of("running", "run")),
+            new Word(List.of("걷기", "walking"), List.of("walking", "walk"))
+    );
+
+    private ExerciseAliases() {
+    }
+
+    /**
+     * 별칭 테이블의 영어 운동명 (매핑되지 않으면 null)
+     */
+    public static String englishNameOf(String exerciseName) {
+        if (exerciseName == null || exerciseName.isBlank()) {
+            return null;
+        }
+        String lower = exerciseName.toLowerCase(Locale.ROOT).trim();
+        for (Exercise exercise : EXERCISES) {
+            for (List<String> pattern : exercise.patterns()) {
+                if (pattern.stream().allMatch(lower::contains)) {
+                    return exercise.key();
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 정규화 키: 별칭이 있으면 영어 운동명, 없으면 소문자 + 괄호/기호 제거 + 공백 정리
+     * (예: "덤벨 로우(Dumbbell Row)" → "dumbbell row", "케틀벨  스윙!" → "케틀벨 스윙")
+     */
+    public static String normalize(String exerciseName) {
+        String english = englishNameOf(exerciseName);
+        if (english != null) {
+            return english;
+        }
+        if (exerciseName == null) {
+            return null;
+        }
+        String normalized = exerciseName.toLowerCase(Locale.ROOT)
+                .replaceAll("\\(.*?\\)", " ")
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim()
+                .replaceAll("\\s+", " ");
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    /**
+     * 단어의 한글/영어 별칭이 텍스트에 포함되어 있는지 확인
+     */
+    public static boolean containsAlias(String text, String word) {
+        for (Word alias : WORDS) {
+            if (alias.words().stream().anyMatch(word::contains)) {
+                return alias.english().stream().anyMatch(text::contains);
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.smart_healthcare.common.util;
+
+import com.example.smart_healthcare.common.error.BusinessException;
+import com.example.smart_healthcare.common.error.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 커서 페이지네이션 위치: 마지막으로 반환한 행의 (정렬 키 값, id)
+ * - 클라이언트에는 "{sort}|{value}|{id}"를 base64url로 인코딩한 불투명 문자열로 전달
+ * - 다른 정렬의 커서를 넘기면 잘못된 요청으로 처리
+ */
+public record PageCursor(String sort, String value, long id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * 첫 페이지 조회용 경계값 (내림차순은 MAX_DATE, 오름차순은 MIN_DATE부터)
+     */
+    public static final LocalDateTime MAX_DATE = LocalDateTime.of(9999, 12, 31, 0, 0);
+    public static final LocalDateTime MIN_DATE = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    public String encode() {
+        String raw = sort + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PageCursor decode(String cursor, String expectedSort) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3 || !parts[0].equals(expectedSort)) {
+                throw new IllegalArgumentException("정렬 또는 형식 불일치");
+            }
+            return new PageCursor(parts[0], parts[1], Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "잘못된 커서입니다.", e);
+        }
+    }
+
+    public LocalDateTime dateValue() {
+        try {
+            return LocalDateTime.parse(value);
+        } catch (RuntimeException e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "잘못된 커서입니다.", e);
+        }
+    }
+
+    public int intValue() {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "잘못된 커서입니다.", e);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.smart_healthcare.common.util;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 키의 동시 요청 합치기 (single-flight)
+ * - 진행 중인 키로 들어온 요청은 외부 호출을 새로 하지 않고 먼저 시작된 호출의 결과(또는 예외)를 함께 받음
+ * - 호출이 끝나면 키를 해제하므로 결과를 보관하지 않음 (보관은 캐시의 역할)
+ * - 키가 null이면 합치지 않고 바로 실행
+ */
+public final class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+
+    /**
+     * 동기 실행: 같은 키가 진행 중이면 그 결과를 기다림
+     */
+    public V execute(K key, Supplier<V> loader) {
+        if (key == null) {
+            return loader.get();
+        }
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            shared.increment();
+            return await(existing);
+        }
+
+        executions.increment();
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * 비동기 실행: 같은 키가 진행 중이면 그 future를 공유 (호출 측의 취소가 다른 호출에 전파되지 않도록 복사본 반환)
+     */
+    public CompletableFuture<V> executeAsync(K key, Supplier<CompletableFuture<V>> loader) {
+        if (key == null) {
+            return loader.get();
+        }
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            shared.increment();
+            return existing.copy();
+        }
+
+        executions.increment();
+        try {
+            loader.get().whenComplete((value, e) -> {
+                inFlight.remove(key, call);
+                if (e != null) {
+                    call.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                } else {
+                    call.complete(value);
+                }
+            });
+        } catch (RuntimeException | Error e) {
+            inFlight.remove(key, call);
+            call.completeExceptionally(e);
+        }
+        return call.copy();
+    }
+
+    /**
+     * 실제 실행 횟수 / 합쳐진 요청 수 / 현재 진행 중인 키 수
+     */
+    public long getExecutionCount() {
+        return executions.sum();
+    }
+
+    public long getSharedCount() {
+        return shared.sum();
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.smart_healthcare.config;
+
+import com.example.smart_healthcare.common.error.BusinessException;
+import com.example.smart_healthcare.common.error.ErrorCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 비동기 처리용 스레드 풀 설정
+ * - OpenAI 응답 이후의 후처리(JSON 파싱, YouTube 보강, DB 저장)는 블로킹 작업이므로
+ *   reactor-netty 이벤트 루프나 Tomcat 워커가 아닌 전용 풀에서 실행
+ * - 후처리는 이벤트 루프에서 제출되므로 aiTaskExecutor는 CallerRuns 없이 거절(503)로 과부하를 알림
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Bean(name = "aiTaskExecutor")
+    public ThreadPoolTaskExecutor aiTaskExecutor(
+            @Value("${ai.executor.core-pool-size:8}") int corePoolSize,
+            @Value("${ai.executor.max-pool-size:32}") int maxPoolSize,
+            @Value("${ai.executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor() {
+            @Override
+            public void execute(Runnable task) {
+                try {
+                    super.execute(task);
+                } catch (TaskRejectedException e) {
+                    // 제출한 CompletableFuture/Mono가 503 BusinessException으로 실패하도록 변환
+                    throw new BusinessException(ErrorCode.SERVICE_UNAVAILABLE,
+                            "AI 요청이 많아 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.", e);
+                }
+            }
+        };
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("ai-task-");
+        // 큐가 가득 차면 거절 (호출 스레드가 reactor-netty 이벤트 루프일 수 있어 CallerRuns로 실행하면 안 됨)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 추천 비동기 작업(RecommendationJob) 워커 풀
+     * - 워커 수가 곧 작업 경로의 동시 OpenAI 호출 상한
+     * - 대기열이 가득 차면 거절하고 작업을 FAILED로 기록
+     */
+    @Bean(name = "recommendationJobExecutor")
+    public ThreadPoolTaskExecutor recommendationJobExecutor(
+            @Value("${recommendation.job.workers:4}") int workers,
+            @Value("${recommendation.job.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("recommendation-job-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * YouTube 영상 검색 전용 풀
+     * - 운동 계획 하나의 검색어들을 동시에 조회하고, 풀 크기로 전체 동시 호출 수(쿼터)를 제한
+     * - aiTaskExecutor 작업이 이 풀의 결과를 기다리므로 같은 풀을 쓰지 않음 (풀 고갈로 인한 교착 방지)
+     * - 대기열이 가득 차면 거절하고 해당 검색어는 건너뜀 (CallerRuns로 ai-task 스레드에서 실행하면 대기 상한이 무의미해짐)
+     */
+    @Bean(name = "youtubeLookupExecutor")
+    public ThreadPoolTaskExecutor youtubeLookupExecutor(
+            @Value("${youtube.executor.pool-size:8}") int poolSize,
+            @Value("${youtube.executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("youtube-lookup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이미지 일괄 조회 전용 풀 (식단 계획 전체 이미지를 동시에 조회, 풀 크기로 Unsplash 동시 호출 수 제한)
+     * - 대기열이 가득 차면 거절하고 해당 이름은 결과에서 제외 (CallerRuns로 요청 스레드에서 Unsplash를 호출하지 않도록)
+     */
+    @Bean(name = "imageLookupExecutor")
+    public ThreadPoolTaskExecutor imageLookupExecutor(
+            @Value("${image.executor.pool-size:8}") int poolSize,
+            @Value("${image.executor.queue-capacity:200}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("image-lookup-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
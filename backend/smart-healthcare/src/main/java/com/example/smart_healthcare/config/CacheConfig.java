@@ -0,0 +1,100 @@
+package com.example.smart_healthcare.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로컬 캐시 설정 (Spring Cache + Caffeine)
+ * - 캐시별 최대 크기/TTL은 cache.{key}.max-size / cache.{key}.ttl-seconds 로 조정
+ * - 모든 캐시는 통계를 기록하며 관리자 API(/api/admin/cache/metrics)로 조회
+ * - 목록에 없는 이름의 캐시는 cache.default.* 설정으로 생성
+ */
+@Slf4j
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String YOUTUBE_VIDEOS = "youtubeVideos";
+    public static final String EXERCISE_VIDEOS = "exerciseVideos";
+    public static final String WORKOUT_IMAGES = "workoutImages";
+    public static final String FOOD_IMAGES = "foodImages";
+    public static final String LATEST_WORKOUT_RECOMMENDATION = "latestWorkoutRecommendation";
+    public static final String LATEST_BODY_ANALYSIS = "latestBodyAnalysis";
+    public static final String USER_DETAILS = "userDetails";
+    public static final String USERS = "users";
+    public static final String COMMUNITY_FEED = "communityFeed";
+
+    private record CacheSpec(String cacheName, String key, long defaultMaxSize, long defaultTtlSeconds) {}
+
+    private static final List<CacheSpec> SPECS = List.of(
+            // 외부 API 결과: 같은 검색어는 결과가 거의 바뀌지 않으므로 길게 유지
+            new CacheSpec(YOUTUBE_VIDEOS, "youtube-videos", 5000, 7 * 24 * 3600),
+            new CacheSpec(EXERCISE_VIDEOS, "exercise-videos", 5000, 24 * 3600),
+            new CacheSpec(WORKOUT_IMAGES, "workout-images", 2000, 24 * 3600),
+            new CacheSpec(FOOD_IMAGES, "food-images", 5000, 24 * 3600),
+            // 사용자 데이터: 쓰기 경로에서 무효화하고, 놓친 무효화는 짧은 TTL로 보완
+            new CacheSpec(LATEST_WORKOUT_RECOMMENDATION, "latest-workout-recommendation", 10000, 600),
+            new CacheSpec(LATEST_BODY_ANALYSIS, "latest-body-analysis", 10000, 600),
+            new CacheSpec(USER_DETAILS, "user-details", 10000, 300),
+            new CacheSpec(USERS, "users", 10000, 300),
+            // 커뮤니티 목록 앞 페이지: 게시글/반응 이벤트로 갱신하고, 조회수/댓글 수는 짧은 TTL로 보완
+            new CacheSpec(COMMUNITY_FEED, "community-feed", 200, 30)
+    );
+
+    @Bean
+    public CacheManager cacheManager(Environment environment) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCaffeine(builder(
+                environment.getProperty("cache.default.max-size", Long.class, 1000L),
+                environment.getProperty("cache.default.ttl-seconds", Long.class, 600L)));
+
+        for (CacheSpec spec : SPECS) {
+            long maxSize = environment.getProperty("cache." + spec.key() + ".max-size", Long.class, spec.defaultMaxSize());
+            long ttlSeconds = environment.getProperty("cache." + spec.key() + ".ttl-seconds", Long.class, spec.defaultTtlSeconds());
+            cacheManager.registerCustomCache(spec.cacheName(), builder(maxSize, ttlSeconds).build());
+            log.info("🗃️ 캐시 등록: {} → max-size={}, ttl={}s", spec.cacheName(), maxSize, ttlSeconds);
+        }
+        return cacheManager;
+    }
+
+    /**
+     * 캐시별 적중률/크기/제거 건수
+     */
+    public static Map<String, Object> metricsOf(CacheManager cacheManager) {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        for (String name : cacheManager.getCacheNames()) {
+            if (!(cacheManager.getCache(name) instanceof CaffeineCache cache)) {
+                continue;
+            }
+            CacheStats stats = cache.getNativeCache().stats();
+            Map<String, Object> cacheMetrics = new LinkedHashMap<>();
+            cacheMetrics.put("size", cache.getNativeCache().estimatedSize());
+            cacheMetrics.put("hits", stats.hitCount());
+            cacheMetrics.put("misses", stats.missCount());
+            cacheMetrics.put("hitRate", Math.round(stats.hitRate() * 1000) / 1000.0);
+            cacheMetrics.put("evictions", stats.evictionCount());
+            metrics.put(name, cacheMetrics);
+        }
+        return metrics;
+    }
+
+    private static Caffeine<Object, Object> builder(long maxSize, long ttlSeconds) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats();
+    }
+}
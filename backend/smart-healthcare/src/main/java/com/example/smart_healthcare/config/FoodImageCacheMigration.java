@@ -0,0 +1,81 @@
+package com.example.smart_healthcare.config;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * food_image_cache 스키마 보정 (ddl-auto=update는 기존 인덱스를 지우거나 값을 채우지 않음)
+ * - 이전 버전의 food_name 단일 유니크 인덱스 삭제 (남아 있으면 같은 이름의 운동 이미지가 저장되지 않음)
+ * - image_type이 비어 있는 기존 행을 FOOD로 채움 (조회는 image_type = :type으로 (image_type, food_name) 인덱스 사용)
+ * - Hibernate 스키마 갱신 직후, 요청을 받기 전에 실행되며 이미 반영된 DB에서는 아무것도 하지 않음
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class FoodImageCacheMigration {
+
+    private static final String TABLE = "food_image_cache";
+    private static final String LEGACY_UNIQUE_COLUMN = "food_name";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void migrate() {
+        try {
+            for (String index : findLegacyUniqueIndexes()) {
+                jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP INDEX " + index);
+                log.info("🔧 food_image_cache 이전 유니크 인덱스 삭제: {}", index);
+            }
+        } catch (DataAccessException e) {
+            log.error("❌ food_image_cache 이전 유니크 인덱스 삭제 실패: {}", e.getMessage(), e);
+        }
+        try {
+            int backfilled = jdbcTemplate.update("UPDATE " + TABLE + " SET image_type = 'FOOD' WHERE image_type IS NULL");
+            if (backfilled > 0) {
+                log.info("🔧 food_image_cache image_type 보정: {}건", backfilled);
+            }
+        } catch (DataAccessException e) {
+            log.error("❌ food_image_cache image_type 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * food_name 하나만으로 구성된 유니크 인덱스 이름 (이전 버전의 unique = true)
+     */
+    private List<String> findLegacyUniqueIndexes() {
+        List<String> indexes = jdbcTemplate.execute((ConnectionCallback<List<String>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String table = metaData.storesUpperCaseIdentifiers() ? TABLE.toUpperCase() : TABLE;
+            Map<String, List<String>> columnsByIndex = new LinkedHashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, true, false)) {
+                while (rs.next()) {
+                    String index = rs.getString("INDEX_NAME");
+                    String column = rs.getString("COLUMN_NAME");
+                    if (index != null && column != null) {
+                        columnsByIndex.computeIfAbsent(index, key -> new ArrayList<>()).add(column);
+                    }
+                }
+            }
+            return columnsByIndex.entrySet().stream()
+                    .filter(entry -> entry.getValue().size() == 1
+                            && LEGACY_UNIQUE_COLUMN.equalsIgnoreCase(entry.getValue().get(0)))
+                    .map(Map.Entry::getKey)
+                    .toList();
+        });
+        return indexes != null ? indexes : List.of();
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.smart_healthcare.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(@Scheduled) 활성화
+ * - 추천 템플릿 백그라운드 생성 등
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
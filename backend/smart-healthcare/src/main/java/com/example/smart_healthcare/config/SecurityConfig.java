@@ -1,6 +1,7 @@
 package com.example.smart_healthcare.config;
 
 import com.example.smart_healthcare.service.CustomUserDetailsService;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -35,6 +36,8 @@ public class SecurityConfig {
             .headers(headers -> headers.frameOptions().disable()) // H2 콘솔을 위한 프레임 옵션 비활성화
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
+                // 비동기 응답(CompletableFuture) 재디스패치는 최초 요청에서 이미 인가되었으므로 허용
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                 // H2 콘솔 허용 (개발 환경에서만)
                 .requestMatchers(
                     new AntPathRequestMatcher("/h2-console/**")
@@ -86,7 +89,8 @@ public class SecurityConfig {
                     new AntPathRequestMatcher("/api/ai/**"),
                     new AntPathRequestMatcher("/api/body-analysis/**"),
                     new AntPathRequestMatcher("/api/workout-recommendation/**"),
-                    new AntPathRequestMatcher("/api/diet-recommendation/**")
+                    new AntPathRequestMatcher("/api/diet-recommendation/**"),
+                    new AntPathRequestMatcher("/api/jobs/**")
                 ).authenticated()
                 // 그 외 모든 API는 인증 필요
                 .anyRequest().authenticated()
@@ -3,6 +3,8 @@ package com.example.smart_healthcare.config;
 import com.example.smart_healthcare.interceptor.LoggingInterceptor;
 import com.example.smart_healthcare.interceptor.AdminAuthInterceptor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
@@ -11,6 +13,8 @@ import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.time.Duration;
+
 @Configuration
 @RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
@@ -53,8 +57,18 @@ public class WebConfig implements WebMvcConfigurer {
         return WebClient.builder();
     }
     
+    /**
+     * 외부 API(YouTube, Unsplash) 호출용 RestTemplate
+     * - 응답 없는 호출이 조회 풀 스레드를 무기한 점유하지 않도록 연결/읽기 타임아웃 설정
+     *   (youtube.enrich.timeout-ms, image.bulk.timeout-ms 이하로 유지)
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder builder,
+                                     @Value("${http.client.connect-timeout-ms:2000}") long connectTimeoutMs,
+                                     @Value("${http.client.read-timeout-ms:5000}") long readTimeoutMs) {
+        return builder
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .readTimeout(Duration.ofMillis(readTimeoutMs))
+                .build();
     }
 } 
\ No newline at end of file
@@ -1,10 +1,16 @@
 package com.example.smart_healthcare.controller;
 
+import com.example.smart_healthcare.client.OpenAIClient;
 import com.example.smart_healthcare.common.dto.ApiResponseDto;
+import com.example.smart_healthcare.config.CacheConfig;
+import com.example.smart_healthcare.dto.response.RecommendationBatchResponseDto;
+import com.example.smart_healthcare.entity.RecommendationJob;
 import com.example.smart_healthcare.entity.User;
 import com.example.smart_healthcare.service.AdminService;
+import com.example.smart_healthcare.service.facade.RecommendationBatchFacade;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -13,6 +19,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -29,6 +36,9 @@ import java.util.Map;
 public class AdminController {
 
     private final AdminService adminService;
+    private final OpenAIClient openAIClient;
+    private final RecommendationBatchFacade recommendationBatchFacade;
+    private final CacheManager cacheManager;
 
     /**
      * 관리자 대시보드 통계 조회
@@ -174,6 +184,55 @@ public class AdminController {
         }
     }
 
+    /**
+     * OpenAI 호출 지표 조회 (응답 캐시, 호출 제한 대기열)
+     */
+    @GetMapping("/openai/metrics")
+    public ResponseEntity<ApiResponseDto<Map<String, Object>>> getOpenAIMetrics() {
+        log.info("📊 OpenAI 호출 지표 조회");
+        return ResponseEntity.ok(ApiResponseDto.success("OpenAI 호출 지표 조회 완료", openAIClient.getMetrics()));
+    }
+
+    /**
+     * 로컬 캐시 지표 조회 (캐시별 적중률, 크기, 제거 건수)
+     */
+    @GetMapping("/cache/metrics")
+    public ResponseEntity<ApiResponseDto<Map<String, Object>>> getCacheMetrics() {
+        log.info("📊 캐시 지표 조회");
+        return ResponseEntity.ok(ApiResponseDto.success("캐시 지표 조회 완료", CacheConfig.metricsOf(cacheManager)));
+    }
+
+    // ===== 대량 추천 재생성 API =====
+
+    /**
+     * 운동/식단 추천 대량 재생성 배치 제출 (userIds가 없으면 설문이 있는 전체 사용자)
+     */
+    @PostMapping("/recommendation-batches")
+    public ResponseEntity<ApiResponseDto<List<RecommendationBatchResponseDto>>> submitRecommendationBatch(
+            @RequestParam RecommendationJob.JobType type,
+            @RequestBody(required = false) List<Long> userIds) {
+        log.info("📦 대량 추천 재생성 배치 제출 - 타입: {}, 대상: {}", type, userIds == null || userIds.isEmpty() ? "전체" : userIds.size() + "명");
+        List<RecommendationBatchResponseDto> batches = recommendationBatchFacade.submit(type, userIds);
+        return ResponseEntity.accepted().body(ApiResponseDto.success("대량 추천 재생성 배치가 제출되었습니다.", batches));
+    }
+
+    /**
+     * 최근 대량 추천 배치 목록 조회
+     */
+    @GetMapping("/recommendation-batches")
+    public ResponseEntity<ApiResponseDto<List<RecommendationBatchResponseDto>>> getRecommendationBatches(
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponseDto.success("대량 추천 배치 목록 조회 완료", recommendationBatchFacade.getRecentBatches(size)));
+    }
+
+    /**
+     * 대량 추천 배치 상태 조회
+     */
+    @GetMapping("/recommendation-batches/{batchId}")
+    public ResponseEntity<ApiResponseDto<RecommendationBatchResponseDto>> getRecommendationBatch(@PathVariable Long batchId) {
+        return ResponseEntity.ok(ApiResponseDto.success("대량 추천 배치 조회 완료", recommendationBatchFacade.getBatch(batchId)));
+    }
+
     // ===== 커뮤니티 관리 API =====
 
     /**
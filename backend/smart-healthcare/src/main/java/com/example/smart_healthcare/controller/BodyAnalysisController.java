@@ -1,6 +1,7 @@
 package com.example.smart_healthcare.controller;
 
 import com.example.smart_healthcare.common.dto.ApiResponseDto;
+import com.example.smart_healthcare.common.error.BusinessException;
 import com.example.smart_healthcare.dto.response.BodyAnalysisResponseDto;
 import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
 import com.example.smart_healthcare.service.facade.BodyAnalysisFacade;
@@ -13,6 +14,9 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 /**
  * 체형 분석 컨트롤러
  * 체형 분석 관련 API만 담당
@@ -29,9 +33,10 @@ public class BodyAnalysisController {
     /**
      * 체형 분석 API
      * 인바디 데이터를 기반으로 AI가 체형을 분석하고 건강 조언을 제공
+     * - 비동기 응답: OpenAI 응답을 기다리는 동안 서블릿 스레드를 반환
      */
     @PostMapping
-    public ResponseEntity<ApiResponseDto<BodyAnalysisResponseDto>> analyzeBodyType(
+    public CompletableFuture<ResponseEntity<ApiResponseDto<BodyAnalysisResponseDto>>> analyzeBodyType(
             @Valid @RequestBody InbodyDataRequestDto request) {
         
         log.info("🔍 AI 체형 분석 요청 시작: userId={}, gender={}, age={}", 
@@ -39,24 +44,26 @@ public class BodyAnalysisController {
                 request.getCurrentAge());
         log.info("🔍 요청 데이터: {}", request);
         
-        try {
-            // Facade를 통한 체형 분석 및 저장
-            BodyAnalysisResponseDto result = bodyAnalysisFacade.analyzeAndSave(request);
-            
-            log.info("✅ AI 체형 분석 완료: userId={}, label={}", 
-                    request.userId(), result.label());
-            
-            return ResponseEntity.ok(
-                    ApiResponseDto.success("체형 분석이 완료되었습니다.", result)
-            );
-            
-        } catch (Exception e) {
-            log.error("❌ AI 체형 분석 실패: userId={}, error={}", 
-                    request.userId(), e.getMessage(), e);
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponseDto.error("체형 분석 중 오류가 발생했습니다: " + e.getMessage()));
-        }
+        // Facade를 통한 체형 분석 및 저장
+        return bodyAnalysisFacade.analyzeAndSaveAsync(request)
+                .thenApply(result -> {
+                    log.info("✅ AI 체형 분석 완료: userId={}, label={}", 
+                            request.userId(), result.label());
+                    
+                    return ResponseEntity.ok(
+                            ApiResponseDto.success("체형 분석이 완료되었습니다.", result)
+                    );
+                })
+                .exceptionally(ex -> {
+                    Throwable e = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    // 대기열 초과(503) 등 상태가 지정된 예외는 그 상태로 응답
+                    HttpStatus status = e instanceof BusinessException be ? be.getErrorCode().getStatus() : HttpStatus.INTERNAL_SERVER_ERROR;
+                    log.error("❌ AI 체형 분석 실패: userId={}, error={}", 
+                            request.userId(), e.getMessage(), e);
+                    
+                    return ResponseEntity.status(status)
+                            .body(ApiResponseDto.error("체형 분석 중 오류가 발생했습니다: " + e.getMessage()));
+                });
     }
 
     /**
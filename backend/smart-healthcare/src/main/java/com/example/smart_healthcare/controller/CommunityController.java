@@ -12,6 +12,7 @@ import com.example.smart_healthcare.dto.request.AddReactionRequestDto;
 import com.example.smart_healthcare.dto.response.ReactionCheckResponseDto;
 import com.example.smart_healthcare.dto.response.ReactionResponseDto;
 import com.example.smart_healthcare.common.dto.ApiResponseDto;
+import com.example.smart_healthcare.common.dto.CursorPageDto;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -63,7 +64,7 @@ public class CommunityController {
      * 
      * @param page 페이지 번호 (0부터 시작)
      * @param size 페이지 크기
-     * @param sortType 정렬 타입 (recent, popular, comments, views)
+     * @param sortType 정렬 타입 (recent, popular, comments, views, relevance - 검색어가 있을 때 관련도순)
      * @param search 통합 검색어 (제목 OR 내용)
      * @param title 제목 검색어
      * @param content 내용 검색어
@@ -110,13 +111,32 @@ public class CommunityController {
         }
     }
 
+    /**
+     * 커서 기반 게시글 목록 조회 (무한 스크롤용, 전체 건수 없음)
+     * 
+     * @param sortType 정렬 타입 (recent, popular, comments, views)
+     * @param category 카테고리 필터
+     * @param cursor 이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size 페이지 크기 (최대 100)
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponseDto<CursorPageDto<PostResponseDto>>> listByCursor(
+            @RequestParam(value = "sortType", defaultValue = "recent") String sortType,
+            @RequestParam(value = "category", required = false) PostCategory category,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        logger.info("게시글 커서 목록 조회 요청: sortType={}, category={}, size={}", sortType, category, size);
+        CursorPageDto<PostResponseDto> posts = communityService.getPostsByCursor(sortType, category, cursor, size);
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponseDto.success("게시글 목록 조회가 완료되었습니다.", posts));
+    }
+
     // 게시글 상세 조회 (조회수 증가)
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponseDto<PostResponseDto>> getPost(@PathVariable Long id) {
         try {
             logger.info("게시글 상세 조회 요청: id={}", id);
-            CommunityPost post = communityService.getPostById(id);
-            PostResponseDto response = PostResponseDto.toDto(post);
+            PostResponseDto response = communityService.getPostById(id);
             return ResponseEntity.status(HttpStatus.OK)
                 .body(ApiResponseDto.success("게시글 조회가 완료되었습니다.", response));
         } catch (Exception e) {
@@ -196,6 +216,20 @@ public class CommunityController {
         }
     }
 
+    /**
+     * 게시글별 댓글 커서 조회 (생성일순, 전체 건수 없음)
+     */
+    @GetMapping("/{postId}/comments/cursor")
+    public ResponseEntity<ApiResponseDto<CursorPageDto<CommentResponseDto>>> getCommentsByCursor(
+            @PathVariable Long postId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", defaultValue = "10") int size) {
+        logger.info("댓글 커서 목록 조회 요청: postId={}, size={}", postId, size);
+        CursorPageDto<CommentResponseDto> comments = commentService.getCommentsByCursor(postId, cursor, size);
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(ApiResponseDto.success("댓글 목록 조회가 완료되었습니다.", comments));
+    }
+
     /**
      * 댓글 작성
      */
@@ -1,6 +1,7 @@
 package com.example.smart_healthcare.controller;
 
 import com.example.smart_healthcare.common.dto.ApiResponseDto;
+import com.example.smart_healthcare.common.error.BusinessException;
 import com.example.smart_healthcare.dto.response.DietRecommendationResponseDto;
 import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
 import com.example.smart_healthcare.service.facade.DietRecommendationFacade;
@@ -8,10 +9,19 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * 식단 추천 컨트롤러
@@ -23,53 +33,124 @@ import java.util.List;
 @Slf4j
 public class DietRecommendationController {
 
+    private static final long STREAM_TIMEOUT_MILLIS = 600_000L;
+
     private final DietRecommendationFacade dietRecommendationFacade;
 
     /**
      * 식단 추천 API
      * 인바디 데이터와 설문 데이터를 기반으로 AI가 맞춤형 식단을 추천
+     * - 비동기 응답: OpenAI 응답을 기다리는 동안 서블릿 스레드를 반환
      */
     @PostMapping
-    public ResponseEntity<ApiResponseDto<DietRecommendationResponseDto>> recommendDiet(
+    public CompletableFuture<ResponseEntity<ApiResponseDto<DietRecommendationResponseDto>>> recommendDiet(
             @Valid @RequestBody InbodyDataRequestDto request) {
         
         log.info("🍽️ AI 식단 추천 요청: userId={}, gender={}, age={}", 
                 request.userId(), request.gender(), 
                 request.getCurrentAge());
         
-        try {
-            // Facade를 통한 식단 추천 및 저장
-            DietRecommendationResponseDto result = dietRecommendationFacade.recommendAndSave(request);
-            
-            log.info("✅ AI 식단 추천 완료: userId={}, mealStyle={}", 
-                    request.userId(), result.mealStyle());
-            
-            return ResponseEntity.ok(
-                    ApiResponseDto.success("맞춤형 식단이 추천되었습니다.", result)
-            );
-            
-        } catch (Exception e) {
-            log.error("❌ AI 식단 추천 실패: userId={}, error={}", 
-                    request.userId(), e.getMessage(), e);
-            log.error("❌ 예외 타입: {}, 스택 트레이스:", e.getClass().getSimpleName(), e);
-            
-            // 예외 메시지 추출 (null 체크)
-            String errorMessage = e.getMessage();
-            if (errorMessage == null || errorMessage.trim().isEmpty()) {
-                errorMessage = e.getClass().getSimpleName() + " 발생";
+        // Facade를 통한 식단 추천 및 저장
+        return dietRecommendationFacade.recommendAndSaveAsync(request)
+                .thenApply(result -> {
+                    log.info("✅ AI 식단 추천 완료: userId={}, mealStyle={}", 
+                            request.userId(), result.mealStyle());
+                    
+                    return ResponseEntity.ok(
+                            ApiResponseDto.success("맞춤형 식단이 추천되었습니다.", result)
+                    );
+                })
+                .exceptionally(ex -> {
+                    Throwable e = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    // 대기열 초과(503) 등 상태가 지정된 예외는 그 상태로 응답
+                    HttpStatus status = e instanceof BusinessException be ? be.getErrorCode().getStatus() : HttpStatus.INTERNAL_SERVER_ERROR;
+                    log.error("❌ AI 식단 추천 실패: userId={}, error={}", 
+                            request.userId(), e.getMessage(), e);
+                    log.error("❌ 예외 타입: {}, 스택 트레이스:", e.getClass().getSimpleName(), e);
+                    
+                    // 예외 메시지 추출 (null 체크)
+                    String errorMessage = e.getMessage();
+                    if (errorMessage == null || errorMessage.trim().isEmpty()) {
+                        errorMessage = e.getClass().getSimpleName() + " 발생";
+                    }
+                    
+                    // 예외 메시지가 이미 포함되어 있으면 그대로 사용, 아니면 기본 메시지 사용
+                    if (errorMessage.contains("식단 추천") || errorMessage.contains("OpenAI") || errorMessage.contains("API")) {
+                        // 이미 구체적인 메시지가 포함되어 있으면 그대로 사용
+                        return ResponseEntity.status(status)
+                                .body(ApiResponseDto.error(errorMessage));
+                    } else {
+                        // 기본 메시지와 함께 구체적인 에러 정보 포함
+                        String detailedMessage = String.format("식단 추천 중 오류가 발생했습니다: %s", errorMessage);
+                        return ResponseEntity.status(status)
+                                .body(ApiResponseDto.error(detailedMessage));
+                    }
+                });
+    }
+
+    /**
+     * 식단 추천 스트리밍 API (SSE)
+     * - day 이벤트: 요일 블록이 완성될 때마다 {"day", "data"} 전송
+     * - complete 이벤트: 전체 결과 저장 후 최종 DTO 전송
+     * - error 이벤트: 실패 시 오류 메시지 전송
+     */
+    @PostMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter recommendDietStream(@Valid @RequestBody InbodyDataRequestDto request) {
+        log.info("🍽️ AI 식단 추천 스트리밍 요청: userId={}", request.userId());
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MILLIS);
+        // 연결 종료/타임아웃/전송 실패 시 진행 중인 GPT 스트림과 저장을 취소 (정상 완료 후 호출되면 아무 일도 하지 않음)
+        AtomicReference<CompletableFuture<?>> call = new AtomicReference<>();
+        AtomicBoolean closed = new AtomicBoolean();
+        Runnable cancel = () -> {
+            closed.set(true);
+            CompletableFuture<?> running = call.get();
+            if (running != null) {
+                running.cancel(true);
             }
-            
-            // 예외 메시지가 이미 포함되어 있으면 그대로 사용, 아니면 기본 메시지 사용
-            if (errorMessage.contains("식단 추천") || errorMessage.contains("OpenAI") || errorMessage.contains("API")) {
-                // 이미 구체적인 메시지가 포함되어 있으면 그대로 사용
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                        .body(ApiResponseDto.error(errorMessage));
+        };
+        emitter.onCompletion(cancel);
+        emitter.onTimeout(cancel);
+        emitter.onError(e -> cancel.run());
+
+        CompletableFuture<DietRecommendationResponseDto> future = dietRecommendationFacade.recommendAndSaveStream(request,
+                (day, data) -> {
+                    if (!sendEvent(emitter, "day", Map.of("day", day, "data", data))) {
+                        cancel.run();
+                    }
+                });
+        call.set(future);
+        if (closed.get()) {
+            future.cancel(true);
+        }
+        future.whenComplete((result, ex) -> {
+            if (ex instanceof CancellationException) {
+                log.info("⏹️ AI 식단 추천 스트리밍 취소 (클라이언트 연결 종료): userId={}", request.userId());
+            } else if (ex == null) {
+                log.info("✅ AI 식단 추천 스트리밍 완료: userId={}, mealStyle={}", request.userId(), result.mealStyle());
+                sendEvent(emitter, "complete", ApiResponseDto.success("맞춤형 식단이 추천되었습니다.", result));
             } else {
-                // 기본 메시지와 함께 구체적인 에러 정보 포함
-                String detailedMessage = String.format("식단 추천 중 오류가 발생했습니다: %s", errorMessage);
-                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                        .body(ApiResponseDto.error(detailedMessage));
+                Throwable e = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                log.error("❌ AI 식단 추천 스트리밍 실패: userId={}, error={}", request.userId(), e.getMessage(), e);
+                String errorMessage = e.getMessage() != null && e.getMessage().contains("식단 추천")
+                        ? e.getMessage() : "식단 추천 중 오류가 발생했습니다: " + e.getMessage();
+                sendEvent(emitter, "error", ApiResponseDto.error(errorMessage));
             }
+            emitter.complete();
+        });
+        return emitter;
+    }
+
+    /**
+     * SSE 이벤트 전송 (클라이언트 연결이 끊긴 경우 로그를 남기고 false 반환)
+     */
+    private boolean sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.warn("⚠️ SSE 전송 실패 (클라이언트 연결 종료 가능): event={}, error={}", name, e.getMessage());
+            return false;
         }
     }
 
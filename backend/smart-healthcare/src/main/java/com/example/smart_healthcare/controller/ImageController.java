@@ -1,6 +1,9 @@
 package com.example.smart_healthcare.controller;
 
 import com.example.smart_healthcare.common.dto.ApiResponseDto;
+import com.example.smart_healthcare.common.error.BusinessException;
+import com.example.smart_healthcare.dto.request.ImageBulkRequestDto;
+import com.example.smart_healthcare.entity.FoodImageCache;
 import com.example.smart_healthcare.service.ImageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,7 +16,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @RestController
@@ -84,6 +90,42 @@ public class ImageController {
         }
     }
 
+    /**
+     * 이미지 URL 일괄 조회 (식단 계획 전체 메뉴 등)
+     */
+    @Operation(summary = "이미지 일괄 조회", description = "이름 목록 또는 식단 계획(diets)의 모든 메뉴 이미지 URL을 한 번에 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "이미지 URL 조회 성공 (찾지 못한 이름은 제외)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @PostMapping("/bulk")
+    public CompletableFuture<ResponseEntity<ApiResponseDto<Map<String, String>>>> getImagesBulk(
+            @RequestBody ImageBulkRequestDto request) {
+        
+        FoodImageCache.ImageType type = "exercise".equals(request.getType())
+                ? FoodImageCache.ImageType.EXERCISE : FoodImageCache.ImageType.FOOD;
+        List<String> names = new ArrayList<>();
+        if (request.getNames() != null) {
+            names.addAll(request.getNames());
+        }
+        names.addAll(imageService.collectFoodQueries(request.getDiets()));
+        log.info("이미지 일괄 조회 요청: type={}, count={}", type, names.size());
+        
+        if (names.isEmpty()) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error("조회할 이미지 이름이 없습니다.")));
+        }
+        try {
+            return imageService.getImageUrlsAsync(type, names)
+                    .thenApply(imageUrls -> ResponseEntity.ok(
+                            ApiResponseDto.success("이미지 일괄 조회 성공", imageUrls)));
+        } catch (BusinessException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.badRequest()
+                    .body(ApiResponseDto.error(e.getMessage())));
+        }
+    }
+
     /**
      * 이미지 캐시 통계 조회
      */
@@ -4,6 +4,7 @@ import com.example.smart_healthcare.common.dto.ApiResponseDto;
 import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
 import com.example.smart_healthcare.dto.response.InbodyRecordResponseDto;
 import com.example.smart_healthcare.service.InbodyRecordService;
+import com.example.smart_healthcare.service.facade.SpeculativeRecommendationFacade;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,6 +26,7 @@ import java.time.LocalDateTime;
 public class InbodyRecordController {
     
     private final InbodyRecordService inbodyRecordService;
+    private final SpeculativeRecommendationFacade speculativeRecommendationFacade;
     
     /**
      * 인바디 기록 생성
@@ -35,6 +37,8 @@ public class InbodyRecordController {
         log.info("인바디 기록 생성 API 호출: userId={}", request.userId());
         
         InbodyRecordResponseDto response = inbodyRecordService.createInbodyRecord(request);
+        // 곧 이어질 체형 분석 요청을 위해 미리 생성 시작 (활성화된 경우)
+        speculativeRecommendationFacade.onInbodySaved(request);
         return ResponseEntity.status(HttpStatus.CREATED)
                 .body(ApiResponseDto.success("인바디 기록이 성공적으로 생성되었습니다.", response));
     }
@@ -0,0 +1,80 @@
+package com.example.smart_healthcare.controller;
+
+import com.example.smart_healthcare.common.dto.ApiResponseDto;
+import com.example.smart_healthcare.common.error.BusinessException;
+import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
+import com.example.smart_healthcare.dto.response.RecommendationJobResponseDto;
+import com.example.smart_healthcare.entity.RecommendationJob;
+import com.example.smart_healthcare.service.CustomUserDetailsService;
+import com.example.smart_healthcare.service.facade.RecommendationJobFacade;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * AI 추천 비동기 작업 컨트롤러
+ * - POST: 작업 등록 후 즉시 202 응답 (jobId 반환)
+ * - GET /{jobId}: 상태 및 결과 폴링
+ */
+@RestController
+@RequestMapping("/api/jobs")
+@RequiredArgsConstructor
+@Slf4j
+public class RecommendationJobController {
+
+    private final RecommendationJobFacade recommendationJobFacade;
+
+    /**
+     * 운동 추천 작업 등록
+     */
+    @PostMapping("/workout-recommendation")
+    public ResponseEntity<ApiResponseDto<RecommendationJobResponseDto>> submitWorkoutJob(
+            @Valid @RequestBody InbodyDataRequestDto request) {
+        log.info("📥 운동 추천 작업 등록 요청: userId={}", request.userId());
+        return submit(RecommendationJob.JobType.WORKOUT, request);
+    }
+
+    /**
+     * 식단 추천 작업 등록
+     */
+    @PostMapping("/diet-recommendation")
+    public ResponseEntity<ApiResponseDto<RecommendationJobResponseDto>> submitDietJob(
+            @Valid @RequestBody InbodyDataRequestDto request) {
+        log.info("📥 식단 추천 작업 등록 요청: userId={}", request.userId());
+        return submit(RecommendationJob.JobType.DIET, request);
+    }
+
+    /**
+     * 작업 상태/결과 조회 (본인 작업만)
+     */
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ApiResponseDto<RecommendationJobResponseDto>> getJob(
+            @PathVariable Long jobId,
+            @AuthenticationPrincipal CustomUserDetailsService.CustomUserPrincipal principal) {
+        try {
+            Long requesterId = principal != null ? principal.getUserId() : null;
+            RecommendationJobResponseDto job = recommendationJobFacade.getJob(jobId, requesterId);
+            return ResponseEntity.ok(ApiResponseDto.success("추천 작업 상태를 조회했습니다.", job));
+        } catch (BusinessException e) {
+            return ResponseEntity.status(e.getErrorCode().getStatus())
+                    .body(ApiResponseDto.error(e.getMessage()));
+        }
+    }
+
+    private ResponseEntity<ApiResponseDto<RecommendationJobResponseDto>> submit(
+            RecommendationJob.JobType jobType, InbodyDataRequestDto request) {
+        try {
+            RecommendationJobResponseDto job = recommendationJobFacade.submit(jobType, request);
+            return ResponseEntity.status(HttpStatus.ACCEPTED)
+                    .body(ApiResponseDto.success("추천 작업이 등록되었습니다.", job));
+        } catch (BusinessException e) {
+            log.error("❌ 추천 작업 등록 실패: userId={}, error={}", request.userId(), e.getMessage());
+            return ResponseEntity.status(e.getErrorCode().getStatus())
+                    .body(ApiResponseDto.error(e.getMessage()));
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.example.smart_healthcare.common.dto.ApiResponseDto;
 import com.example.smart_healthcare.dto.request.SurveyRequestDto;
 import com.example.smart_healthcare.dto.response.SurveyResponseDto;
 import com.example.smart_healthcare.service.SurveyService;
+import com.example.smart_healthcare.service.facade.SpeculativeRecommendationFacade;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -24,6 +25,7 @@ import org.springframework.web.bind.annotation.*;
 public class SurveyController {
 
     private final SurveyService surveyService;
+    private final SpeculativeRecommendationFacade speculativeRecommendationFacade;
 
     /**
      * 설문조사 생성
@@ -39,6 +41,8 @@ public class SurveyController {
         
         try {
             SurveyResponseDto response = surveyService.createSurvey(request);
+            // 곧 이어질 운동/식단 추천 요청을 위해 미리 생성 시작 (활성화된 경우)
+            speculativeRecommendationFacade.onSurveySaved(request);
             return ResponseEntity.status(HttpStatus.CREATED)
                     .body(ApiResponseDto.success("설문조사가 생성되었습니다.", response));
         } catch (Exception e) {
@@ -0,0 +1,28 @@
+package com.example.smart_healthcare.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이미지 일괄 조회 요청 DTO
+ * - names: 조회할 음식/운동 이름(또는 unsplashQuery) 목록
+ * - diets: 식단 추천 응답의 diets 객체 (각 메뉴의 unsplashQuery 또는 name으로 조회)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageBulkRequestDto {
+
+    // 'diet' 또는 'exercise' (기본값 diet)
+    private String type;
+
+    private List<String> names;
+
+    private Map<String, Object> diets;
+}
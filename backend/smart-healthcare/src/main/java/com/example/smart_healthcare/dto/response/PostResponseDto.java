@@ -7,6 +7,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.Set;
 
 /**
@@ -45,7 +46,7 @@ public class PostResponseDto {
             post.getTitle(),
             post.getContent(),
             post.getCategory(),
-            post.getTags(),
+            post.getTags() != null ? new LinkedHashSet<>(post.getTags()) : new LinkedHashSet<>(),   // 지연 로딩 컬렉션 대신 복사본 (캐시/세션 밖 직렬화)
             post.getAuthor().getId(),
             post.getAuthor().getEmail(),
             post.getCreatedAt(),
@@ -54,7 +55,7 @@ public class PostResponseDto {
             post.getViewCount(),
             post.getLikeCount(),
             post.getDislikeCount(),
-            post.getComments() != null ? post.getComments().size() : 0
+            post.getCommentCount()
         );
     }
 
@@ -0,0 +1,39 @@
+package com.example.smart_healthcare.dto.response;
+
+import com.example.smart_healthcare.entity.RecommendationBatch;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 추천 재생성 배치 상태 응답 DTO
+ */
+public record RecommendationBatchResponseDto(
+        Long batchId,
+        String jobType,             // WORKOUT / DIET
+        String status,              // SUBMITTED / COMPLETED / FAILED
+        String providerStatus,      // OpenAI 측 상태
+        String openaiBatchId,
+        int requestCount,
+        int savedCount,
+        int failedCount,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime finishedAt
+) {
+
+    public static RecommendationBatchResponseDto toDto(RecommendationBatch batch) {
+        return new RecommendationBatchResponseDto(
+                batch.getId(),
+                batch.getJobType().name(),
+                batch.getStatus().name(),
+                batch.getProviderStatus(),
+                batch.getOpenaiBatchId(),
+                batch.getRequestCount(),
+                batch.getSavedCount(),
+                batch.getFailedCount(),
+                batch.getErrorMessage(),
+                batch.getCreatedAt(),
+                batch.getFinishedAt()
+        );
+    }
+}
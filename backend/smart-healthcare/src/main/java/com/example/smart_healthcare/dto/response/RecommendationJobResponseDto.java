@@ -0,0 +1,18 @@
+package com.example.smart_healthcare.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 추천 비동기 작업 상태 응답 DTO
+ * - result는 DONE 상태일 때만 채워짐 (운동/식단 추천 응답 DTO와 동일한 구조)
+ */
+public record RecommendationJobResponseDto(
+        Long jobId,
+        String jobType,             // WORKOUT / DIET
+        String status,              // PENDING / RUNNING / DONE / FAILED
+        Object result,
+        String errorMessage,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt
+) {}
@@ -11,6 +11,7 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(indexes = @Index(name = "idx_comment_post_created", columnList = "post_id, created_at, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -4,6 +4,7 @@ import com.example.smart_healthcare.common.entity.BaseEntity;
 import com.example.smart_healthcare.common.error.BusinessException;
 import com.example.smart_healthcare.common.error.ErrorCode;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -14,7 +15,13 @@ import java.time.LocalDateTime;
 import java.util.*;
 
 @Entity
-@Table(name = "community_post")
+@Table(name = "community_post", indexes = {
+        // 커서 페이지네이션 (정렬 키, id)
+        @Index(name = "idx_community_post_created", columnList = "created_at, id"),
+        @Index(name = "idx_community_post_like", columnList = "like_count, id"),
+        @Index(name = "idx_community_post_comment", columnList = "comment_count, id"),
+        @Index(name = "idx_community_post_view", columnList = "view_count, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -40,25 +47,31 @@ public class CommunityPost extends BaseEntity {
     
     @ElementCollection
     @CollectionTable(name = "post_tags", joinColumns = @JoinColumn(name = "post_id"))
+    @org.hibernate.annotations.BatchSize(size = 100)   // 목록 변환 시 게시글별 조회 대신 IN 조회
     @Column(name = "tag", length = 50)
     @Builder.Default
     private Set<String> tags = new HashSet<>();
     
   
-    @Column(name = "view_count", nullable = false)
+    // 카운터 컬럼은 PostCounterRepository의 증분 UPDATE로만 갱신 (엔티티 저장 시 덮어쓰지 않으므로 setter도 두지 않음)
+    @Column(name = "view_count", nullable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
     @Builder.Default
     private Integer viewCount = 0;
     
   
-    @Column(name = "like_count", nullable = false)
+    @Column(name = "like_count", nullable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
     @Builder.Default
     private Integer likeCount = 0;
     
-    @Column(name = "dislike_count", nullable = false)
+    @Column(name = "dislike_count", nullable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
     @Builder.Default
     private Integer dislikeCount = 0;
     
-    @Column(name = "comment_count", nullable = false)
+    @Column(name = "comment_count", nullable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
     @Builder.Default
     private Integer commentCount = 0;
 
@@ -102,46 +115,6 @@ public class CommunityPost extends BaseEntity {
     }
     
 
-    public void incrementViewCount() {
-        this.viewCount++;
-    }
-    
-
-    public void incrementLikeCount() {
-        this.likeCount++;
-    }
-    
-    public void decrementLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
-        }
-    }
-    
-
-    public void incrementDislikeCount() {
-        this.dislikeCount++;
-    }
-    
-    public void decrementDislikeCount() {
-        if (this.dislikeCount > 0) {
-            this.dislikeCount--;
-        }
-    }
-    
-    public void incrementCommentCount() {
-        if (commentCount == null) {
-            commentCount = 0;
-        }
-        this.commentCount++;
-    }
-    
-    public void decrementCommentCount() {
-        if (this.commentCount > 0) {
-            this.commentCount--;
-        }
-    }
-    
-
     public void addTag(String tag) {
         if (tag != null && !tag.trim().isEmpty()) {
             this.tags.add(tag.trim());
@@ -257,13 +230,4 @@ public class CommunityPost extends BaseEntity {
         // 수정 플래그 설정
         this.isEdited = true;
     }
-
-    
-    /**
-     * 좋아요/싫어요 수 업데이트
-     */
-    public void updateReactionCounts(int likeCount, int dislikeCount) {
-        this.likeCount = likeCount;
-        this.dislikeCount = dislikeCount;
-    }
 }
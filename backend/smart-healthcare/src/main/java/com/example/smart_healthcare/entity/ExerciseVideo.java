@@ -0,0 +1,67 @@
+package com.example.smart_healthcare.entity;
+
+import com.example.smart_healthcare.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 운동 → YouTube 영상 인덱스 엔티티
+ * - exerciseKey: ExerciseAliases로 정규화한 운동명 (한글/영어 별칭이 같은 키로 모임)
+ * - 운동 계획 보강 시 키로 먼저 조회하고, 없을 때만 YouTube API를 호출하여 결과를 등록
+ * - 상태 흐름: PENDING(영상 미확보) → READY / NOT_FOUND, 백그라운드 작업이 PENDING과 오래된 항목을 갱신
+ */
+@Entity
+@Table(name = "exercise_video", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_exercise_video_key", columnNames = {"exercise_key"})
+}, indexes = {
+        @Index(name = "idx_exercise_video_status", columnList = "status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ExerciseVideo extends BaseEntity {
+
+    @Column(name = "exercise_key", nullable = false, length = 100)
+    private String exerciseKey;
+
+    // 최초 등록 시 운동명 (관련성 검증용)
+    @Column(name = "display_name", length = 100)
+    private String displayName;
+
+    @Column(name = "search_query", nullable = false, length = 255)
+    private String searchQuery;
+
+    @Column(name = "video_url", length = 255)
+    private String videoUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    @Column(name = "refreshed_at")
+    private LocalDateTime refreshedAt;
+
+    public void markReady(String videoUrl) {
+        this.status = Status.READY;
+        this.videoUrl = videoUrl;
+        this.refreshedAt = LocalDateTime.now();
+    }
+
+    public void markNotFound() {
+        this.status = Status.NOT_FOUND;
+        this.refreshedAt = LocalDateTime.now();
+    }
+
+    public enum Status {
+        PENDING, READY, NOT_FOUND
+    }
+}
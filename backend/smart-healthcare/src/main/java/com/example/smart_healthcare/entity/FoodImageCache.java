@@ -7,17 +7,31 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+/**
+ * 이미지 URL 캐시 엔티티 (ImageService의 DB 캐시)
+ * - imageType으로 음식/운동 이미지를 구분 (기존 행은 음식 이미지)
+ */
 @Entity
-@Table(name = "food_image_cache")
+@Table(name = "food_image_cache", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_food_image_cache_type_name", columnNames = {"image_type", "food_name"})
+})
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 public class FoodImageCache extends BaseEntity {
     
-    @Column(name = "food_name", length = 100, nullable = false, unique = true)
+    @Column(name = "food_name", length = 100, nullable = false)
     private String foodName;
 
     @Column(name = "image_url", length = 255, nullable = false)
     private String imageUrl;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "image_type", length = 20, columnDefinition = "VARCHAR(20) DEFAULT 'FOOD'")
+    private ImageType imageType = ImageType.FOOD;
+
+    public enum ImageType {
+        FOOD, EXERCISE
+    }
 }
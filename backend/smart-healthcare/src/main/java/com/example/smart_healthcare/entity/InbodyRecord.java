@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
+import com.example.smart_healthcare.dto.request.SurveyDataRequestDto;
 @Entity
 @Table(name = "inbody_record")
 @Getter
@@ -106,4 +107,19 @@ public class InbodyRecord extends BaseEntity {
                 .waistCircumference(dto.waistCircumference())
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * AI 요청 DTO로 변환 (설문 저장 직후 추측 실행용)
+     */
+    public InbodyDataRequestDto toRequestDto(Long userId, SurveyDataRequestDto survey) {
+        return new InbodyDataRequestDto(
+                userId, gender != null ? gender.name() : null, birthYear, weight,
+                totalBodyWater, protein, mineral,
+                bodyFatMass, muscleMass, fatFreeMass, skeletalMuscleMass, bmi, bodyFatPercentage,
+                rightArmMuscleMass, leftArmMuscleMass, trunkMuscleMass, rightLegMuscleMass, leftLegMuscleMass,
+                rightArmFatMass, leftArmFatMass, trunkFatMass, rightLegFatMass, leftLegFatMass,
+                inbodyScore, idealWeight, weightControl, fatControl, muscleControl, basalMetabolism,
+                abdominalFatPercentage, visceralFatLevel, obesityDegree, boneMineralContent, waistCircumference,
+                survey);
+    }
+}
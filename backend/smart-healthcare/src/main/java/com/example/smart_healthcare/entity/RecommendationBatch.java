@@ -0,0 +1,86 @@
+package com.example.smart_healthcare.entity;
+
+import com.example.smart_healthcare.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대량 추천 재생성 배치 엔티티 (OpenAI Batch API 작업 1건)
+ * - 관리자/주기 작업이 저장된 인바디·설문 데이터로 JSONL 요청 파일을 만들어 제출
+ * - 상태 흐름: SUBMITTED → COMPLETED / FAILED (결과는 JDBC 배치 insert로 일괄 저장)
+ */
+@Entity
+@Table(name = "recommendation_batch", indexes = {
+        @Index(name = "idx_recommendation_batch_status", columnList = "status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecommendationBatch extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, length = 20)
+    private RecommendationJob.JobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private BatchStatus status = BatchStatus.SUBMITTED;
+
+    @Column(name = "openai_batch_id", length = 100)
+    private String openaiBatchId;
+
+    @Column(name = "input_file_id", length = 100)
+    private String inputFileId;
+
+    @Column(name = "output_file_id", length = 100)
+    private String outputFileId;
+
+    // OpenAI 측 상태 (validating, in_progress, finalizing ...)
+    @Column(name = "provider_status", length = 30)
+    private String providerStatus;
+
+    @Column(name = "request_count", nullable = false)
+    @Builder.Default
+    private Integer requestCount = 0;
+
+    @Column(name = "saved_count", nullable = false)
+    @Builder.Default
+    private Integer savedCount = 0;
+
+    @Column(name = "failed_count", nullable = false)
+    @Builder.Default
+    private Integer failedCount = 0;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public void markCompleted(String outputFileId, int savedCount, int failedCount) {
+        this.status = BatchStatus.COMPLETED;
+        this.outputFileId = outputFileId;
+        this.savedCount = savedCount;
+        this.failedCount = failedCount;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void markFailed(String errorMessage) {
+        this.status = BatchStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public enum BatchStatus {
+        SUBMITTED, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.smart_healthcare.entity;
+
+import com.example.smart_healthcare.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 추천 비동기 작업 엔티티
+ * - HTTP 요청과 분리된 추천 작업의 상태/결과를 저장
+ * - 상태 흐름: PENDING → RUNNING → DONE / FAILED
+ */
+@Entity
+@Table(name = "recommendation_job", indexes = {
+        @Index(name = "idx_recommendation_job_status", columnList = "status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecommendationJob extends BaseEntity {
+
+    @Column(name = "user_id", columnDefinition = "BIGINT")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, length = 20)
+    private JobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private JobStatus status = JobStatus.PENDING;
+
+    // 요청 원문 (InbodyDataRequestDto JSON) - 서버 재시작 시 재실행용
+    @Column(name = "request_payload", columnDefinition = "LONGTEXT")
+    private String requestPayload;
+
+    // 추천 결과 (응답 DTO JSON)
+    @Column(name = "result_payload", columnDefinition = "LONGTEXT")
+    private String resultPayload;
+
+    @Column(name = "error_message", columnDefinition = "TEXT")
+    private String errorMessage;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    public void markRunning() {
+        this.status = JobStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public void markDone(String resultPayload) {
+        this.status = JobStatus.DONE;
+        this.resultPayload = resultPayload;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public void markFailed(String errorMessage) {
+        this.status = JobStatus.FAILED;
+        this.errorMessage = errorMessage;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public enum JobType {
+        WORKOUT, DIET
+    }
+
+    public enum JobStatus {
+        PENDING, RUNNING, DONE, FAILED
+    }
+}
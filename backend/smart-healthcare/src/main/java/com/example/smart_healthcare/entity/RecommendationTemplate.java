@@ -0,0 +1,72 @@
+package com.example.smart_healthcare.entity;
+
+import com.example.smart_healthcare.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 체형 클러스터별 기본 추천 템플릿 엔티티
+ * - clusterKey: (체형 라벨, 성별, 연령대, 목표, 운동 요일/끼니) 조합
+ * - 요청이 들어온 클러스터는 PENDING으로 등록되고, 백그라운드 작업이 대표 요청으로 생성하여 READY로 전환
+ * - basePayload: 응답 DTO JSON (개인 수치는 {{weight}} 등 치환 토큰으로 저장)
+ */
+@Entity
+@Table(name = "recommendation_template", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_recommendation_template_cluster", columnNames = {"template_type", "cluster_key"})
+}, indexes = {
+        @Index(name = "idx_recommendation_template_status", columnList = "status")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RecommendationTemplate extends BaseEntity {
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "template_type", nullable = false, length = 20)
+    private RecommendationJob.JobType templateType;
+
+    @Column(name = "cluster_key", nullable = false, length = 255)
+    private String clusterKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private Status status = Status.PENDING;
+
+    // 템플릿 생성에 사용할 대표 요청 (InbodyDataRequestDto JSON, userId 제외)
+    @Column(name = "representative_payload", columnDefinition = "LONGTEXT")
+    private String representativePayload;
+
+    @Column(name = "base_payload", columnDefinition = "LONGTEXT")
+    private String basePayload;
+
+    // 템플릿이 없어 GPT를 직접 호출한 횟수 (생성 우선순위)
+    @Column(name = "demand_count", nullable = false)
+    @Builder.Default
+    private Integer demandCount = 0;
+
+    @Column(name = "hit_count", nullable = false)
+    @Builder.Default
+    private Integer hitCount = 0;
+
+    @Column(name = "generated_at")
+    private LocalDateTime generatedAt;
+
+    public void markReady(String basePayload) {
+        this.status = Status.READY;
+        this.basePayload = basePayload;
+        this.generatedAt = LocalDateTime.now();
+    }
+
+    public enum Status {
+        PENDING, READY
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.smart_healthcare.event;
+
+import com.example.smart_healthcare.entity.CommunityPost;
+import com.example.smart_healthcare.entity.CommunityPost.PostCategory;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 검색 색인 갱신 이벤트 (작성/수정 시 색인, 삭제 시 색인 제거)
+ * - 커밋 이후 PostSearchIndex에서 처리하므로 엔티티 대신 색인할 값을 미리 복사해 둠
+ */
+@Getter
+public class PostIndexEvent extends ApplicationEvent {
+    private final Long postId;
+    private final String title;
+    private final String content;
+    private final PostCategory category;
+    private final Long authorId;
+    private final LocalDateTime createdAt;
+    private final boolean deleted;
+
+    private PostIndexEvent(Long postId, String title, String content, PostCategory category,
+                           Long authorId, LocalDateTime createdAt, boolean deleted) {
+        super(new Object());
+        this.postId = postId;
+        this.title = title;
+        this.content = content;
+        this.category = category;
+        this.authorId = authorId;
+        this.createdAt = createdAt;
+        this.deleted = deleted;
+    }
+
+    public static PostIndexEvent upsert(CommunityPost post) {
+        return new PostIndexEvent(post.getId(), post.getTitle(), post.getContent(), post.getCategory(),
+                post.getAuthor() != null ? post.getAuthor().getId() : null, post.getCreatedAt(),
+                Boolean.TRUE.equals(post.getIsDeleted()));
+    }
+
+    public static PostIndexEvent delete(Long postId) {
+        return new PostIndexEvent(postId, null, null, null, null, null, true);
+    }
+}
@@ -14,4 +14,9 @@ public class ReactionChangedEvent extends ReactionEvent {
         super(new Object(), postId, userId, newReactionType);
         this.oldReactionType = oldReactionType;
     }
+
+    @Override
+    public int deltaOf(String type) {
+        return super.deltaOf(type) - (type.equals(oldReactionType) ? 1 : 0);
+    }
 }
\ No newline at end of file
@@ -18,4 +18,11 @@ public abstract class ReactionEvent extends ApplicationEvent {
         this.userId = userId;
         this.reactionType = reactionType;
     }
+
+    /**
+     * 이 이벤트로 인한 해당 반응 종류(LIKE/DISLIKE)의 수 변화 (추가 +1, 제거 -1, 변경은 이전 -1 / 새 +1)
+     */
+    public int deltaOf(String type) {
+        return type.equals(reactionType) ? 1 : 0;
+    }
 }
\ No newline at end of file
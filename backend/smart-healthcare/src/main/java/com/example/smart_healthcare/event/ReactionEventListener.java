@@ -0,0 +1,33 @@
+package com.example.smart_healthcare.event;
+
+import com.example.smart_healthcare.entity.PostReaction;
+import com.example.smart_healthcare.repository.PostCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 반응 이벤트 → 게시글 반응 수(like_count/dislike_count) 증분 반영
+ * - 반응 저장과 같은 트랜잭션의 커밋 직전에 실행되어 반응과 카운터가 함께 커밋/롤백됨
+ * - 조회 시 반응 행을 COUNT하지 않고 카운터 컬럼을 그대로 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReactionEventListener {
+
+    private static final String LIKE = PostReaction.ReactionType.LIKE.name();
+    private static final String DISLIKE = PostReaction.ReactionType.DISLIKE.name();
+
+    private final PostCounterRepository postCounterRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onReaction(ReactionEvent event) {
+        int likeDelta = event.deltaOf(LIKE);
+        int dislikeDelta = event.deltaOf(DISLIKE);
+        postCounterRepository.addReactionCounts(event.getPostId(), likeDelta, dislikeDelta);
+        log.debug("반응 수 반영: postId={}, like={}, dislike={}", event.getPostId(), likeDelta, dislikeDelta);
+    }
+}
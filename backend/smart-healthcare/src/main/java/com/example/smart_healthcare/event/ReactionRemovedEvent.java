@@ -11,4 +11,9 @@ public class ReactionRemovedEvent extends ReactionEvent {
     public ReactionRemovedEvent(Long postId, Long userId, String reactionType) {
         super(new Object(), postId, userId, reactionType);
     }
+
+    @Override
+    public int deltaOf(String type) {
+        return -super.deltaOf(type);
+    }
 }
\ No newline at end of file
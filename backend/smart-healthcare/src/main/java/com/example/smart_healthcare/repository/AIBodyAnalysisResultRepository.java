@@ -26,6 +26,12 @@ public interface AIBodyAnalysisResultRepository extends JpaRepository<AIBodyAnal
     @Query("SELECT a FROM AIBodyAnalysisResult a WHERE a.user.id = :userId AND a.isDeleted = false ORDER BY a.createdAt DESC")
     Optional<AIBodyAnalysisResult> findLatestByUserId(@Param("userId") Long userId);
     
+    /**
+     * 사용자별 최근 체형 라벨 조회 (PageRequest.of(0, 1)로 최신 1건)
+     */
+    @Query("SELECT a.label FROM AIBodyAnalysisResult a WHERE a.user.id = :userId AND a.isDeleted = false ORDER BY a.createdAt DESC")
+    List<String> findRecentLabelsByUserId(@Param("userId") Long userId, Pageable pageable);
+    
     /**
      * 사용자별 분석 히스토리 조회 (페이징)
      */
@@ -8,6 +8,9 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Repository
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     
@@ -22,5 +25,21 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      */
     @Query("SELECT c FROM Comment c WHERE c.post.id = :postId AND c.isDeleted = false ORDER BY c.createdAt ASC")
     Page<Comment> findByPostIdAndNotDeleted(@Param("postId") Long postId, Pageable pageable);
+
+    /**
+     * 게시글별 댓글 커서 조회 (생성일, id 오름차순)
+     * 
+     * 직전 페이지 마지막 댓글의 (생성일, id) 다음부터 조회하므로 OFFSET 스캔과 COUNT 쿼리가 없습니다.
+     */
+    @Query("""
+           SELECT c FROM Comment c
+           WHERE c.post.id = :postId AND c.isDeleted = false
+             AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))
+           ORDER BY c.createdAt ASC, c.id ASC
+           """)
+    List<Comment> findByPostIdAfter(@Param("postId") Long postId,
+                                    @Param("createdAt") LocalDateTime createdAt,
+                                    @Param("id") Long id,
+                                    Pageable pageable);
     
 } 
@@ -4,12 +4,14 @@ import com.example.smart_healthcare.entity.CommunityPost;
 import com.example.smart_healthcare.entity.CommunityPost.PostCategory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Repository
 public interface CommunityPostRepository extends JpaRepository<CommunityPost, Long> {
@@ -17,10 +19,12 @@ public interface CommunityPostRepository extends JpaRepository<CommunityPost, Lo
     // ===== 핵심 기능만 유지 =====
     
     // 논리삭제되지 않은 게시글 조회 (기본 목록)
+    @EntityGraph(attributePaths = "author")
     @Query("SELECT cp FROM CommunityPost cp WHERE cp.isDeleted = false")
     Page<CommunityPost> findByIsDeletedFalse(Pageable pageable);
     
     // 카테고리별 검색 - 논리삭제 제외 (페이징 지원)
+    @EntityGraph(attributePaths = "author")
     @Query("SELECT cp FROM CommunityPost cp WHERE cp.isDeleted = false AND cp.category = :category")
     Page<CommunityPost> findByCategory(@Param("category") PostCategory category, Pageable pageable);
     
@@ -41,6 +45,7 @@ public interface CommunityPostRepository extends JpaRepository<CommunityPost, Lo
      * @param title 제목에서만 검색할 키워드
      * @param content 내용에서만 검색할 키워드
      */
+    @EntityGraph(attributePaths = "author")
     @Query("""
            SELECT cp FROM CommunityPost cp
            WHERE cp.isDeleted = false
@@ -61,5 +66,71 @@ public interface CommunityPostRepository extends JpaRepository<CommunityPost, Lo
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate,
             Pageable pageable);
+
+    /**
+     * 커서 페이지네이션 (정렬 키, id 내림차순)
+     * 
+     * 직전 페이지 마지막 행의 (정렬 키, id) 다음부터 조회하므로 OFFSET 스캔과 COUNT 쿼리가 없습니다.
+     * 첫 페이지는 최댓값 커서로 조회합니다. (Pageable은 조회 건수 제한에만 사용)
+     */
+    @EntityGraph(attributePaths = "author")
+    @Query("""
+           SELECT cp FROM CommunityPost cp
+           WHERE cp.isDeleted = false
+             AND (:category IS NULL OR cp.category = :category)
+             AND (cp.createdAt < :createdAt OR (cp.createdAt = :createdAt AND cp.id < :id))
+           ORDER BY cp.createdAt DESC, cp.id DESC
+           """)
+    List<CommunityPost> findFeedByCreatedAt(@Param("category") PostCategory category,
+                                        @Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    @Query("""
+           SELECT cp FROM CommunityPost cp
+           WHERE cp.isDeleted = false
+             AND (:category IS NULL OR cp.category = :category)
+             AND (cp.likeCount < :likeCount OR (cp.likeCount = :likeCount AND cp.id < :id))
+           ORDER BY cp.likeCount DESC, cp.id DESC
+           """)
+    List<CommunityPost> findFeedByLikeCount(@Param("category") PostCategory category,
+                                        @Param("likeCount") Integer likeCount,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    @Query("""
+           SELECT cp FROM CommunityPost cp
+           WHERE cp.isDeleted = false
+             AND (:category IS NULL OR cp.category = :category)
+             AND (cp.commentCount < :commentCount OR (cp.commentCount = :commentCount AND cp.id < :id))
+           ORDER BY cp.commentCount DESC, cp.id DESC
+           """)
+    List<CommunityPost> findFeedByCommentCount(@Param("category") PostCategory category,
+                                        @Param("commentCount") Integer commentCount,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    @EntityGraph(attributePaths = "author")
+    @Query("""
+           SELECT cp FROM CommunityPost cp
+           WHERE cp.isDeleted = false
+             AND (:category IS NULL OR cp.category = :category)
+             AND (cp.viewCount < :viewCount OR (cp.viewCount = :viewCount AND cp.id < :id))
+           ORDER BY cp.viewCount DESC, cp.id DESC
+           """)
+    List<CommunityPost> findFeedByViewCount(@Param("category") PostCategory category,
+                                        @Param("viewCount") Integer viewCount,
+                                        @Param("id") Long id,
+                                        Pageable pageable);
+
+    // 카테고리별(null이면 전체) 게시글 수 (피드 캐시의 전체 건수)
+    @Query("SELECT COUNT(cp) FROM CommunityPost cp WHERE cp.isDeleted = false AND (:category IS NULL OR cp.category = :category)")
+    long countFeed(@Param("category") PostCategory category);
+
+    // 검색 색인 재구성 대상 (id 순 페이지 단위)
+    @Query("SELECT cp FROM CommunityPost cp WHERE cp.isDeleted = false AND cp.id > :afterId ORDER BY cp.id ASC")
+    List<CommunityPost> findIndexTargets(@Param("afterId") Long afterId, Pageable pageable);
     
 }
\ No newline at end of file
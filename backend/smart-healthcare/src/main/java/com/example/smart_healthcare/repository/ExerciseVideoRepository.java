@@ -0,0 +1,32 @@
+package com.example.smart_healthcare.repository;
+
+import com.example.smart_healthcare.entity.ExerciseVideo;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 운동 → YouTube 영상 인덱스 Repository
+ */
+@Repository
+public interface ExerciseVideoRepository extends JpaRepository<ExerciseVideo, Long> {
+
+    Optional<ExerciseVideo> findByExerciseKey(String exerciseKey);
+
+    Optional<ExerciseVideo> findByExerciseKeyAndStatus(String exerciseKey, ExerciseVideo.Status status);
+
+    /**
+     * 갱신 대상: PENDING 또는 staleBefore 이전에 갱신된 항목 (오래된 순)
+     */
+    @Query("SELECT v FROM ExerciseVideo v WHERE v.isDeleted = false " +
+           "AND (v.status = :pending OR v.refreshedAt < :staleBefore) ORDER BY v.id ASC")
+    List<ExerciseVideo> findRefreshTargets(@Param("pending") ExerciseVideo.Status pending,
+                                           @Param("staleBefore") LocalDateTime staleBefore,
+                                           Pageable pageable);
+}
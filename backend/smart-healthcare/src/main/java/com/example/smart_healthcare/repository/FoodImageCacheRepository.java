@@ -17,6 +17,12 @@ public interface FoodImageCacheRepository extends JpaRepository<FoodImageCache,
      */
     Optional<FoodImageCache> findByFoodName(String foodName);
     
+    /**
+     * 타입별 이미지 캐시 조회 ((image_type, food_name) 유니크 인덱스 사용, 기존 행은 FoodImageCacheMigration이 FOOD로 보정)
+     */
+    @Query("SELECT f FROM FoodImageCache f WHERE f.imageType = :type AND f.foodName = :name")
+    Optional<FoodImageCache> findCached(@Param("type") FoodImageCache.ImageType type, @Param("name") String name);
+    
     /**
      * 이미지 URL로 캐시 조회
      */
@@ -0,0 +1,91 @@
+package com.example.smart_healthcare.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 게시글 카운터 반영 (JDBC update)
+ * - 엔티티를 읽지 않고 증분만 더하므로 동시 반영 간 덮어쓰기가 없고 @PreUpdate(수정 표시)도 실행되지 않음
+ * - 반응/댓글 수 보정은 post_reaction/Comment 집계와 다른 게시글만 갱신
+ */
+@Repository
+@RequiredArgsConstructor
+public class PostCounterRepository {
+
+    private static final String ADD_VIEW_COUNT = "UPDATE community_post SET view_count = view_count + ? WHERE id = ?";
+
+    private static final String ADD_REACTION_COUNTS = "UPDATE community_post " +
+            "SET like_count = GREATEST(like_count + ?, 0), dislike_count = GREATEST(dislike_count + ?, 0) WHERE id = ?";
+
+    private static final String LIKE_COUNT = "(SELECT COUNT(*) FROM post_reaction r " +
+            "WHERE r.post_id = p.id AND r.is_deleted = FALSE AND r.type = 'LIKE')";
+    private static final String DISLIKE_COUNT = "(SELECT COUNT(*) FROM post_reaction r " +
+            "WHERE r.post_id = p.id AND r.is_deleted = FALSE AND r.type = 'DISLIKE')";
+
+    // 저장된 카운터가 실제 반응 수와 다른 게시글만 갱신 (id 범위 단위)
+    private static final String RECONCILE_REACTION_COUNTS = "UPDATE community_post p " +
+            "SET like_count = " + LIKE_COUNT + ", dislike_count = " + DISLIKE_COUNT + " " +
+            "WHERE p.id BETWEEN ? AND ? AND (p.like_count <> " + LIKE_COUNT + " OR p.dislike_count <> " + DISLIKE_COUNT + ")";
+
+    private static final String ADD_COMMENT_COUNT = "UPDATE community_post " +
+            "SET comment_count = GREATEST(comment_count + ?, 0) WHERE id = ?";
+
+    private static final String COMMENT_COUNT = "(SELECT COUNT(*) FROM Comment c WHERE c.post_id = p.id AND c.is_deleted = FALSE)";
+
+    private static final String RECONCILE_COMMENT_COUNTS = "UPDATE community_post p " +
+            "SET comment_count = " + COMMENT_COUNT + " " +
+            "WHERE p.id BETWEEN ? AND ? AND p.comment_count <> " + COMMENT_COUNT;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 조회수 증분 일괄 반영 (postId → 증분)
+     * - 전체 청크를 한 트랜잭션으로 반영 (일부 청크만 커밋된 뒤 실패하면 재시도 시 중복 집계되므로)
+     */
+    @Transactional
+    public void addViewCounts(Map<Long, Long> deltas, int chunkSize) {
+        List<Map.Entry<Long, Long>> rows = List.copyOf(deltas.entrySet());
+        jdbcTemplate.batchUpdate(ADD_VIEW_COUNT, rows, chunkSize, (ps, row) -> {
+            ps.setLong(1, row.getValue());
+            ps.setLong(2, row.getKey());
+        });
+    }
+
+    /**
+     * 반응 수 증분 반영 (음수가 되지 않도록 0에서 멈춤)
+     */
+    public void addReactionCounts(Long postId, int likeDelta, int dislikeDelta) {
+        jdbcTemplate.update(ADD_REACTION_COUNTS, likeDelta, dislikeDelta, postId);
+    }
+
+    /**
+     * [fromId, toId] 범위 게시글의 반응 수를 post_reaction 기준으로 보정 (보정된 게시글 수 반환)
+     */
+    public int reconcileReactionCounts(long fromId, long toId) {
+        return jdbcTemplate.update(RECONCILE_REACTION_COUNTS, fromId, toId);
+    }
+
+    /**
+     * 댓글 수 증분 반영 (음수가 되지 않도록 0에서 멈춤)
+     */
+    public void addCommentCount(Long postId, int delta) {
+        jdbcTemplate.update(ADD_COMMENT_COUNT, delta, postId);
+    }
+
+    /**
+     * [fromId, toId] 범위 게시글의 댓글 수를 삭제되지 않은 댓글 기준으로 보정 (보정된 게시글 수 반환)
+     */
+    public int reconcileCommentCounts(long fromId, long toId) {
+        return jdbcTemplate.update(RECONCILE_COMMENT_COUNTS, fromId, toId);
+    }
+
+    public long maxPostId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM community_post", Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.smart_healthcare.repository;
+
+import com.example.smart_healthcare.entity.RecommendationBatch;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 대량 추천 재생성 배치 Repository
+ */
+@Repository
+public interface RecommendationBatchRepository extends JpaRepository<RecommendationBatch, Long> {
+
+    /**
+     * 상태별 배치 조회 (완료 여부 폴링 대상)
+     */
+    List<RecommendationBatch> findByStatusOrderByIdAsc(RecommendationBatch.BatchStatus status);
+
+    Page<RecommendationBatch> findAllByOrderByIdDesc(Pageable pageable);
+}
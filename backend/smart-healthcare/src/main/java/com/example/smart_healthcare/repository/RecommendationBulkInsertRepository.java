@@ -0,0 +1,101 @@
+package com.example.smart_healthcare.repository;
+
+import com.example.smart_healthcare.entity.AIDietRecommendation;
+import com.example.smart_healthcare.entity.AIWorkoutRecommendation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 추천 결과 일괄 저장 (JDBC batch insert)
+ * - IDENTITY 키 엔티티는 Hibernate가 insert를 묶지 못하므로 대량 재생성 결과는 JdbcTemplate.batchUpdate로 저장
+ * - MySQL은 rewriteBatchedStatements=true로 다중 VALUES insert로 변환됨
+ */
+@Repository
+@RequiredArgsConstructor
+public class RecommendationBulkInsertRepository {
+
+    private static final String INSERT_WORKOUT = "INSERT INTO ai_workout_recommendation " +
+            "(user_id, inbody_record_id, goal, programName, weeklySchedule, caution, warmup, mainSets, cooldown, " +
+            "equipment, targetMuscles, expectedResults, workouts, recommendationMethod, created_at, is_deleted) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE)";
+
+    private static final String INSERT_DIET = "INSERT INTO ai_diet_recommendation " +
+            "(user_id, inbody_record_id, dietaryPreference, mealStyle, dailyCalories, macroSplit, sampleMenu, " +
+            "shoppingList, precautions, mealTiming, hydration, supplements, diets, recommendationMethod, created_at, is_deleted) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, FALSE)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 운동 추천 일괄 저장 (user/inbodyRecord 대신 ID 사용)
+     */
+    public void insertWorkouts(List<Row<AIWorkoutRecommendation>> rows, int chunkSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_WORKOUT, rows, chunkSize, (ps, row) -> {
+            AIWorkoutRecommendation e = row.entity();
+            ps.setLong(1, row.userId());
+            setNullableLong(ps, 2, row.inbodyRecordId());
+            ps.setString(3, truncate(e.getGoal(), 200));
+            ps.setString(4, truncate(e.getProgramName(), 100));
+            ps.setString(5, e.getWeeklySchedule());
+            ps.setString(6, e.getCaution());
+            ps.setString(7, e.getWarmup());
+            ps.setString(8, e.getMainSets());
+            ps.setString(9, e.getCooldown());
+            ps.setString(10, e.getEquipment());
+            ps.setString(11, e.getTargetMuscles());
+            ps.setString(12, e.getExpectedResults());
+            ps.setString(13, e.getWorkouts());
+            ps.setString(14, e.getRecommendationMethod());
+            ps.setTimestamp(15, now);
+        });
+    }
+
+    /**
+     * 식단 추천 일괄 저장 (user/inbodyRecord 대신 ID 사용)
+     */
+    public void insertDiets(List<Row<AIDietRecommendation>> rows, int chunkSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_DIET, rows, chunkSize, (ps, row) -> {
+            AIDietRecommendation e = row.entity();
+            ps.setLong(1, row.userId());
+            setNullableLong(ps, 2, row.inbodyRecordId());
+            ps.setString(3, truncate(e.getDietaryPreference(), 500));
+            ps.setString(4, e.getMealStyle());
+            ps.setString(5, truncate(e.getDailyCalories(), 200));
+            ps.setString(6, truncate(e.getMacroSplit(), 100));
+            ps.setString(7, e.getSampleMenu());
+            ps.setString(8, e.getShoppingList());
+            ps.setString(9, e.getPrecautions());
+            ps.setString(10, e.getMealTiming());
+            ps.setString(11, e.getHydration());
+            ps.setString(12, e.getSupplements());
+            ps.setString(13, e.getDiets());
+            ps.setString(14, e.getRecommendationMethod());
+            ps.setTimestamp(15, now);
+        });
+    }
+
+    private static void setNullableLong(java.sql.PreparedStatement ps, int index, Long value) throws java.sql.SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    /**
+     * 저장할 행 (엔티티 필드 변환은 toEntity 재사용)
+     */
+    public record Row<T>(Long userId, Long inbodyRecordId, T entity) {}
+}
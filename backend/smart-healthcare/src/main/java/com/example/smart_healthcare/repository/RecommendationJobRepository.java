@@ -0,0 +1,20 @@
+package com.example.smart_healthcare.repository;
+
+import com.example.smart_healthcare.entity.RecommendationJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * AI 추천 비동기 작업 Repository
+ */
+@Repository
+public interface RecommendationJobRepository extends JpaRepository<RecommendationJob, Long> {
+
+    /**
+     * 상태별 작업 조회 (재시작 시 미완료 작업 복구용)
+     */
+    List<RecommendationJob> findByStatusInOrderByIdAsc(Collection<RecommendationJob.JobStatus> statuses);
+}
@@ -0,0 +1,52 @@
+package com.example.smart_healthcare.repository;
+
+import com.example.smart_healthcare.entity.RecommendationJob;
+import com.example.smart_healthcare.entity.RecommendationTemplate;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 체형 클러스터별 추천 템플릿 Repository
+ */
+@Repository
+public interface RecommendationTemplateRepository extends JpaRepository<RecommendationTemplate, Long> {
+
+    Optional<RecommendationTemplate> findByTemplateTypeAndClusterKey(RecommendationJob.JobType templateType, String clusterKey);
+
+    List<RecommendationTemplate> findByStatus(RecommendationTemplate.Status status);
+
+    /**
+     * 생성 대상: 수요가 minDemand 이상인 PENDING 또는 staleBefore 이전에 생성된 READY (수요 많은 순)
+     */
+    @Query("SELECT t FROM RecommendationTemplate t WHERE t.isDeleted = false AND t.demandCount >= :minDemand " +
+           "AND (t.status = :pending OR t.generatedAt < :staleBefore) ORDER BY t.demandCount DESC")
+    List<RecommendationTemplate> findGenerationTargets(@Param("minDemand") int minDemand,
+                                                       @Param("pending") RecommendationTemplate.Status pending,
+                                                       @Param("staleBefore") LocalDateTime staleBefore,
+                                                       Pageable pageable);
+
+    /**
+     * 템플릿 사용 횟수 누적 (조회 경로에서 엔티티를 읽지 않도록 벌크 업데이트)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RecommendationTemplate t SET t.hitCount = t.hitCount + 1 WHERE t.templateType = :type AND t.clusterKey = :clusterKey")
+    int incrementHit(@Param("type") RecommendationJob.JobType type, @Param("clusterKey") String clusterKey);
+
+    /**
+     * 템플릿 수요 누적 (동시 요청에도 누락 없도록 원자적 증가, 행이 없으면 0 반환)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE RecommendationTemplate t SET t.demandCount = t.demandCount + 1 WHERE t.templateType = :type AND t.clusterKey = :clusterKey")
+    int incrementDemand(@Param("type") RecommendationJob.JobType type, @Param("clusterKey") String clusterKey);
+}
@@ -9,6 +9,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -25,6 +27,26 @@ public interface SurveyRepository extends JpaRepository<Survey, Long> {
     @Query("SELECT s FROM Survey s WHERE s.user.id = :userId AND s.isDeleted = false ORDER BY s.createdAt DESC")
     Page<Survey> findHistoryByUserId(@Param("userId") Long userId, Pageable pageable);
     
+    /**
+     * 사용자별 최신 설문 (대량 재생성 대상, id 기준 키셋 페이징)
+     */
+    @Query("SELECT s FROM Survey s JOIN FETCH s.user LEFT JOIN FETCH s.inbody WHERE s.id > :afterId AND s.id IN " +
+           "(SELECT MAX(s2.id) FROM Survey s2 WHERE s2.isDeleted = false GROUP BY s2.user.id) ORDER BY s.id")
+    List<Survey> findLatestPerUserAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 지정한 사용자들의 최신 설문 (대량 재생성 대상)
+     */
+    @Query("SELECT s FROM Survey s JOIN FETCH s.user LEFT JOIN FETCH s.inbody WHERE s.id IN " +
+           "(SELECT MAX(s2.id) FROM Survey s2 WHERE s2.isDeleted = false AND s2.user.id IN :userIds GROUP BY s2.user.id) ORDER BY s.id")
+    List<Survey> findLatestByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    /**
+     * id 목록으로 설문 일괄 조회 (배치 결과 복원용, 사용자 함께 로딩)
+     */
+    @Query("SELECT s FROM Survey s JOIN FETCH s.user WHERE s.id IN :ids")
+    List<Survey> findAllWithUserByIdIn(@Param("ids") Collection<Long> ids);
+
     /**
      * 사용자별 특정 설문조사 조회 (삭제용 보안 강화)
      */
@@ -1,11 +1,16 @@
 package com.example.smart_healthcare.service;
 
+import com.example.smart_healthcare.config.CacheConfig;
 import com.example.smart_healthcare.entity.User;
 import com.example.smart_healthcare.entity.CommunityPost;
 import com.example.smart_healthcare.entity.Comment;
+import com.example.smart_healthcare.event.PostIndexEvent;
 import com.example.smart_healthcare.repository.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -37,6 +42,8 @@ public class AdminService {
     private final SurveyRepository surveyRepository;
     private final CommunityPostRepository communityPostRepository;
     private final CommentRepository commentRepository;
+    private final PostCounterRepository postCounterRepository;
+    private final ApplicationEventPublisher eventPublisher;   // 검색 색인 갱신 (PostIndexEvent)
 
     /**
      * 관리자 대시보드 통계 조회
@@ -128,6 +135,10 @@ public class AdminService {
      * 사용자 역할 변경
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.USERS, key = "#userId"),
+            @CacheEvict(value = CacheConfig.USER_DETAILS, allEntries = true)
+    })
     public User updateUserRole(Long userId, User.Role newRole) {
         log.info("🔄 사용자 역할 변경 시작 - userId: {}, newRole: {}", userId, newRole);
         
@@ -147,6 +158,10 @@ public class AdminService {
      * 사용자 계정 활성화/비활성화
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.USERS, key = "#userId"),
+            @CacheEvict(value = CacheConfig.USER_DETAILS, allEntries = true)
+    })
     public User updateUserStatus(Long userId, boolean isDeleted) {
         log.info("🔄 사용자 상태 변경 시작 - userId: {}, isDeleted: {}", userId, isDeleted);
         
@@ -367,6 +382,7 @@ public class AdminService {
         
         post.delete(); // BaseEntity의 delete() 메서드 사용
         communityPostRepository.save(post);
+        eventPublisher.publishEvent(PostIndexEvent.delete(postId));
     }
 
     /**
@@ -379,6 +395,9 @@ public class AdminService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다: " + commentId));
         
+        if (!comment.getIsDeleted()) {
+            postCounterRepository.addCommentCount(comment.getPost().getId(), -1);
+        }
         comment.delete(); // BaseEntity의 delete() 메서드 사용
         commentRepository.save(comment);
     }
@@ -395,6 +414,7 @@ public class AdminService {
         
         post.setIsDeleted(false);
         communityPostRepository.save(post);
+        eventPublisher.publishEvent(PostIndexEvent.upsert(post));
     }
 
     /**
@@ -407,6 +427,9 @@ public class AdminService {
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new RuntimeException("댓글을 찾을 수 없습니다: " + commentId));
         
+        if (comment.getIsDeleted()) {
+            postCounterRepository.addCommentCount(comment.getPost().getId(), 1);
+        }
         comment.setIsDeleted(false);
         commentRepository.save(comment);
     }
@@ -541,6 +564,7 @@ public class AdminService {
      * 체형 분석 데이터 삭제 (관리자용)
      */
     @Transactional
+    @CacheEvict(value = CacheConfig.LATEST_BODY_ANALYSIS, allEntries = true)
     public void deleteAnalysisData(Long id) {
         log.info("🗑️ 체형 분석 데이터 삭제 - id: {}", id);
         
@@ -555,6 +579,7 @@ public class AdminService {
      * 운동 추천 데이터 삭제 (관리자용)
      */
     @Transactional
+    @CacheEvict(value = CacheConfig.LATEST_WORKOUT_RECOMMENDATION, allEntries = true)
     public void deleteWorkoutRecommendation(Long id) {
         log.info("🗑️ 운동 추천 데이터 삭제 - id: {}", id);
         
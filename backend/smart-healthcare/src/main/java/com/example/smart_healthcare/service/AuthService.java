@@ -2,6 +2,7 @@ package com.example.smart_healthcare.service;
 
 import com.example.smart_healthcare.common.error.BusinessException;
 import com.example.smart_healthcare.common.error.ErrorCode;
+import com.example.smart_healthcare.config.CacheConfig;
 import com.example.smart_healthcare.dto.response.AuthResponseDto;
 import com.example.smart_healthcare.dto.response.UserResponseDto;
 import com.example.smart_healthcare.entity.User;
@@ -9,6 +10,8 @@ import com.example.smart_healthcare.repository.UserRepository;
 import com.example.smart_healthcare.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -303,6 +306,10 @@ public class AuthService {
      * 사용자 저장
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.USERS, allEntries = true),
+            @CacheEvict(value = CacheConfig.USER_DETAILS, allEntries = true)
+    })
     public User saveUser(User user) {
         return userRepository.save(user);
     }
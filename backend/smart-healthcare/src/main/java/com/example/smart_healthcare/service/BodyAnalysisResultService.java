@@ -1,5 +1,6 @@
 package com.example.smart_healthcare.service;
 
+import com.example.smart_healthcare.config.CacheConfig;
 import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
 import com.example.smart_healthcare.dto.response.BodyAnalysisResponseDto;
 import com.example.smart_healthcare.entity.AIBodyAnalysisResult;
@@ -9,6 +10,8 @@ import com.example.smart_healthcare.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -37,6 +40,7 @@ public class BodyAnalysisResultService {
      * - 인바디 기록은 생성하지 않고 AI 분석 결과만 저장
      */
     @Transactional
+    @CacheEvict(value = CacheConfig.LATEST_BODY_ANALYSIS, key = "#request.userId()")
     public BodyAnalysisResponseDto saveAnalysisResult(InbodyDataRequestDto request, String aiAnalysisResult) {
         log.info("체형 분석 결과 저장 시작: userId={}", request.userId());
         
@@ -79,6 +83,7 @@ public class BodyAnalysisResultService {
      * 사용자별 최신 체형 분석 결과 조회
      */
     @Transactional(readOnly = true)
+    @Cacheable(value = CacheConfig.LATEST_BODY_ANALYSIS, key = "#userId")
     public BodyAnalysisResponseDto getLatestAnalysisByUserId(Long userId) {
         log.info("🔍 최신 체형 분석 조회 시작: userId={}", userId);
         
@@ -136,6 +141,7 @@ public class BodyAnalysisResultService {
      * 사용자별 모든 체형 분석 결과 논리삭제 (사용자 탈퇴 시 사용)
      */
     @Transactional
+    @CacheEvict(value = CacheConfig.LATEST_BODY_ANALYSIS, key = "#userId")
     public int deleteAllAnalysisByUserId(Long userId) {
         log.info("사용자별 체형 분석 결과 논리삭제: userId={}", userId);
         
@@ -153,6 +159,7 @@ public class BodyAnalysisResultService {
      * 특정 체형 분석 결과 논리삭제
      */
     @Transactional
+    @CacheEvict(value = CacheConfig.LATEST_BODY_ANALYSIS, allEntries = true)
     public int deleteAnalysisById(Long id) {
         log.info("체형 분석 결과 논리삭제: id={}", id);
         
@@ -2,20 +2,26 @@ package com.example.smart_healthcare.service;
 
 import com.example.smart_healthcare.common.error.BusinessException;
 import com.example.smart_healthcare.common.error.ErrorCode;
+import com.example.smart_healthcare.common.dto.CursorPageDto;
+import com.example.smart_healthcare.common.util.PageCursor;
 import com.example.smart_healthcare.dto.response.CommentResponseDto;
 import com.example.smart_healthcare.entity.Comment;
 import com.example.smart_healthcare.entity.CommunityPost;
 import com.example.smart_healthcare.entity.User;
 import com.example.smart_healthcare.repository.CommentRepository;
 import com.example.smart_healthcare.repository.CommunityPostRepository;
+import com.example.smart_healthcare.repository.PostCounterRepository;
 import com.example.smart_healthcare.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -25,6 +31,10 @@ public class CommentService {
     private final CommentRepository commentRepo;
     private final CommunityPostRepository communityPostRepo;
     private final UserRepository userRepo;
+    private final PostCounterRepository postCounterRepository;   // 게시글 comment_count 증분 반영
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final String CURSOR_SORT = "comments";
     
     // ===== 댓글 조회 =====
     
@@ -43,6 +53,23 @@ public class CommentService {
         return comments.map(CommentResponseDto::toDto);
     }
     
+    /**
+     * 게시글별 댓글 커서 조회 (생성일순, COUNT 쿼리 없음)
+     * 
+     * cursor가 없으면 첫 페이지, 응답의 nextCursor로 다음 페이지를 조회합니다.
+     */
+    public CursorPageDto<CommentResponseDto> getCommentsByCursor(Long postId, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        PageCursor position = cursor != null && !cursor.isBlank() ? PageCursor.decode(cursor, CURSOR_SORT) : null;
+
+        List<Comment> rows = commentRepo.findByPostIdAfter(postId,
+                position != null ? position.dateValue() : PageCursor.MIN_DATE,
+                position != null ? position.id() : 0L,
+                PageRequest.of(0, limit + 1));
+        return CursorPageDto.of(rows, limit, CommentResponseDto::toDto,
+                comment -> new PageCursor(CURSOR_SORT, comment.getCreatedAt().toString(), comment.getId()).encode());
+    }
+    
     // ===== 댓글 생성 =====
     
     /**
@@ -105,6 +132,7 @@ public class CommentService {
         }
         
         Comment savedComment = commentRepo.save(comment);
+        postCounterRepository.addCommentCount(postId, 1);
         log.info("댓글 저장 완료: commentId={}", savedComment.getId());
         
         // TODO: 댓글 알림 기능은 향후 구현 예정
@@ -159,6 +187,7 @@ public class CommentService {
         // 논리삭제 (BaseEntity의 delete() 메서드 사용)
         comment.delete();
         commentRepo.save(comment);
+        postCounterRepository.addCommentCount(comment.getPost().getId(), -1);
         
         log.info("댓글 삭제 완료: commentId={}, authorId={}", commentId, authorId);
     }
@@ -183,6 +212,7 @@ public class CommentService {
         // 논리삭제 (BaseEntity의 delete() 메서드 사용)
         comment.delete();
         commentRepo.save(comment);
+        postCounterRepository.addCommentCount(comment.getPost().getId(), -1);
         
         log.info("관리자 댓글 삭제 완료: commentId={}", commentId);
     }
@@ -0,0 +1,190 @@
+package com.example.smart_healthcare.service;
+
+import com.example.smart_healthcare.common.util.PageCursor;
+import com.example.smart_healthcare.config.CacheConfig;
+import com.example.smart_healthcare.dto.response.PostResponseDto;
+import com.example.smart_healthcare.entity.CommunityPost;
+import com.example.smart_healthcare.entity.CommunityPost.PostCategory;
+import com.example.smart_healthcare.entity.PostReaction;
+import com.example.smart_healthcare.event.PostIndexEvent;
+import com.example.smart_healthcare.event.ReactionEvent;
+import com.example.smart_healthcare.repository.CommunityPostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 커뮤니티 목록 앞 페이지 캐시 (정렬 × 카테고리별 상위 window-size건)
+ * - 검색 조건 없는 최신순/인기순 목록의 앞 페이지를 변환이 끝난 DTO로 메모리에서 제공
+ * - 게시글 작성/수정/삭제 시 관련 피드만 무효화하고 다음 조회에서 한 번 재구성 (동시 조회는 합쳐짐)
+ * - 반응 이벤트는 캐시된 DTO의 반응 수를 바로 고치고 인기순은 다시 정렬, 창 밖 게시글이 순위에 들면 해당 피드만 무효화
+ * - 조회수/댓글 수는 TTL(cache.community-feed.ttl-seconds) 동안 늦게 반영될 수 있음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommunityFeedCache {
+
+    private static final String RECENT = "recent";
+    private static final String POPULAR = "popular";
+    private static final String LIKE = PostReaction.ReactionType.LIKE.name();
+    private static final String DISLIKE = PostReaction.ReactionType.DISLIKE.name();
+    private static final Comparator<PostResponseDto> BY_POPULARITY = Comparator
+            .comparing(PostResponseDto::getLikeCount, Comparator.reverseOrder())
+            .thenComparing(PostResponseDto::getId, Comparator.reverseOrder());
+
+    private final CommunityPostRepository communityPostRepo;
+    private final CacheManager cacheManager;
+
+    @Value("${community.feed.window-size:60}")
+    private int windowSize;
+
+    /**
+     * 피드 키: 정렬(recent/popular) + 카테고리(null이면 전체)
+     */
+    public record FeedKey(String sort, PostCategory category) {}
+
+    /**
+     * 캐시된 피드: 정렬된 상위 게시글, 전체 건수, 전체 게시글이 창 안에 들어 있는지 여부
+     */
+    public record FeedWindow(List<PostResponseDto> posts, long totalElements, boolean complete) {
+
+        boolean contains(Long postId) {
+            return posts.stream().anyMatch(post -> post.getId().equals(postId));
+        }
+    }
+
+    /**
+     * 캐시 대상 페이지면 캐시(없으면 재구성)에서 반환, 아니면 empty → DB 조회
+     * - 호출 측 읽기 트랜잭션 안에서 재구성되어 태그 등 지연 로딩 값까지 DTO에 채워짐
+     */
+    public Optional<Page<PostResponseDto>> findPage(String sortType, PostCategory category, Pageable pageable) {
+        if (!(RECENT.equals(sortType) || POPULAR.equals(sortType))
+                || (long) (pageable.getPageNumber() + 1) * pageable.getPageSize() > windowSize) {
+            return Optional.empty();
+        }
+        FeedKey key = new FeedKey(sortType, category);
+        FeedWindow window = cache().get(key, () -> load(key));
+        int from = (int) Math.min(pageable.getOffset(), window.posts().size());
+        int to = Math.min(from + pageable.getPageSize(), window.posts().size());
+        return Optional.of(new PageImpl<>(window.posts().subList(from, to), pageable, window.totalElements()));
+    }
+
+    /**
+     * 게시글 작성/수정/복원/삭제 커밋 후: 해당 카테고리/전체 피드와 이 게시글이 들어 있는 피드 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostIndexEvent event) {
+        ConcurrentMap<Object, Object> feeds = feeds();
+        feeds.entrySet().removeIf(entry -> {
+            FeedKey key = (FeedKey) entry.getKey();
+            return key.category() == null
+                    || key.category() == event.getCategory()
+                    || ((FeedWindow) entry.getValue()).contains(event.getPostId());
+        });
+    }
+
+    /**
+     * 반응 커밋 후: 캐시된 DTO의 반응 수 갱신 (인기순은 재정렬), 창 밖 게시글이 인기순에 들면 그 피드만 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onReaction(ReactionEvent event) {
+        int likeDelta = event.deltaOf(LIKE);
+        int dislikeDelta = event.deltaOf(DISLIKE);
+        if (likeDelta == 0 && dislikeDelta == 0) {
+            return;
+        }
+        ConcurrentMap<Object, Object> feeds = feeds();
+        List<FeedKey> popularMisses = new ArrayList<>();
+        feeds.forEach((key, value) -> {
+            FeedKey feedKey = (FeedKey) key;
+            FeedWindow window = (FeedWindow) value;
+            if (window.contains(event.getPostId())) {
+                feeds.computeIfPresent(key, (k, current) ->
+                        applyReaction(feedKey, (FeedWindow) current, event.getPostId(), likeDelta, dislikeDelta));
+            } else if (POPULAR.equals(feedKey.sort()) && likeDelta > 0 && !window.complete()) {
+                popularMisses.add(feedKey);
+            }
+        });
+        if (!popularMisses.isEmpty()) {
+            evictIfRanked(event.getPostId(), popularMisses);
+        }
+    }
+
+    private FeedWindow load(FeedKey key) {
+        PageRequest limit = PageRequest.of(0, windowSize);
+        List<CommunityPost> posts = POPULAR.equals(key.sort())
+                ? communityPostRepo.findFeedByLikeCount(key.category(), Integer.MAX_VALUE, Long.MAX_VALUE, limit)
+                : communityPostRepo.findFeedByCreatedAt(key.category(), PageCursor.MAX_DATE, Long.MAX_VALUE, limit);
+        List<PostResponseDto> dtos = posts.stream().map(PostResponseDto::toDto).toList();
+        long total = posts.size() < windowSize ? posts.size() : communityPostRepo.countFeed(key.category());
+        log.debug("커뮤니티 피드 캐시 재구성: sort={}, category={}, {}건", key.sort(), key.category(), dtos.size());
+        return new FeedWindow(dtos, total, posts.size() < windowSize);
+    }
+
+    private static FeedWindow applyReaction(FeedKey key, FeedWindow window, Long postId, int likeDelta, int dislikeDelta) {
+        List<PostResponseDto> posts = new ArrayList<>(window.posts().size());
+        for (PostResponseDto post : window.posts()) {
+            posts.add(post.getId().equals(postId) ? withReactionDelta(post, likeDelta, dislikeDelta) : post);
+        }
+        if (POPULAR.equals(key.sort())) {
+            posts.sort(BY_POPULARITY);
+            // 창 끝 게시글의 좋아요가 줄면 창 밖 게시글이 앞설 수 있어 다음 조회에서 재구성
+            if (likeDelta < 0 && !window.complete() && posts.get(posts.size() - 1).getId().equals(postId)) {
+                return null;
+            }
+        }
+        return new FeedWindow(List.copyOf(posts), window.totalElements(), window.complete());
+    }
+
+    /**
+     * 창 밖 게시글의 좋아요 수가 인기순 창의 마지막 게시글 이상이면 해당 피드 무효화
+     */
+    private void evictIfRanked(Long postId, List<FeedKey> keys) {
+        communityPostRepo.findById(postId).ifPresent(post -> {
+            ConcurrentMap<Object, Object> feeds = feeds();
+            for (FeedKey key : keys) {
+                if (key.category() != null && key.category() != post.getCategory()) {
+                    continue;
+                }
+                feeds.computeIfPresent(key, (k, current) -> {
+                    List<PostResponseDto> posts = ((FeedWindow) current).posts();
+                    return posts.isEmpty() || post.getLikeCount() >= posts.get(posts.size() - 1).getLikeCount()
+                            ? null : current;
+                });
+            }
+        });
+    }
+
+    private static PostResponseDto withReactionDelta(PostResponseDto post, int likeDelta, int dislikeDelta) {
+        return new PostResponseDto(post.getId(), post.getTitle(), post.getContent(), post.getCategory(), post.getTags(),
+                post.getAuthorId(), post.getAuthorName(), post.getCreatedAt(), post.getUpdatedAt(), post.getIsEdited(),
+                post.getViewCount(),
+                Math.max(post.getLikeCount() + likeDelta, 0),
+                Math.max(post.getDislikeCount() + dislikeDelta, 0),
+                post.getCommentCount());
+    }
+
+    private CaffeineCache cache() {
+        return (CaffeineCache) cacheManager.getCache(CacheConfig.COMMUNITY_FEED);
+    }
+
+    private ConcurrentMap<Object, Object> feeds() {
+        return cache().getNativeCache().asMap();
+    }
+}
@@ -10,8 +10,13 @@ import com.example.smart_healthcare.dto.request.PostRequestDto;
 import com.example.smart_healthcare.dto.response.PostResponseDto;
 import com.example.smart_healthcare.common.error.BusinessException;
 import com.example.smart_healthcare.common.error.ErrorCode;
+import com.example.smart_healthcare.common.dto.CursorPageDto;
+import com.example.smart_healthcare.common.util.PageCursor;
+import com.example.smart_healthcare.event.PostIndexEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -29,7 +34,13 @@ public class CommunityService {
     
     private final CommunityPostRepository communityPostRepo;
     private final UserRepository userRepo;
-    private final PostReactionRepository postReactionRepo;
+    private final PostViewCountBuffer viewCountBuffer;
+    private final PostSearchIndex postSearchIndex;
+    private final CommunityFeedCache feedCache;
+    private final ApplicationEventPublisher eventPublisher;   // 검색 색인 갱신 (PostIndexEvent)
+
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+
 
     // ===== 게시글 관리 =====
     
@@ -53,11 +64,16 @@ public class CommunityService {
         
         // 저장 및 반환
         CommunityPost savedPost = communityPostRepo.save(post);
+        eventPublisher.publishEvent(PostIndexEvent.upsert(savedPost));
         return PostResponseDto.toDto(savedPost);
     }
     
     /**
      * 통합 게시글 목록 조회 (페이지네이션, 정렬, 검색, 필터)
+     * - 검색어(통합/제목/내용)가 있으면 relevance/recent는 검색 색인에서 정렬·페이징 (관련도 순 / 작성일 순)
+     * - 좋아요/댓글/조회수 정렬은 카운터가 DB에만 있으므로 검색어가 있어도 DB LIKE 검색으로 정렬·페이징
+     * - 검색어 없이 카테고리/작성자/기간만 있으면 DB 조건 조회, 색인 재구성 중에는 DB LIKE 검색으로 대체
+     * - 조건 없는(카테고리만 허용) 최신순/인기순 앞 페이지는 CommunityFeedCache에서 반환
      */
     @Transactional(readOnly = true)
     public Page<PostResponseDto> getPosts(
@@ -72,14 +88,28 @@ public class CommunityService {
             case "comments" -> "commentCount";   // 댓글 수
             case "views"    -> "viewCount";      // 조회수
             case "recent"   -> "createdAt";      // 최신순
+            case "relevance" -> "createdAt";     // 관련도순 (검색어가 없으면 최신순)
             default         -> "createdAt";
         };
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, sortProperty));
         
-        // 검색 조건이 있으면 고급 검색, 없으면 기본 조회
+        PostSearchIndex.SearchCondition condition = new PostSearchIndex.SearchCondition(
+                search, title, content, category, authorId, startDate, endDate);
+
+        // 검색어/작성자/기간 조건이 없는 최신순·인기순 앞 페이지는 피드 캐시에서 반환
+        if (!condition.hasText() && authorId == null && startDate == null && endDate == null) {
+            Optional<Page<PostResponseDto>> cached = feedCache.findPage(sortType != null ? sortType : "recent", category, pageable);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+        }
+
+        // 검색어가 있으면 검색 색인, 조건만 있으면 고급 검색, 없으면 기본 조회
         Page<CommunityPost> posts;
-        if (hasSearchConditions(search, title, content, category, authorId, startDate, endDate)) {
+        if (condition.hasText() && postSearchIndex.isReady() && "createdAt".equals(sortProperty)) {
+            return searchIndex(condition, "relevance".equals(sortType), page, size);
+        } else if (hasSearchConditions(search, title, content, category, authorId, startDate, endDate)) {
             // 검색어에 % 추가 (LIKE 쿼리용)
             String searchKeyword = search != null && !search.isBlank() ? "%" + search + "%" : null;
             String searchTitle = title != null && !title.isBlank() ? "%" + title + "%" : null;
@@ -96,6 +126,62 @@ public class CommunityService {
         return posts.map(PostResponseDto::toDto);
     }
 
+    /**
+     * 커서 기반 게시글 목록 조회 (정렬 키 + id 기준, COUNT 쿼리 없음)
+     * - sortType: recent(createdAt), popular(likeCount), comments(commentCount), views(viewCount)
+     * - cursor가 없으면 첫 페이지, 응답의 nextCursor로 다음 페이지 조회
+     */
+    @Transactional(readOnly = true)
+    public CursorPageDto<PostResponseDto> getPostsByCursor(String sortType, PostCategory category, String cursor, int size) {
+        String sort = switch (sortType != null ? sortType : "recent") {
+            case "popular", "comments", "views" -> sortType;
+            default -> "recent";
+        };
+        int limit = Math.min(Math.max(size, 1), MAX_CURSOR_PAGE_SIZE);
+        PageCursor position = cursor != null && !cursor.isBlank() ? PageCursor.decode(cursor, sort) : null;
+        long lastId = position != null ? position.id() : Long.MAX_VALUE;
+        int lastCount = position != null && !"recent".equals(sort) ? position.intValue() : Integer.MAX_VALUE;
+        Pageable pageable = PageRequest.of(0, limit + 1);
+
+        List<CommunityPost> rows = switch (sort) {
+            case "popular"  -> communityPostRepo.findFeedByLikeCount(category, lastCount, lastId, pageable);
+            case "comments" -> communityPostRepo.findFeedByCommentCount(category, lastCount, lastId, pageable);
+            case "views"    -> communityPostRepo.findFeedByViewCount(category, lastCount, lastId, pageable);
+            default         -> communityPostRepo.findFeedByCreatedAt(category,
+                    position != null ? position.dateValue() : PageCursor.MAX_DATE, lastId, pageable);
+        };
+        return CursorPageDto.of(rows, limit, PostResponseDto::toDto,
+                post -> new PageCursor(sort, sortValueOf(sort, post), post.getId()).encode());
+    }
+
+    private static String sortValueOf(String sort, CommunityPost post) {
+        return switch (sort) {
+            case "popular"  -> String.valueOf(post.getLikeCount());
+            case "comments" -> String.valueOf(post.getCommentCount());
+            case "views"    -> String.valueOf(post.getViewCount());
+            default         -> post.getCreatedAt().toString();
+        };
+    }
+
+    /**
+     * 검색 색인의 관련도 순/최신순 페이지 (색인 순서대로 게시글 조회)
+     */
+    private Page<PostResponseDto> searchIndex(PostSearchIndex.SearchCondition condition, boolean byRelevance,
+                                              int page, int size) {
+        PostSearchIndex.Hits hits = byRelevance
+                ? postSearchIndex.search(condition, page * size, size)
+                : postSearchIndex.searchRecent(condition, page * size, size);
+        Map<Long, CommunityPost> postsById = new HashMap<>();
+        communityPostRepo.findAllById(hits.ids()).forEach(post -> postsById.put(post.getId(), post));
+
+        List<PostResponseDto> content = hits.ids().stream()
+                .map(postsById::get)
+                .filter(post -> post != null && !post.getIsDeleted())
+                .map(PostResponseDto::toDto)
+                .toList();
+        return new PageImpl<>(content, PageRequest.of(page, size), hits.totalHits());
+    }
+
     /**
      * 검색 조건 존재 여부 확인
      */
@@ -112,23 +198,21 @@ public class CommunityService {
     }
 
     /**
-     * 게시글 상세 조회 (조회수 증가, 반응 수 실시간 계산)
+     * 게시글 상세 조회 (읽기 전용)
+     * - 조회수는 PostViewCountBuffer에 누적 후 주기적으로 일괄 반영, 응답에는 미반영분을 더해 표시
+     * - 반응 수는 반응 이벤트로 갱신되는 like_count/dislike_count를 그대로 사용
      */
-    @Transactional
-    public CommunityPost getPostById(Long id) {
+    @Transactional(readOnly = true)
+    public PostResponseDto getPostById(Long id) {
         CommunityPost post = communityPostRepo.findById(id)
                 .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
         
-        // 조회수 증가
-        post.incrementViewCount();
+        // 조회수 증가 (write-behind)
+        viewCountBuffer.increment(id);
         
-        // 반응 수 실시간 계산
-        long likeCount = postReactionRepo.countByPostIdAndTypeAndIsDeletedFalse(id, PostReaction.ReactionType.LIKE);
-        long dislikeCount = postReactionRepo.countByPostIdAndTypeAndIsDeletedFalse(id, PostReaction.ReactionType.DISLIKE);
-        
-        post.updateReactionCounts((int) likeCount, (int) dislikeCount);
-        
-        return communityPostRepo.save(post);
+        PostResponseDto response = PostResponseDto.toDto(post);
+        response.setViewCount((int) (post.getViewCount() + viewCountBuffer.pendingOf(id)));
+        return response;
     }
 
 
@@ -147,7 +231,9 @@ public class CommunityService {
         post.patch(title, content, category, tags, authorId);
         
         log.info("게시글 수정 완료: id={}, authorId={}", id, authorId);
-        return communityPostRepo.save(post);
+        CommunityPost savedPost = communityPostRepo.save(post);
+        eventPublisher.publishEvent(PostIndexEvent.upsert(savedPost));
+        return savedPost;
     }
 
     /**
@@ -166,6 +252,7 @@ public class CommunityService {
         // 논리삭제 (BaseEntity의 delete() 메서드 사용)
         post.delete();
         communityPostRepo.save(post);
+        eventPublisher.publishEvent(PostIndexEvent.delete(id));
     }
     
     /**
@@ -187,6 +274,7 @@ public class CommunityService {
         // 논리삭제 (BaseEntity의 delete() 메서드 사용)
         post.delete();
         communityPostRepo.save(post);
+        eventPublisher.publishEvent(PostIndexEvent.delete(id));
         
         log.info("관리자 게시글 삭제 완료: id={}", id);
     }   
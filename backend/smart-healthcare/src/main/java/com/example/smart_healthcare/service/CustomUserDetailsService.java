@@ -1,9 +1,11 @@
 package com.example.smart_healthcare.service;
 
+import com.example.smart_healthcare.config.CacheConfig;
 import com.example.smart_healthcare.entity.User;
 import com.example.smart_healthcare.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,8 +24,12 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    /**
+     * 이메일로 인증 사용자 조회 (JWT 필터가 매 요청 호출하므로 캐시, 사용자 변경 시 무효화)
+     */
     @Override
     @Transactional(readOnly = true)
+    @Cacheable(value = CacheConfig.USER_DETAILS, key = "#email")
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         log.info("사용자 인증 요청: email={}", email);
         
@@ -0,0 +1,98 @@
+package com.example.smart_healthcare.service;
+
+import com.example.smart_healthcare.common.error.BusinessException;
+import com.example.smart_healthcare.common.error.ErrorCode;
+import com.example.smart_healthcare.config.CacheConfig;
+import com.example.smart_healthcare.entity.ExerciseVideo;
+import com.example.smart_healthcare.repository.ExerciseVideoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 운동 → YouTube 영상 인덱스 서비스
+ * - 정규화 키(ExerciseAliases.normalize)로 READY 영상을 조회 (로컬 캐시 → DB 인덱스 순)
+ * - 인덱스에 없는 운동은 API 조회 결과로 등록하고, 영상을 찾지 못한 항목은 PENDING으로 남겨 백그라운드에서 재시도
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ExerciseVideoIndexService {
+
+    private static final String VIDEO_URL_PREFIX = "https://www.youtube.com/watch?v=";
+
+    private final ExerciseVideoRepository exerciseVideoRepository;
+
+    /**
+     * 정규화 키의 영상 URL 조회 (없으면 null, null은 캐시하지 않음)
+     */
+    @Cacheable(value = CacheConfig.EXERCISE_VIDEOS, key = "#exerciseKey", unless = "#result == null")
+    public String findVideoUrl(String exerciseKey) {
+        return exerciseVideoRepository.findByExerciseKeyAndStatus(exerciseKey, ExerciseVideo.Status.READY)
+                .map(ExerciseVideo::getVideoUrl)
+                .orElse(null);
+    }
+
+    /**
+     * API 조회 결과 등록 (실제 영상이면 READY, 검색 링크 fallback이면 PENDING으로 등록만)
+     */
+    @Transactional
+    @CacheEvict(value = CacheConfig.EXERCISE_VIDEOS, key = "#exerciseKey")
+    public void register(String exerciseKey, String displayName, String searchQuery, String videoUrl) {
+        ExerciseVideo video = exerciseVideoRepository.findByExerciseKey(exerciseKey)
+                .orElseGet(() -> ExerciseVideo.builder()
+                        .exerciseKey(exerciseKey)
+                        .displayName(truncate(displayName, 100))
+                        .searchQuery(truncate(searchQuery, 255))
+                        .build());
+        if (isVideoUrl(videoUrl)) {
+            video.markReady(videoUrl);
+        }
+        if (video.getId() == null) {
+            exerciseVideoRepository.save(video);
+            log.info("🗂️ 운동 영상 인덱스 등록: key={}, status={}", exerciseKey, video.getStatus());
+        }
+    }
+
+    /**
+     * 갱신 대상 (PENDING + TTL이 지난 항목)
+     */
+    public List<ExerciseVideo> findRefreshTargets(int ttlHours, int limit) {
+        return exerciseVideoRepository.findRefreshTargets(ExerciseVideo.Status.PENDING,
+                LocalDateTime.now().minusHours(ttlHours), PageRequest.of(0, limit));
+    }
+
+    /**
+     * 백그라운드 갱신 결과 저장 (영상을 찾지 못하면 NOT_FOUND, TTL 이후 다시 시도)
+     */
+    @Transactional
+    @CacheEvict(value = CacheConfig.EXERCISE_VIDEOS, key = "#exerciseKey")
+    public void storeRefreshed(Long id, String exerciseKey, String videoUrl) {
+        ExerciseVideo video = exerciseVideoRepository.findById(id)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "운동 영상 인덱스를 찾을 수 없습니다."));
+        if (isVideoUrl(videoUrl)) {
+            video.markReady(videoUrl);
+        } else if (video.getStatus() != ExerciseVideo.Status.READY) {
+            // 기존 READY 영상은 갱신 실패 시에도 유지
+            video.markNotFound();
+        } else {
+            video.setRefreshedAt(LocalDateTime.now());
+        }
+    }
+
+    public static boolean isVideoUrl(String url) {
+        return url != null && url.startsWith(VIDEO_URL_PREFIX);
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.smart_healthcare.service;
+
+import com.example.smart_healthcare.entity.FoodImageCache;
+import com.example.smart_healthcare.repository.FoodImageCacheRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * 이미지 URL DB 캐시 서비스 (ImageService의 L2)
+ * - 외부 API 호출은 ImageService에서 트랜잭션 밖으로 처리하고, 여기서는 짧은 트랜잭션으로 조회/저장만 수행
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class ImageCacheService {
+
+    private final FoodImageCacheRepository foodImageCacheRepository;
+
+    public Optional<String> findImageUrl(FoodImageCache.ImageType type, String name) {
+        return foodImageCacheRepository.findCached(type, name).map(FoodImageCache::getImageUrl);
+    }
+
+    /**
+     * 이미지 URL 저장 (이미 있으면 URL만 갱신)
+     */
+    @Transactional
+    public void save(FoodImageCache.ImageType type, String name, String imageUrl) {
+        FoodImageCache cache = foodImageCacheRepository.findCached(type, name).orElseGet(FoodImageCache::new);
+        cache.setFoodName(name);
+        cache.setImageUrl(imageUrl);
+        cache.setImageType(type);
+        if (cache.getId() == null) {
+            foodImageCacheRepository.save(cache);
+        }
+        log.info("이미지 URL 캐시 저장 완료: type={}, name={}", type, name);
+    }
+
+    /**
+     * 이미지 URL 삭제 (삭제 여부 반환)
+     */
+    @Transactional
+    public boolean delete(FoodImageCache.ImageType type, String name) {
+        Optional<FoodImageCache> cached = foodImageCacheRepository.findCached(type, name);
+        cached.ifPresent(foodImageCacheRepository::delete);
+        return cached.isPresent();
+    }
+
+    public long countAll() {
+        return foodImageCacheRepository.countAllCachedImages();
+    }
+}
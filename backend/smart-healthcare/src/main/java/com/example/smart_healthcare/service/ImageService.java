@@ -2,101 +2,200 @@ package com.example.smart_healthcare.service;
 
 import com.example.smart_healthcare.common.error.BusinessException;
 import com.example.smart_healthcare.common.error.ErrorCode;
+import com.example.smart_healthcare.common.util.SingleFlight;
+import com.example.smart_healthcare.config.CacheConfig;
 import com.example.smart_healthcare.entity.FoodImageCache;
-import com.example.smart_healthcare.repository.FoodImageCacheRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * 음식/운동 이미지 URL 조회 서비스
+ * - L1: 로컬 캐시(Caffeine, 크기/TTL 제한) → L2: DB 캐시(food_image_cache) → Unsplash API 순으로 조회
+ * - 같은 이름의 동시 미스는 L1 로더 하나로 합쳐 Unsplash를 한 번만 호출
+ * - Unsplash 호출은 트랜잭션 밖에서 수행하고, DB 저장은 ImageCacheService의 짧은 트랜잭션으로 처리
+ */
 @Slf4j
 @Service 
 @RequiredArgsConstructor
 public class ImageService {
     
-    private final FoodImageCacheRepository foodImageCacheRepository;
+    private static final int MAX_PERSISTED_NAME_LENGTH = 100;
+
+    // L1 로더 밖(캐시 만료 직후 등)에서도 같은 검색어는 Unsplash를 한 번만 호출
+    private final SingleFlight<String, String> inFlightFetches = new SingleFlight<>();
+
+    private final ImageCacheService imageCacheService;
     private final RestTemplate restTemplate;
+    private final CacheManager cacheManager;
+    private final Executor imageLookupExecutor;
     
     @Value("${unsplash.access.key:}")
     private String unsplashAccessKey;
 
+    @Value("${image.bulk.max-names:100}")
+    private int bulkMaxNames;
+
+    @Value("${image.bulk.timeout-ms:10000}")
+    private long bulkTimeoutMs;
+
     /**
-     * 음식 이미지 URL 반환 (캐싱)
+     * 음식 이미지 URL 반환 (로컬 캐시 → DB 캐시 → Unsplash 순)
      */
-    @Transactional(readOnly = true)
     public String getImageUrl(String foodName) {
         log.info("음식 이미지 URL 요청: foodName={}", foodName);
-        
-        try {
-            // 캐시에서 먼저 확인
-            var cached = foodImageCacheRepository.findByFoodName(foodName);
-            if (cached.isPresent()) {
-                log.info("캐시에서 이미지 URL 반환: foodName={}", foodName);
-                return cached.get().getImageUrl();
-            }
-            
-            // API에서 가져오기
-            String url = fetchFromApi(foodName, "food");
-            saveToCache(foodName, url);
-            
-            log.info("API에서 이미지 URL 가져오기 완료: foodName={}", foodName);
-            return url;
-        } catch (Exception e) {
-            log.error("이미지 URL 가져오기 실패: foodName={}, error={}", foodName, e.getMessage());
-            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "이미지 URL 가져오기 실패: " + e.getMessage());
-        }
+        return getCached(FoodImageCache.ImageType.FOOD, foodName);
     }
 
     /**
-     * 운동 이미지 URL 반환
+     * 운동 이미지 URL 반환 (로컬 캐시 → DB 캐시 → Unsplash 순)
      */
-    @Transactional(readOnly = true)
     public String getWorkoutImageUrl(String workoutName) {
         log.info("운동 이미지 URL 요청: workoutName={}", workoutName);
-        
-        try {
-            // 운동 이미지는 캐시하지 않고 직접 API 호출
-            String url = fetchFromApi(workoutName, "exercise");
-            log.info("API에서 운동 이미지 URL 가져오기 완료: workoutName={}", workoutName);
-            return url;
-        } catch (Exception e) {
-            log.error("운동 이미지 URL 가져오기 실패: workoutName={}, error={}", workoutName, e.getMessage());
-            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "운동 이미지 URL 가져오기 실패: " + e.getMessage());
+        return getCached(FoodImageCache.ImageType.EXERCISE, workoutName);
+    }
+
+    /**
+     * 여러 이미지 URL 일괄 조회 (식단 계획 전체 등)
+     * - 중복 제거 후 imageLookupExecutor에서 동시에 조회하고, bulkTimeoutMs 안에 성공한 결과만 반환 (이름 → URL)
+     * - Unsplash 호출은 RestTemplate 타임아웃으로 제한되고, 조회 풀이 포화되면 해당 이름은 건너뜀
+     */
+    public CompletableFuture<Map<String, String>> getImageUrlsAsync(FoodImageCache.ImageType type, Collection<String> names) {
+        List<String> distinctNames = names.stream()
+                .filter(name -> name != null && !name.isBlank())
+                .map(String::trim)
+                .distinct()
+                .toList();
+        if (distinctNames.size() > bulkMaxNames) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "한 번에 조회할 수 있는 이미지는 최대 " + bulkMaxNames + "개입니다.");
+        }
+
+        Map<String, CompletableFuture<String>> futures = new LinkedHashMap<>();
+        int rejected = 0;
+        for (String name : distinctNames) {
+            try {
+                futures.put(name, CompletableFuture.supplyAsync(() -> getCached(type, name), imageLookupExecutor));
+            } catch (RejectedExecutionException e) {
+                // 조회 풀 대기열이 가득 참 → 이 이름은 결과에서 제외 (클라이언트는 기본 이미지 사용)
+                rejected++;
+            }
         }
+        if (rejected > 0) {
+            log.warn("⚠️ 이미지 조회 풀 포화, {}건 조회 건너뜀: type={}", rejected, type);
+        }
+        return CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                .completeOnTimeout(null, bulkTimeoutMs, TimeUnit.MILLISECONDS)
+                .handle((ignored, e) -> {
+                    Map<String, String> imageUrls = new LinkedHashMap<>();
+                    futures.forEach((name, future) -> {
+                        if (future.isDone() && !future.isCompletedExceptionally()) {
+                            imageUrls.put(name, future.join());
+                        }
+                    });
+                    log.info("이미지 URL 일괄 조회 완료: type={}, 요청 {}건, 성공 {}건", type, distinctNames.size(), imageUrls.size());
+                    return imageUrls;
+                });
     }
-    
+
     /**
-     * 캐시에 이미지 URL 저장
+     * 식단 계획(diets: 요일 → 끼니 → 메뉴)에서 이미지 검색어 추출 (unsplashQuery 우선, 없으면 메뉴명)
      */
-    @Transactional
-    private void saveToCache(String foodName, String imageUrl) {
+    @SuppressWarnings("unchecked")
+    public List<String> collectFoodQueries(Map<String, Object> diets) {
+        List<String> queries = new ArrayList<>();
+        if (diets == null) {
+            return queries;
+        }
+        for (Object meals : diets.values()) {
+            if (!(meals instanceof Map)) {
+                continue;
+            }
+            for (Object meal : ((Map<String, Object>) meals).values()) {
+                if (meal instanceof Map<?, ?> menu) {
+                    Object query = menu.get("unsplashQuery") != null ? menu.get("unsplashQuery") : menu.get("name");
+                    if (query instanceof String text) {
+                        queries.add(text);
+                    }
+                }
+            }
+        }
+        return queries;
+    }
+
+    /**
+     * L1 조회, 미스면 로더 실행 (Caffeine이 같은 키의 동시 로드를 하나로 합침)
+     */
+    private String getCached(FoodImageCache.ImageType type, String name) {
+        Cache cache = cacheManager.getCache(cacheNameOf(type));
         try {
-            FoodImageCache cache = new FoodImageCache();
-            cache.setFoodName(foodName);
-            cache.setImageUrl(imageUrl);
-            
-            foodImageCacheRepository.save(cache);
-            log.info("이미지 URL 캐시 저장 완료: foodName={}", foodName);
-        } catch (Exception e) {
-            log.error("이미지 URL 캐시 저장 실패: foodName={}, error={}", foodName, e.getMessage());
-            // 캐시 저장 실패시 전체 작업을 중단하지 않음
+            return cache != null ? cache.get(name, () -> load(type, name)) : load(type, name);
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof BusinessException businessException) {
+                throw businessException;
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "이미지 URL 가져오기 실패: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * L2(DB) 조회, 없으면 Unsplash 조회 후 DB에 저장
+     */
+    private String load(FoodImageCache.ImageType type, String name) {
+        Optional<String> cached = imageCacheService.findImageUrl(type, name);
+        if (cached.isPresent()) {
+            log.info("DB 캐시에서 이미지 URL 반환: type={}, name={}", type, name);
+            return cached.get();
+        }
+
+        String url = fetchFromApi(name, type == FoodImageCache.ImageType.FOOD ? "food" : "exercise");
+        log.info("API에서 이미지 URL 가져오기 완료: type={}, name={}", type, name);
+        if (name.length() <= MAX_PERSISTED_NAME_LENGTH) {
+            try {
+                imageCacheService.save(type, name, url);
+            } catch (Exception e) {
+                // 캐시 저장 실패시 전체 작업을 중단하지 않음 (로컬 캐시에는 남음)
+                log.error("이미지 URL 캐시 저장 실패: name={}, error={}", name, e.getMessage());
+            }
+        }
+        return url;
+    }
+
+    private static String cacheNameOf(FoodImageCache.ImageType type) {
+        return type == FoodImageCache.ImageType.FOOD ? CacheConfig.FOOD_IMAGES : CacheConfig.WORKOUT_IMAGES;
+    }
     
+    /**
+     * Unsplash 이미지 URL 조회 (같은 검색어의 동시 호출은 하나로 합침)
+     */
+    private String fetchFromApi(String name, String type) {
+        return inFlightFetches.execute(type + ":" + name, () -> requestFromApi(name, type));
+    }
+
     /**
      * Unsplash API에서 이미지 URL 가져오기
      * - 검색어를 헬스/식단 특화로 최적화
      * - 응답 결과 중 실제 운동/음식 관련도가 높은 이미지를 우선 선택
      */
-    private String fetchFromApi(String name, String type) {
+    private String requestFromApi(String name, String type) {
         try {
             // 검색어 결정: 한글이 포함되어 있으면 의미 기반으로 최적화,
             // 그렇지 않으면 이미 최적화된 검색어(예: unsplashQuery)로 간주하되
@@ -300,14 +399,12 @@ public class ImageService {
     /**
      * 캐시에서 이미지 URL 삭제
      */
-    @Transactional
+    @CacheEvict(value = CacheConfig.FOOD_IMAGES, key = "#foodName")
     public void deleteCachedImage(String foodName) {
         log.info("캐시에서 이미지 URL 삭제 요청: foodName={}", foodName);
         
         try {
-            var cached = foodImageCacheRepository.findByFoodName(foodName);
-            if (cached.isPresent()) {
-                foodImageCacheRepository.delete(cached.get());
+            if (imageCacheService.delete(FoodImageCache.ImageType.FOOD, foodName)) {
                 log.info("캐시에서 이미지 URL 삭제 완료: foodName={}", foodName);
             } else {
                 log.info("삭제할 캐시가 없습니다: foodName={}", foodName);
@@ -319,19 +416,20 @@ public class ImageService {
     }
     
     /**
-     * 캐시 통계 조회
+     * 캐시 통계 조회 (DB 캐시 건수 + 로컬 캐시 적중률)
      */
-    @Transactional(readOnly = true)
     public Map<String, Object> getCacheStats() {
         log.info("캐시 통계 조회 요청");
         
         try {
-            long totalCount = foodImageCacheRepository.countAllCachedImages();
+            long totalCount = imageCacheService.countAll();
+            Map<String, Object> localMetrics = CacheConfig.metricsOf(cacheManager);
             
-            Map<String, Object> stats = Map.of(
-                "totalCachedImages", totalCount,
-                "cacheStatus", "active"
-            );
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("totalCachedImages", totalCount);
+            stats.put("cacheStatus", "active");
+            stats.put(CacheConfig.FOOD_IMAGES, localMetrics.get(CacheConfig.FOOD_IMAGES));
+            stats.put(CacheConfig.WORKOUT_IMAGES, localMetrics.get(CacheConfig.WORKOUT_IMAGES));
             
             log.info("캐시 통계 조회 완료: totalCount={}", totalCount);
             return stats;
@@ -340,4 +438,4 @@ public class ImageService {
             throw new BusinessException(ErrorCode.INTERNAL_ERROR, "캐시 통계 조회 실패: " + e.getMessage());
         }
     }
-}
\ No newline at end of file
+}
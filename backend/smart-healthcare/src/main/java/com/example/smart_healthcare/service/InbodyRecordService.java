@@ -3,6 +3,7 @@ package com.example.smart_healthcare.service;
 import com.example.smart_healthcare.common.error.BusinessException;
 import com.example.smart_healthcare.common.error.ErrorCode;
 import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
+import com.example.smart_healthcare.dto.request.SurveyDataRequestDto;
 import com.example.smart_healthcare.dto.response.InbodyRecordResponseDto;
 import com.example.smart_healthcare.entity.InbodyRecord;
 import com.example.smart_healthcare.repository.InbodyRecordRepository;
@@ -11,11 +12,14 @@ import com.example.smart_healthcare.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -48,6 +52,17 @@ public class InbodyRecordService {
     
     
     
+    /**
+     * 설문 저장 직후 추측 실행에 사용할 AI 요청 (설문에 연결된 인바디 기록, 없으면 최신 기록 기준)
+     */
+    public Optional<InbodyDataRequestDto> findRequestForSurvey(Long userId, Long inbodyRecordId, SurveyDataRequestDto survey) {
+        Optional<InbodyRecord> record = inbodyRecordId != null
+                ? inbodyRecordRepository.findById(inbodyRecordId).filter(r -> !r.getIsDeleted())
+                : inbodyRecordRepository.findByUserId(userId, PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdAt")))
+                        .stream().findFirst();
+        return record.map(r -> r.toRequestDto(userId, survey));
+    }
+
     /**
      * 사용자별 인바디 기록 조회 (Pageable 방식)
      * - 기본 조회 및 기간별 조회를 통합
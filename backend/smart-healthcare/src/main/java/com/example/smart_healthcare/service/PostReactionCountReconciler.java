@@ -0,0 +1,44 @@
+package com.example.smart_healthcare.service;
+
+import com.example.smart_healthcare.repository.PostCounterRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시글 반응/댓글 수 보정 작업
+ * - 증분 반영 외의 경로(직접 SQL 수정, 반영 이전 데이터 등)로 생긴 카운터 오차를 주기적으로 post_reaction/Comment 기준으로 맞춤
+ * - id 범위 단위 UPDATE로 나누어 한 번에 긴 락을 잡지 않음 (범위마다 별도 자동 커밋)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostReactionCountReconciler {
+
+    private final PostCounterRepository postCounterRepository;
+
+    @Value("${community.reaction.reconcile-batch-size:1000}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${community.reaction.reconcile-initial-delay-ms:60000}",
+               fixedDelayString = "${community.reaction.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        try {
+            long maxId = postCounterRepository.maxPostId();
+            int repaired = 0;
+            for (long fromId = 1; fromId <= maxId; fromId += batchSize) {
+                repaired += postCounterRepository.reconcileReactionCounts(fromId, fromId + batchSize - 1);
+                repaired += postCounterRepository.reconcileCommentCounts(fromId, fromId + batchSize - 1);
+            }
+            if (repaired > 0) {
+                log.warn("⚠️ 게시글 반응/댓글 수 보정: {}건", repaired);
+            } else {
+                log.debug("게시글 반응/댓글 수 보정 대상 없음 (maxId={})", maxId);
+            }
+        } catch (Exception e) {
+            log.error("❌ 게시글 반응/댓글 수 보정 실패: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,387 @@
+package com.example.smart_healthcare.service;
+
+import com.example.smart_healthcare.entity.CommunityPost;
+import com.example.smart_healthcare.entity.CommunityPost.PostCategory;
+import com.example.smart_healthcare.event.PostIndexEvent;
+import com.example.smart_healthcare.repository.CommunityPostRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.cjk.CJKBigramFilter;
+import org.apache.lucene.analysis.cjk.CJKWidthFilter;
+import org.apache.lucene.analysis.miscellaneous.ConditionalTokenFilter;
+import org.apache.lucene.analysis.ngram.EdgeNGramTokenFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.TypeAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MatchNoDocsQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.apache.lucene.util.QueryBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 커뮤니티 게시글 검색 색인 (내장 Lucene 역색인)
+ * - 제목/내용을 한글·한자·가나는 2-gram으로 분석해 부분 문자열 검색을 색인 조회로 처리 (LIKE '%…%' 전체 스캔 대체)
+ * - 영문/숫자 단어는 접두어(edge n-gram)로 색인해 "heal" → "health"처럼 단어 앞부분 검색도 일치 (단어 중간 부분 문자열은 일치하지 않음)
+ * - 카테고리/작성자/작성일도 색인해 검색어와 함께 필터링하고, 결과는 관련도(제목 가중) 순 또는 최신순(작성일 doc values 정렬)
+ * - 게시글 작성/수정/삭제 커밋 후 PostIndexEvent로 갱신, 시작 시 색인이 비어 있거나 문서 구성 버전이 다르면 DB에서 재구성
+ * - index-path가 비어 있으면 메모리 색인 (인스턴스마다 별도 색인이므로 다중 인스턴스에서는 다른 인스턴스의 변경이 재시작 전까지 반영되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String CONTENT = "content";
+    private static final String CATEGORY = "category";
+    private static final String AUTHOR_ID = "authorId";
+    private static final String CREATED_AT = "createdAt";
+    private static final float TITLE_BOOST = 2.0f;
+    // 문서 필드 구성이나 색인 분석기가 바뀌면 올림 (저장된 색인의 버전이 다르면 시작 시 재구성)
+    private static final String SCHEMA_VERSION_KEY = "schemaVersion";
+    private static final String SCHEMA_VERSION = "3";
+    private static final Sort RECENT_FIRST = new Sort(
+            new SortField(CREATED_AT, SortField.Type.LONG, true),
+            new SortField(ID, SortField.Type.LONG, true));
+    private static final int CJK_SCRIPTS = CJKBigramFilter.HAN | CJKBigramFilter.HIRAGANA
+            | CJKBigramFilter.KATAKANA | CJKBigramFilter.HANGUL;
+    // 영문/숫자 단어 접두어 색인 길이 (이보다 긴 접두어로는 단어 전체가 일치할 때만 검색됨)
+    private static final int MAX_PREFIX_LENGTH = 20;
+    private static final String ALPHANUM_TYPE = StandardTokenizer.TOKEN_TYPES[StandardTokenizer.ALPHANUM];
+    private static final String NUM_TYPE = StandardTokenizer.TOKEN_TYPES[StandardTokenizer.NUM];
+
+    private final CommunityPostRepository communityPostRepo;
+
+    @Value("${community.search.index-path:}")
+    private String indexPath;
+
+    @Value("${community.search.rebuild-batch-size:500}")
+    private int rebuildBatchSize;
+
+    private final Analyzer indexAnalyzer = analyzer(true);
+    private final Analyzer queryAnalyzer = analyzer(false);
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private volatile boolean ready;
+
+    /**
+     * 검색 조건 (텍스트 조건은 색인, 나머지는 색인 필터로 적용)
+     */
+    public record SearchCondition(String keyword, String title, String content, PostCategory category,
+                                  Long authorId, LocalDateTime startDate, LocalDateTime endDate) {
+
+        public boolean hasText() {
+            return hasText(keyword) || hasText(title) || hasText(content);
+        }
+
+        private static boolean hasText(String value) {
+            return value != null && !value.isBlank();
+        }
+    }
+
+    /**
+     * 검색 결과: 정렬 순 게시글 id와 전체 일치 건수
+     */
+    public record Hits(List<Long> ids, long totalHits) {}
+
+    @PostConstruct
+    public void open() throws IOException {
+        directory = indexPath == null || indexPath.isBlank()
+                ? new ByteBuffersDirectory()
+                : FSDirectory.open(Path.of(indexPath));
+        writer = new IndexWriter(directory, new IndexWriterConfig(indexAnalyzer));
+        searcherManager = new SearcherManager(writer, null);
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        ready = false;
+        searcherManager.close();
+        writer.close();
+        directory.close();
+        indexAnalyzer.close();
+        queryAnalyzer.close();
+    }
+
+    /**
+     * 색인 사용 가능 여부 (재구성 중에는 false → DB 검색으로 대체)
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 시작 시 색인이 비어 있거나 이전 문서 구성으로 만들어졌으면 DB의 게시글로 재구성
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfEmpty() {
+        if (writer.getDocStats().numDocs > 0 && SCHEMA_VERSION.equals(storedSchemaVersion())) {
+            ready = true;
+            log.info("🔎 게시글 검색 색인 사용: {}건", writer.getDocStats().numDocs);
+            return;
+        }
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("❌ 게시글 검색 색인 재구성 실패, DB 검색 사용: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 전체 재구성 (id 순으로 rebuild-batch-size씩 읽어 색인)
+     */
+    public void rebuild() throws IOException {
+        ready = false;
+        long startTime = System.currentTimeMillis();
+        writer.deleteAll();
+        long afterId = 0L;
+        int indexed = 0;
+        List<CommunityPost> posts;
+        do {
+            posts = communityPostRepo.findIndexTargets(afterId, PageRequest.of(0, rebuildBatchSize));
+            for (CommunityPost post : posts) {
+                writer.updateDocument(new Term(ID, post.getId().toString()), toDocument(PostIndexEvent.upsert(post)));
+                afterId = post.getId();
+            }
+            indexed += posts.size();
+        } while (posts.size() == rebuildBatchSize);
+        commit();
+        ready = true;
+        log.info("🔎 게시글 검색 색인 재구성 완료: {}건, {}ms", indexed, System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 게시글 작성/수정/삭제 커밋 후 색인 갱신 (트랜잭션 밖에서 발행된 경우 즉시 처리)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPostChanged(PostIndexEvent event) {
+        try {
+            Term idTerm = new Term(ID, event.getPostId().toString());
+            if (event.isDeleted()) {
+                writer.deleteDocuments(idTerm);
+            } else {
+                writer.updateDocument(idTerm, toDocument(event));
+            }
+            commit();
+        } catch (IOException | RuntimeException e) {
+            // 색인 갱신 실패는 게시글 처리에 영향을 주지 않음 (다음 재구성 시 복구)
+            log.warn("⚠️ 게시글 검색 색인 갱신 실패: postId={}, error={}", event.getPostId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 관련도 순 검색 (offset부터 limit건)
+     */
+    public Hits search(SearchCondition condition, int offset, int limit) {
+        return search(condition, null, offset, limit);
+    }
+
+    /**
+     * 최신순 검색 (작성일 내림차순, 같으면 id 내림차순 / offset부터 limit건)
+     */
+    public Hits searchRecent(SearchCondition condition, int offset, int limit) {
+        return search(condition, RECENT_FIRST, offset, limit);
+    }
+
+    private Hits search(SearchCondition condition, Sort sort, int offset, int limit) {
+        Query query = toQuery(condition);
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                int topN = Math.max(offset + limit, 1);
+                TopDocs topDocs = sort != null ? searcher.search(query, topN, sort) : searcher.search(query, topN);
+                StoredFields storedFields = searcher.storedFields();
+                List<Long> ids = new ArrayList<>();
+                ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+                for (int i = offset; i < scoreDocs.length; i++) {
+                    ids.add(storedFields.document(scoreDocs[i].doc).getField(ID).numericValue().longValue());
+                }
+                return new Hits(ids, searcher.count(query));
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("게시글 검색 실패", e);
+        }
+    }
+
+    private Query toQuery(SearchCondition condition) {
+        QueryBuilder builder = new QueryBuilder(queryAnalyzer);
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        if (SearchCondition.hasText(condition.keyword())) {
+            query.add(new BooleanQuery.Builder()
+                    .add(new BoostQuery(textQuery(builder, TITLE, condition.keyword()), TITLE_BOOST), Occur.SHOULD)
+                    .add(textQuery(builder, CONTENT, condition.keyword()), Occur.SHOULD)
+                    .build(), Occur.MUST);
+        }
+        if (SearchCondition.hasText(condition.title())) {
+            query.add(textQuery(builder, TITLE, condition.title()), Occur.MUST);
+        }
+        if (SearchCondition.hasText(condition.content())) {
+            query.add(textQuery(builder, CONTENT, condition.content()), Occur.MUST);
+        }
+        if (!condition.hasText()) {
+            query.add(new MatchAllDocsQuery(), Occur.MUST);
+        }
+        if (condition.category() != null) {
+            query.add(new TermQuery(new Term(CATEGORY, condition.category().name())), Occur.FILTER);
+        }
+        if (condition.authorId() != null) {
+            query.add(LongPoint.newExactQuery(AUTHOR_ID, condition.authorId()), Occur.FILTER);
+        }
+        if (condition.startDate() != null || condition.endDate() != null) {
+            long from = condition.startDate() != null ? toEpochMilli(condition.startDate()) : Long.MIN_VALUE;
+            long to = condition.endDate() != null ? toEpochMilli(condition.endDate()) : Long.MAX_VALUE;
+            query.add(LongPoint.newRangeQuery(CREATED_AT, from, to), Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    /**
+     * 검색어의 모든 n-gram이 포함된 문서 일치, 연속으로 포함된 문서(구문 일치)에 가산점
+     */
+    private static Query textQuery(QueryBuilder builder, String field, String text) {
+        Query allTerms = builder.createBooleanQuery(field, text, Occur.MUST);
+        if (allTerms == null) {
+            return new MatchNoDocsQuery();
+        }
+        Query phrase = builder.createPhraseQuery(field, text);
+        if (phrase == null) {
+            return allTerms;
+        }
+        return new BooleanQuery.Builder()
+                .add(allTerms, Occur.MUST)
+                .add(phrase, Occur.SHOULD)
+                .build();
+    }
+
+    private Document toDocument(PostIndexEvent event) {
+        Document document = new Document();
+        document.add(new StringField(ID, event.getPostId().toString(), Field.Store.NO));
+        document.add(new StoredField(ID, event.getPostId()));
+        document.add(new NumericDocValuesField(ID, event.getPostId()));
+        document.add(new TextField(TITLE, nullToEmpty(event.getTitle()), Field.Store.NO));
+        document.add(new TextField(CONTENT, nullToEmpty(event.getContent()), Field.Store.NO));
+        if (event.getCategory() != null) {
+            document.add(new StringField(CATEGORY, event.getCategory().name(), Field.Store.NO));
+        }
+        if (event.getAuthorId() != null) {
+            document.add(new LongPoint(AUTHOR_ID, event.getAuthorId()));
+        }
+        if (event.getCreatedAt() != null) {
+            document.add(new LongPoint(CREATED_AT, toEpochMilli(event.getCreatedAt())));
+            document.add(new NumericDocValuesField(CREATED_AT, toEpochMilli(event.getCreatedAt())));
+        }
+        return document;
+    }
+
+    private void commit() throws IOException {
+        writer.setLiveCommitData(Map.of(SCHEMA_VERSION_KEY, SCHEMA_VERSION).entrySet());
+        writer.commit();
+        searcherManager.maybeRefresh();
+    }
+
+    private String storedSchemaVersion() {
+        Iterable<Map.Entry<String, String>> commitData = writer.getLiveCommitData();
+        if (commitData != null) {
+            for (Map.Entry<String, String> entry : commitData) {
+                if (SCHEMA_VERSION_KEY.equals(entry.getKey())) {
+                    return entry.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    /**
+     * 제목/내용 분석기: 표준 토큰화 → 전각/반각 정규화 → 소문자 → CJK 2-gram
+     * - 색인 시에는 1-gram도 함께 저장해 한 글자 검색어도 일치하도록 함
+     * - 색인 시에는 영문/숫자 단어의 접두어도 같은 위치에 저장 (검색어는 그대로 두어 "squa"가 "squat"의 접두어와 일치)
+     */
+    private static Analyzer analyzer(boolean indexTime) {
+        return new Analyzer() {
+            @Override
+            protected TokenStreamComponents createComponents(String fieldName) {
+                Tokenizer source = new StandardTokenizer();
+                TokenStream result = new CJKWidthFilter(source);
+                result = new LowerCaseFilter(result);
+                result = new CJKBigramFilter(result, CJK_SCRIPTS, indexTime);
+                if (indexTime) {
+                    result = alphanumPrefixes(result);
+                }
+                return new TokenStreamComponents(source, result);
+            }
+        };
+    }
+
+    /**
+     * 영문/숫자 토큰에만 edge n-gram 적용 (CJK 2-gram 토큰은 그대로 통과)
+     */
+    private static TokenStream alphanumPrefixes(TokenStream input) {
+        return new ConditionalTokenFilter(input, in -> new EdgeNGramTokenFilter(in, 1, MAX_PREFIX_LENGTH, true)) {
+            private final TypeAttribute typeAtt = addAttribute(TypeAttribute.class);
+
+            @Override
+            protected boolean shouldFilter() {
+                String type = typeAtt.type();
+                return ALPHANUM_TYPE.equals(type) || NUM_TYPE.equals(type);
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.smart_healthcare.service;
+
+import com.example.smart_healthcare.repository.PostCounterRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수 write-behind 버퍼
+ * - 조회 시에는 게시글별 증분을 ConcurrentHashMap.merge로 누적만 하고, flush-interval-ms마다 증분을 batch UPDATE로 반영
+ * - 인기 게시글 조회가 같은 행의 UPDATE로 경합하지 않고, 상세 조회는 읽기 전용 트랜잭션으로 유지
+ * - 반영 실패 시 증분을 버퍼에 되돌려 다음 주기에 다시 반영 (프로세스 비정상 종료 시 미반영분은 유실될 수 있음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostViewCountBuffer {
+
+    private final PostCounterRepository postCounterRepository;
+
+    private final Map<Long, Long> pending = new ConcurrentHashMap<>();
+
+    @Value("${community.view-count.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 조회 1건 누적
+     */
+    public void increment(Long postId) {
+        pending.merge(postId, 1L, Long::sum);
+    }
+
+    /**
+     * 아직 DB에 반영되지 않은 조회수 (응답 표시용)
+     */
+    public long pendingOf(Long postId) {
+        return pending.getOrDefault(postId, 0L);
+    }
+
+    @Scheduled(initialDelayString = "${community.view-count.flush-interval-ms:5000}",
+               fixedDelayString = "${community.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        Map<Long, Long> deltas = new HashMap<>();
+        // 키별로 remove해 증분을 꺼냄 (merge와 remove는 키 단위로 원자적이라 꺼낸 뒤의 조회는 새 항목으로 다음 주기에 반영)
+        for (Long postId : pending.keySet()) {
+            Long delta = pending.remove(postId);
+            if (delta != null && delta > 0) {
+                deltas.put(postId, delta);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        try {
+            postCounterRepository.addViewCounts(deltas, batchSize);
+            log.debug("조회수 반영: 게시글 {}건, 조회 {}건", deltas.size(),
+                    deltas.values().stream().mapToLong(Long::longValue).sum());
+        } catch (Exception e) {
+            // addViewCounts는 한 트랜잭션이므로 실패 시 반영된 청크가 없어 전체를 되돌려 넣어도 중복되지 않음
+            deltas.forEach((postId, delta) -> pending.merge(postId, delta, Long::sum));
+            log.warn("⚠️ 조회수 반영 실패, 다음 주기에 재시도: 게시글 {}건, error={}", deltas.size(), e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -6,11 +6,15 @@ import com.example.smart_healthcare.dto.response.ReactionResponseDto;
 import com.example.smart_healthcare.entity.CommunityPost;
 import com.example.smart_healthcare.entity.PostReaction;
 import com.example.smart_healthcare.entity.User;
+import com.example.smart_healthcare.event.ReactionAddedEvent;
+import com.example.smart_healthcare.event.ReactionChangedEvent;
+import com.example.smart_healthcare.event.ReactionRemovedEvent;
 import com.example.smart_healthcare.repository.CommunityPostRepository;
 import com.example.smart_healthcare.repository.PostReactionRepository;
 import com.example.smart_healthcare.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +29,7 @@ public class ReactionService {
     private final PostReactionRepository postReactionRepository;
     private final CommunityPostRepository communityPostRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;   // 반응 수 카운터 갱신 (ReactionEventListener)
     
     /**
      * 사용자 반응 확인 (최적화된 버전)
@@ -64,7 +69,12 @@ public class ReactionService {
         if (existingReaction.isPresent()) {
             // 기존 반응 수정
             reaction = existingReaction.get();
+            PostReaction.ReactionType oldType = reaction.getType();
             reaction.setType(request.getReactionType());
+            if (oldType != request.getReactionType()) {
+                eventPublisher.publishEvent(new ReactionChangedEvent(postId, request.getUserId(),
+                        oldType.name(), request.getReactionType().name()));
+            }
             log.info("기존 반응 수정: reactionId={}", reaction.getId());
         } else {
             // 새 반응 생성 (Entity 조회는 필요할 때만)
@@ -78,6 +88,7 @@ public class ReactionService {
             reaction.setPost(post);
             reaction.setUser(user);
             reaction.setType(request.getReactionType());
+            eventPublisher.publishEvent(new ReactionAddedEvent(postId, request.getUserId(), request.getReactionType().name()));
             log.info("새 반응 생성");
         }
         
@@ -97,6 +108,7 @@ public class ReactionService {
         
         if (existingReaction.isPresent()) {
             postReactionRepository.delete(existingReaction.get());
+            eventPublisher.publishEvent(new ReactionRemovedEvent(postId, userId, existingReaction.get().getType().name()));
             log.info("반응 삭제 완료: reactionId={}", existingReaction.get().getId());
         } else {
             log.warn("삭제할 반응이 없습니다: postId={}, userId={}", postId, userId);
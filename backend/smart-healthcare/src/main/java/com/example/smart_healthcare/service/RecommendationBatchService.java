@@ -0,0 +1,238 @@
+package com.example.smart_healthcare.service;
+
+import com.example.smart_healthcare.common.error.BusinessException;
+import com.example.smart_healthcare.common.error.ErrorCode;
+import com.example.smart_healthcare.config.CacheConfig;
+import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
+import com.example.smart_healthcare.dto.request.SurveyDataRequestDto;
+import com.example.smart_healthcare.dto.response.RecommendationBatchResponseDto;
+import com.example.smart_healthcare.entity.AIDietRecommendation;
+import com.example.smart_healthcare.entity.AIWorkoutRecommendation;
+import com.example.smart_healthcare.entity.InbodyRecord;
+import com.example.smart_healthcare.entity.RecommendationBatch;
+import com.example.smart_healthcare.entity.RecommendationJob;
+import com.example.smart_healthcare.entity.Survey;
+import com.example.smart_healthcare.repository.InbodyRecordRepository;
+import com.example.smart_healthcare.repository.RecommendationBatchRepository;
+import com.example.smart_healthcare.repository.RecommendationBulkInsertRepository;
+import com.example.smart_healthcare.repository.SurveyRepository;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 대량 추천 재생성 배치 서비스
+ * - 저장된 설문(사용자별 최신) + 인바디 기록으로 배치 입력 구성
+ * - 배치 상태 관리와 결과 일괄 저장(짧은 트랜잭션)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class RecommendationBatchService {
+
+    private final RecommendationBatchRepository batchRepository;
+    private final SurveyRepository surveyRepository;
+    private final InbodyRecordRepository inbodyRecordRepository;
+    private final RecommendationBulkInsertRepository bulkInsertRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ai.batch.insert-chunk-size:500}")
+    private int insertChunkSize;
+
+    /**
+     * 배치 요청 1건의 입력 (custom_id = {type}:{userId}:{inbodyRecordId}:{surveyId})
+     */
+    public record BatchInput(Long userId, Long inbodyRecordId, Long surveyId, String goal, InbodyDataRequestDto request) {
+
+        public String customId(RecommendationJob.JobType type) {
+            return type + ":" + userId + ":" + inbodyRecordId + ":" + surveyId;
+        }
+    }
+
+    /**
+     * 배치 입력 조회 (userIds가 비어 있으면 전체 사용자, afterSurveyId 이후 limit건)
+     */
+    public List<BatchInput> findInputs(Collection<Long> userIds, Long afterSurveyId, int limit) {
+        List<Survey> surveys = userIds != null && !userIds.isEmpty()
+                ? surveyRepository.findLatestByUserIds(userIds)
+                : surveyRepository.findLatestPerUserAfter(afterSurveyId != null ? afterSurveyId : 0L, PageRequest.of(0, limit));
+
+        List<BatchInput> inputs = new ArrayList<>(surveys.size());
+        for (Survey survey : surveys) {
+            Long userId = survey.getUser().getId();
+            Optional<InbodyRecord> inbody = Optional.ofNullable(survey.getInbody())
+                    .filter(record -> !record.getIsDeleted())
+                    .or(() -> latestInbody(userId));
+            if (inbody.isEmpty()) {
+                log.debug("인바디 기록이 없어 배치 대상에서 제외: userId={}", userId);
+                continue;
+            }
+            inputs.add(toInput(survey, inbody.get()));
+        }
+        return inputs;
+    }
+
+    /**
+     * custom_id 목록으로 배치 입력 복원 (결과 파싱 시 원래 인바디/설문 값 사용)
+     * - 인바디/설문을 각각 한 번의 IN 조회로 불러옴, 형식이 잘못되었거나 기록이 없는 custom_id는 결과에서 제외
+     */
+    public Map<String, BatchInput> findInputs(Collection<String> customIds) {
+        Map<String, long[]> idsByCustomId = new LinkedHashMap<>();
+        for (String customId : customIds) {
+            String[] parts = customId.split(":");
+            if (parts.length != 4) {
+                continue;
+            }
+            try {
+                idsByCustomId.put(customId, new long[]{Long.parseLong(parts[2]), Long.parseLong(parts[3])});
+            } catch (NumberFormatException e) {
+                log.debug("배치 custom_id 형식 오류: {}", customId);
+            }
+        }
+        if (idsByCustomId.isEmpty()) {
+            return Map.of();
+        }
+
+        Set<Long> inbodyIds = new HashSet<>();
+        Set<Long> surveyIds = new HashSet<>();
+        idsByCustomId.values().forEach(ids -> {
+            inbodyIds.add(ids[0]);
+            surveyIds.add(ids[1]);
+        });
+        Map<Long, InbodyRecord> inbodies = inbodyRecordRepository.findAllById(inbodyIds).stream()
+                .collect(Collectors.toMap(InbodyRecord::getId, Function.identity()));
+        Map<Long, Survey> surveys = surveyRepository.findAllWithUserByIdIn(surveyIds).stream()
+                .collect(Collectors.toMap(Survey::getId, Function.identity()));
+
+        Map<String, BatchInput> inputs = new HashMap<>(idsByCustomId.size());
+        idsByCustomId.forEach((customId, ids) -> {
+            InbodyRecord inbody = inbodies.get(ids[0]);
+            Survey survey = surveys.get(ids[1]);
+            if (inbody != null && survey != null) {
+                inputs.put(customId, toInput(survey, inbody));
+            }
+        });
+        return inputs;
+    }
+
+    @Transactional
+    public RecommendationBatch createBatch(RecommendationJob.JobType jobType, String inputFileId, String openaiBatchId,
+                                           String providerStatus, int requestCount) {
+        RecommendationBatch batch = RecommendationBatch.builder()
+                .jobType(jobType)
+                .inputFileId(inputFileId)
+                .openaiBatchId(openaiBatchId)
+                .providerStatus(providerStatus)
+                .requestCount(requestCount)
+                .build();
+        return batchRepository.save(batch);
+    }
+
+    public List<RecommendationBatch> findSubmittedBatches() {
+        return batchRepository.findByStatusOrderByIdAsc(RecommendationBatch.BatchStatus.SUBMITTED);
+    }
+
+    public RecommendationBatchResponseDto getBatch(Long batchId) {
+        return batchRepository.findById(batchId)
+                .map(RecommendationBatchResponseDto::toDto)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "배치 작업을 찾을 수 없습니다."));
+    }
+
+    public List<RecommendationBatchResponseDto> getRecentBatches(int size) {
+        return batchRepository.findAllByOrderByIdDesc(PageRequest.of(0, size))
+                .map(RecommendationBatchResponseDto::toDto)
+                .getContent();
+    }
+
+    @Transactional
+    public void updateProviderStatus(Long batchId, String providerStatus) {
+        batchRepository.findById(batchId).ifPresent(batch -> batch.setProviderStatus(providerStatus));
+    }
+
+    /**
+     * 운동 추천 결과 일괄 저장 + 배치 완료 처리 (한 트랜잭션)
+     */
+    @Transactional
+    @CacheEvict(value = CacheConfig.LATEST_WORKOUT_RECOMMENDATION, allEntries = true)
+    public void completeWorkoutBatch(Long batchId, String outputFileId,
+                                     List<RecommendationBulkInsertRepository.Row<AIWorkoutRecommendation>> rows,
+                                     int failedCount) {
+        bulkInsertRepository.insertWorkouts(rows, insertChunkSize);
+        markCompleted(batchId, outputFileId, rows.size(), failedCount);
+    }
+
+    /**
+     * 식단 추천 결과 일괄 저장 + 배치 완료 처리 (한 트랜잭션)
+     */
+    @Transactional
+    public void completeDietBatch(Long batchId, String outputFileId,
+                                  List<RecommendationBulkInsertRepository.Row<AIDietRecommendation>> rows,
+                                  int failedCount) {
+        bulkInsertRepository.insertDiets(rows, insertChunkSize);
+        markCompleted(batchId, outputFileId, rows.size(), failedCount);
+    }
+
+    @Transactional
+    public void markFailed(Long batchId, String errorMessage) {
+        batchRepository.findById(batchId).ifPresent(batch -> batch.markFailed(errorMessage));
+    }
+
+    private void markCompleted(Long batchId, String outputFileId, int savedCount, int failedCount) {
+        RecommendationBatch batch = batchRepository.findById(batchId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "배치 작업을 찾을 수 없습니다."));
+        batch.markCompleted(outputFileId, savedCount, failedCount);
+        log.info("✅ 대량 추천 배치 저장 완료: batchId={}, type={}, saved={}, failed={}",
+                batchId, batch.getJobType(), savedCount, failedCount);
+    }
+
+    private Optional<InbodyRecord> latestInbody(Long userId) {
+        return inbodyRecordRepository.findByUserId(userId, PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdAt")))
+                .stream().findFirst();
+    }
+
+    private BatchInput toInput(Survey survey, InbodyRecord inbody) {
+        Long userId = survey.getUser().getId();
+        SurveyDataRequestDto surveyData = parseSurveyData(survey);
+        return new BatchInput(userId, inbody.getId(), survey.getId(), survey.getAnswerText(),
+                inbody.toRequestDto(userId, surveyData));
+    }
+
+    /**
+     * 설문 상세 데이터(JSON) 파싱, 없으면 답변 텍스트만 사용 (요일/끼니는 AI 서비스 기본값)
+     */
+    private SurveyDataRequestDto parseSurveyData(Survey survey) {
+        if (survey.getSurveyData() != null && !survey.getSurveyData().isBlank()) {
+            try {
+                SurveyDataRequestDto parsed = objectMapper.readerFor(SurveyDataRequestDto.class)
+                        .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                        .readValue(survey.getSurveyData());
+                if (parsed.text() != null) {
+                    return parsed;
+                }
+            } catch (Exception e) {
+                log.warn("⚠️ 설문 상세 데이터 파싱 실패, 답변 텍스트만 사용: surveyId={}, error={}", survey.getId(), e.getMessage());
+            }
+        }
+        return new SurveyDataRequestDto(survey.getAnswerText(), null, null, null, null, null, null, null, null, null);
+    }
+}
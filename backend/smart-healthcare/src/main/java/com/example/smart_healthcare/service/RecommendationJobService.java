@@ -0,0 +1,110 @@
+package com.example.smart_healthcare.service;
+
+import com.example.smart_healthcare.common.error.BusinessException;
+import com.example.smart_healthcare.common.error.ErrorCode;
+import com.example.smart_healthcare.dto.response.RecommendationJobResponseDto;
+import com.example.smart_healthcare.entity.RecommendationJob;
+import com.example.smart_healthcare.repository.RecommendationJobRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * AI 추천 비동기 작업 상태 관리 서비스
+ * - 상태 전이마다 짧은 트랜잭션으로 저장 (AI 호출은 트랜잭션 밖에서 수행)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class RecommendationJobService {
+
+    private final RecommendationJobRepository recommendationJobRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 작업 생성 (PENDING)
+     */
+    @Transactional
+    public RecommendationJob createJob(RecommendationJob.JobType jobType, Long userId, String requestPayload) {
+        RecommendationJob job = recommendationJobRepository.save(RecommendationJob.builder()
+                .jobType(jobType)
+                .userId(userId)
+                .requestPayload(requestPayload)
+                .build());
+        log.info("📥 추천 작업 생성: jobId={}, type={}, userId={}", job.getId(), jobType, userId);
+        return job;
+    }
+
+    @Transactional
+    public void markRunning(Long jobId) {
+        findJob(jobId).markRunning();
+    }
+
+    @Transactional
+    public void markDone(Long jobId, Object result) {
+        String resultPayload;
+        try {
+            resultPayload = objectMapper.writeValueAsString(result);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "추천 결과 직렬화에 실패했습니다.", e);
+        }
+        findJob(jobId).markDone(resultPayload);
+        log.info("✅ 추천 작업 완료: jobId={}", jobId);
+    }
+
+    @Transactional
+    public void markFailed(Long jobId, String errorMessage) {
+        findJob(jobId).markFailed(errorMessage);
+        log.warn("❌ 추천 작업 실패: jobId={}, error={}", jobId, errorMessage);
+    }
+
+    /**
+     * 작업 상태 조회
+     * - 작업을 등록한 사용자만 조회 가능 (다른 사용자의 작업은 존재 여부도 드러나지 않도록 NOT_FOUND)
+     */
+    public RecommendationJobResponseDto getJob(Long jobId, Long requesterId) {
+        RecommendationJob job = findJob(jobId);
+        if (requesterId == null || !requesterId.equals(job.getUserId())) {
+            log.warn("⚠️ 다른 사용자의 추천 작업 조회 시도: jobId={}, requesterId={}", jobId, requesterId);
+            throw new BusinessException(ErrorCode.NOT_FOUND, "추천 작업을 찾을 수 없습니다: " + jobId);
+        }
+
+        Object result = null;
+        if (job.getStatus() == RecommendationJob.JobStatus.DONE && job.getResultPayload() != null) {
+            try {
+                result = objectMapper.readValue(job.getResultPayload(), Object.class);
+            } catch (Exception e) {
+                log.error("❌ 추천 작업 결과 파싱 실패: jobId={}, error={}", jobId, e.getMessage());
+            }
+        }
+
+        return new RecommendationJobResponseDto(
+                job.getId(),
+                job.getJobType().name(),
+                job.getStatus().name(),
+                result,
+                job.getErrorMessage(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt()
+        );
+    }
+
+    /**
+     * 미완료(PENDING/RUNNING) 작업 조회
+     */
+    public List<RecommendationJob> findUnfinishedJobs() {
+        return recommendationJobRepository.findByStatusInOrderByIdAsc(
+                List.of(RecommendationJob.JobStatus.PENDING, RecommendationJob.JobStatus.RUNNING));
+    }
+
+    private RecommendationJob findJob(Long jobId) {
+        return recommendationJobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND, "추천 작업을 찾을 수 없습니다: " + jobId));
+    }
+}
@@ -0,0 +1,350 @@
+package com.example.smart_healthcare.service;
+
+import com.example.smart_healthcare.common.error.BusinessException;
+import com.example.smart_healthcare.common.error.ErrorCode;
+import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
+import com.example.smart_healthcare.dto.request.SurveyDataRequestDto;
+import com.example.smart_healthcare.dto.response.DietRecommendationResponseDto;
+import com.example.smart_healthcare.dto.response.WorkoutRecommendationResponseDto;
+import com.example.smart_healthcare.entity.RecommendationJob;
+import com.example.smart_healthcare.entity.RecommendationTemplate;
+import com.example.smart_healthcare.repository.AIBodyAnalysisResultRepository;
+import com.example.smart_healthcare.repository.RecommendationTemplateRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 체형 클러스터별 추천 템플릿 서비스
+ * - (체형 라벨, 성별, 연령대, 목표, 운동 요일 / 끼니·식단 성향)을 클러스터 키로 묶어 READY 템플릿을 메모리에 보관
+ * - 템플릿이 있으면 개인 수치(체중, 체지방률 등)만 치환하여 GPT 호출 없이 응답
+ * - 없으면 수요를 기록하여 백그라운드 작업(RecommendationTemplateFacade)이 생성하도록 함
+ * - 부상/질환 등 개인 제약이 있는 설문, 체형 분석이 없는 사용자는 이상치로 보고 항상 GPT 직접 호출
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class RecommendationTemplateService {
+
+    private static final List<String> WEEK_ORDER =
+            List.of("Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday", "Sunday");
+    private static final List<String> OUTLIER_KEYWORDS = List.of(
+            "부상", "통증", "수술", "재활", "질환", "디스크", "관절염", "임신", "당뇨", "고혈압",
+            "알레르기", "알러지", "채식", "비건");
+    private static final List<String> FAT_LOSS_KEYWORDS = List.of("감량", "감소", "다이어트", "체지방");
+    private static final List<String> GAIN_KEYWORDS = List.of("증가", "증량", "벌크", "근비대");
+
+    /**
+     * 개인 수치 치환 토큰: 이름, 앞/뒤 문맥 (예: "72.4kg" → "{{weight}}kg")
+     */
+    private enum Token {
+        BMI("bmi", "BMI\\s*:?\\s*", ""),
+        BODY_FAT("bodyFat", "", "\\s*%"),
+        SKELETAL_MUSCLE("skeletalMuscle", "", "\\s*kg"),
+        WEIGHT("weight", "", "\\s*kg"),
+        BMR("bmr", "", "\\s*kcal"),
+        AGE("age", "", "\\s*세");
+
+        private final String placeholder;
+        private final String before;
+        private final String after;
+
+        Token(String name, String before, String after) {
+            this.placeholder = "{{" + name + "}}";
+            this.before = before;
+            this.after = after;
+        }
+    }
+
+    private final RecommendationTemplateRepository templateRepository;
+    private final AIBodyAnalysisResultRepository bodyAnalysisResultRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ai.template.enabled:false}")
+    private boolean enabled;
+
+    @Value("${ai.template.max-survey-length:200}")
+    private int maxSurveyLength;
+
+    // READY 템플릿 캐시 (type:clusterKey → basePayload)
+    private final Map<String, String> readyTemplates = new ConcurrentHashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder outliers = new LongAdder();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadReadyTemplates() {
+        templateRepository.findByStatus(RecommendationTemplate.Status.READY)
+                .forEach(template -> readyTemplates.put(cacheKey(template.getTemplateType(), template.getClusterKey()),
+                        template.getBasePayload()));
+        log.info("📦 추천 템플릿 로드: {}개", readyTemplates.size());
+    }
+
+    /**
+     * 운동 추천 템플릿 조회 (없으면 수요 기록 후 empty)
+     * - 사용/수요 카운터는 각자 짧은 트랜잭션으로 갱신 (수요 등록 충돌이 조회 트랜잭션을 롤백시키지 않도록)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<WorkoutRecommendationResponseDto> findWorkout(InbodyDataRequestDto request) {
+        return find(RecommendationJob.JobType.WORKOUT, request, WorkoutRecommendationResponseDto.class);
+    }
+
+    /**
+     * 식단 추천 템플릿 조회 (없으면 수요 기록 후 empty)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Optional<DietRecommendationResponseDto> findDiet(InbodyDataRequestDto request) {
+        return find(RecommendationJob.JobType.DIET, request, DietRecommendationResponseDto.class);
+    }
+
+    /**
+     * 생성 대상 템플릿 (수요 많은 순)
+     */
+    public List<RecommendationTemplate> findGenerationTargets(int minDemand, int ttlHours, int limit) {
+        return templateRepository.findGenerationTargets(minDemand, RecommendationTemplate.Status.PENDING,
+                LocalDateTime.now().minusHours(ttlHours), PageRequest.of(0, limit));
+    }
+
+    public InbodyDataRequestDto representativeOf(RecommendationTemplate template) {
+        try {
+            return lenientReader(InbodyDataRequestDto.class).readValue(template.getRepresentativePayload());
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "템플릿 대표 요청 파싱에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 대표 요청으로 생성한 추천 결과를 템플릿으로 저장 (개인 수치는 치환 토큰으로 변환)
+     */
+    @Transactional
+    public void storeGenerated(Long templateId, Object result, InbodyDataRequestDto representative) {
+        RecommendationTemplate template = templateRepository.findById(templateId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.INTERNAL_ERROR, "추천 템플릿을 찾을 수 없습니다."));
+        String basePayload;
+        try {
+            basePayload = templatize(objectMapper.writeValueAsString(result), representative);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "추천 템플릿 직렬화에 실패했습니다.", e);
+        }
+        template.markReady(basePayload);
+        readyTemplates.put(cacheKey(template.getTemplateType(), template.getClusterKey()), basePayload);
+        log.info("✅ 추천 템플릿 생성: type={}, cluster={}, demand={}",
+                template.getTemplateType(), template.getClusterKey(), template.getDemandCount());
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", enabled);
+        metrics.put("readyTemplates", readyTemplates.size());
+        metrics.put("hits", hits.sum());
+        metrics.put("misses", misses.sum());
+        metrics.put("outliers", outliers.sum());
+        return metrics;
+    }
+
+    private <T> Optional<T> find(RecommendationJob.JobType type, InbodyDataRequestDto request, Class<T> responseType) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String clusterKey = clusterKeyOf(type, request);
+        if (clusterKey == null) {
+            outliers.increment();
+            return Optional.empty();
+        }
+
+        String basePayload = readyTemplates.get(cacheKey(type, clusterKey));
+        if (basePayload == null) {
+            misses.increment();
+            registerDemand(type, clusterKey, request);
+            return Optional.empty();
+        }
+
+        try {
+            T result = lenientReader(responseType).readValue(render(basePayload, request));
+            templateRepository.incrementHit(type, clusterKey);
+            hits.increment();
+            log.info("⚡ 추천 템플릿 사용: type={}, cluster={}, userId={}", type, clusterKey, request.userId());
+            return Optional.of(result);
+        } catch (Exception e) {
+            log.warn("⚠️ 추천 템플릿 렌더링 실패, GPT로 생성: cluster={}, error={}", clusterKey, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 템플릿 없는 클러스터의 수요 기록 (처음이면 현재 요청을 대표 요청으로 PENDING 등록)
+     * - 증가는 원자적 UPDATE, 행이 없을 때만 INSERT하고 동시 INSERT로 유니크 키가 충돌하면 먼저 들어간 행을 증가
+     */
+    private void registerDemand(RecommendationJob.JobType type, String clusterKey, InbodyDataRequestDto request) {
+        if (templateRepository.incrementDemand(type, clusterKey) > 0) {
+            return;
+        }
+        try {
+            templateRepository.save(RecommendationTemplate.builder()
+                    .templateType(type)
+                    .clusterKey(clusterKey)
+                    .representativePayload(toRepresentativePayload(request))
+                    .demandCount(1)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            log.debug("추천 템플릿 동시 등록, 수요만 증가: type={}, cluster={}", type, clusterKey);
+            templateRepository.incrementDemand(type, clusterKey);
+        }
+    }
+
+    /**
+     * 클러스터 키 (이상치면 null)
+     */
+    private String clusterKeyOf(RecommendationJob.JobType type, InbodyDataRequestDto request) {
+        if (request.userId() == null || request.gender() == null || request.birthYear() == null) {
+            return null;
+        }
+        SurveyDataRequestDto survey = request.survey();
+        String text = survey != null && survey.text() != null ? survey.text().trim() : "";
+        if (text.length() > maxSurveyLength || OUTLIER_KEYWORDS.stream().anyMatch(text::contains)) {
+            return null;
+        }
+        List<String> labels = bodyAnalysisResultRepository.findRecentLabelsByUserId(request.userId(), PageRequest.of(0, 1));
+        if (labels.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder key = new StringBuilder()
+                .append(labels.get(0)).append('|')
+                .append(request.gender()).append('|')
+                .append(request.getCurrentAge() / 10 * 10).append("s|")
+                .append(goalOf(text));
+        if (type == RecommendationJob.JobType.WORKOUT) {
+            List<String> days = survey != null && survey.getSelectedDaysEn() != null
+                    ? new ArrayList<>(survey.getSelectedDaysEn()) : new ArrayList<>();
+            days.sort(Comparator.comparingInt(WEEK_ORDER::indexOf));
+            key.append('|').append(String.join(",", days));
+        } else {
+            List<String> meals = survey != null && survey.mealsToGenerate() != null
+                    ? new ArrayList<>(survey.mealsToGenerate()) : new ArrayList<>();
+            meals.sort(Comparator.naturalOrder());
+            key.append('|').append(String.join(",", meals))
+                    .append('|').append(survey != null ? survey.mealLabeling() : null)
+                    .append('|').append(dietStyleOf(text));
+        }
+        return key.toString();
+    }
+
+    private String goalOf(String text) {
+        boolean fatLoss = FAT_LOSS_KEYWORDS.stream().anyMatch(text::contains);
+        boolean gain = GAIN_KEYWORDS.stream().anyMatch(text::contains);
+        if (fatLoss && gain) {
+            return "RECOMP";
+        }
+        return fatLoss ? "FAT_LOSS" : gain ? "GAIN" : "GENERAL";
+    }
+
+    private String dietStyleOf(String text) {
+        if (text.contains("저탄고지") || text.contains("키토")) {
+            return "LOW_CARB";
+        }
+        if (text.contains("저칼로리")) {
+            return "LOW_CAL";
+        }
+        return text.contains("고단백") ? "HIGH_PROTEIN" : "BALANCED";
+    }
+
+    /**
+     * 대표 요청의 개인 수치를 치환 토큰으로 변환
+     */
+    private String templatize(String payload, InbodyDataRequestDto representative) {
+        Map<Token, String> values = personalValues(representative);
+        String result = payload;
+        for (Map.Entry<Token, String> entry : values.entrySet()) {
+            Token token = entry.getKey();
+            // 숫자 일부만 일치하는 경우(72.4 vs 172.4)를 피하도록 앞뒤가 숫자가 아닌 경우만 치환
+            Pattern pattern = Pattern.compile("(" + token.before + ")(?<![\\d.])" + Pattern.quote(entry.getValue())
+                    + "(?!\\d)(?=" + token.after + ")");
+            result = pattern.matcher(result).replaceAll("$1" + Matcher.quoteReplacement(token.placeholder));
+        }
+        return result;
+    }
+
+    /**
+     * 치환 토큰을 요청자의 수치로 변환
+     */
+    private String render(String basePayload, InbodyDataRequestDto request) {
+        Map<Token, String> values = personalValues(request);
+        String result = basePayload;
+        for (Token token : Token.values()) {
+            String value = values.get(token);
+            if (value != null) {
+                result = result.replace(token.placeholder, value);
+            }
+        }
+        return result;
+    }
+
+    private Map<Token, String> personalValues(InbodyDataRequestDto request) {
+        Map<Token, String> values = new LinkedHashMap<>();
+        putDecimal(values, Token.BMI, request.bmi());
+        putDecimal(values, Token.BODY_FAT, request.bodyFatPercentage());
+        putDecimal(values, Token.SKELETAL_MUSCLE, request.skeletalMuscleMass());
+        putDecimal(values, Token.WEIGHT, request.weight());
+        if (request.basalMetabolism() != null) {
+            values.put(Token.BMR, String.valueOf(request.basalMetabolism()));
+        }
+        if (request.birthYear() != null) {
+            values.put(Token.AGE, String.valueOf(request.getCurrentAge()));
+        }
+        return values;
+    }
+
+    private void putDecimal(Map<Token, String> values, Token token, Float value) {
+        if (value != null) {
+            values.put(token, String.format(Locale.ROOT, "%.1f", value));
+        }
+    }
+
+    private String toRepresentativePayload(InbodyDataRequestDto request) {
+        try {
+            Map<String, Object> payload = objectMapper.convertValue(request, new TypeReference<Map<String, Object>>() {});
+            payload.put("userId", null);
+            return objectMapper.writeValueAsString(payload);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "템플릿 대표 요청 직렬화에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * DTO의 계산용 getter(getCurrentAge 등)가 직렬화되어 있어도 역직렬화되도록 알 수 없는 필드 무시
+     */
+    private ObjectReader lenientReader(Class<?> type) {
+        return objectMapper.readerFor(type).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    private String cacheKey(RecommendationJob.JobType type, String clusterKey) {
+        return type + ":" + clusterKey;
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.smart_healthcare.service;
+
+import com.example.smart_healthcare.client.OpenAICircuitBreaker;
+import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 추측 실행(speculative) 결과 저장소
+ * - 인바디/설문 저장 직후 사용자가 곧 요청할 체형 분석/운동/식단 AI 결과를 미리 생성하여 메모리에 보관 (DB 저장 전 상태)
+ * - 이후 같은 입력(요청 지문 일치)으로 POST가 들어오면 진행 중이거나 완료된 결과를 그대로 사용 (저장도 그 POST에서 수행)
+ * - 넘겨준 진행 중 결과가 이후 실패하면 호출 측(Facade)이 일반 경로로 다시 생성
+ * - 동시 추측 실행은 max-concurrent로 제한하고, 여유가 없거나 서킷이 CLOSED가 아니면 추측하지 않음
+ */
+@Slf4j
+@Component
+public class SpeculativeResultStore {
+
+    public enum Kind {
+        BODY_ANALYSIS, WORKOUT, DIET
+    }
+
+    private record Entry(String fingerprint, CompletableFuture<?> future, long createdAt) {}
+
+    private final ObjectMapper objectMapper;
+    private final OpenAICircuitBreaker circuitBreaker;
+    private final boolean enabled;
+    private final long ttlMillis;
+    private final Semaphore permits;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final LongAdder started = new LongAdder();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder mismatches = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+
+    public SpeculativeResultStore(ObjectMapper objectMapper,
+                                  OpenAICircuitBreaker circuitBreaker,
+                                  @Value("${ai.speculative.enabled:false}") boolean enabled,
+                                  @Value("${ai.speculative.max-concurrent:4}") int maxConcurrent,
+                                  @Value("${ai.speculative.ttl-seconds:600}") long ttlSeconds) {
+        this.objectMapper = objectMapper;
+        this.circuitBreaker = circuitBreaker;
+        this.enabled = enabled;
+        this.ttlMillis = ttlSeconds * 1000L;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 추측 실행 시작 (같은 사용자/종류의 이전 추측 결과는 대체)
+     */
+    public <T> void speculate(Kind kind, InbodyDataRequestDto request, Supplier<CompletableFuture<T>> call) {
+        if (!enabled || request.userId() == null) {
+            return;
+        }
+        if (!circuitBreaker.isClosed() || !permits.tryAcquire()) {
+            skipped.increment();
+            log.debug("추측 실행 생략 (여유 없음): kind={}, userId={}", kind, request.userId());
+            return;
+        }
+
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (RuntimeException e) {
+            permits.release();
+            log.warn("⚠️ 추측 실행 시작 실패: kind={}, userId={}, error={}", kind, request.userId(), e.getMessage());
+            return;
+        }
+        future.whenComplete((result, e) -> {
+            permits.release();
+            if (e != null) {
+                log.warn("⚠️ 추측 실행 실패: kind={}, userId={}, error={}", kind, request.userId(), e.getMessage());
+            }
+        });
+
+        entries.put(key(kind, request.userId()), new Entry(fingerprint(request), future, System.currentTimeMillis()));
+        started.increment();
+        log.info("🔮 추측 실행 시작: kind={}, userId={}", kind, request.userId());
+    }
+
+    /**
+     * 같은 입력의 추측 결과 가져오기 (진행 중이면 그 future, 입력이 바뀌었거나 이미 실패했으면 empty)
+     * - 진행 중인 future는 이후 실패할 수 있으므로 호출 측에서 실패 시 일반 경로로 재생성
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<CompletableFuture<T>> take(Kind kind, InbodyDataRequestDto request) {
+        if (!enabled || request.userId() == null) {
+            return Optional.empty();
+        }
+        Entry entry = entries.remove(key(kind, request.userId()));
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (isExpired(entry) || entry.future().isCompletedExceptionally()) {
+            expired.increment();
+            return Optional.empty();
+        }
+        if (!entry.fingerprint().equals(fingerprint(request))) {
+            mismatches.increment();
+            log.info("🔮 추측 결과 입력 불일치, 새로 생성: kind={}, userId={}", kind, request.userId());
+            return Optional.empty();
+        }
+        hits.increment();
+        log.info("🔮 추측 결과 사용: kind={}, userId={}, 완료 여부={}", kind, request.userId(), entry.future().isDone());
+        return Optional.of((CompletableFuture<T>) entry.future());
+    }
+
+    @Scheduled(fixedDelayString = "${ai.speculative.cleanup-interval-ms:60000}")
+    public void evictExpired() {
+        entries.entrySet().removeIf(e -> {
+            boolean remove = isExpired(e.getValue());
+            if (remove) {
+                expired.increment();
+            }
+            return remove;
+        });
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("enabled", enabled);
+        metrics.put("pending", entries.size());
+        metrics.put("availablePermits", permits.availablePermits());
+        metrics.put("started", started.sum());
+        metrics.put("skipped", skipped.sum());
+        metrics.put("hits", hits.sum());
+        metrics.put("mismatches", mismatches.sum());
+        metrics.put("expired", expired.sum());
+        return metrics;
+    }
+
+    private boolean isExpired(Entry entry) {
+        return System.currentTimeMillis() - entry.createdAt() > ttlMillis;
+    }
+
+    /**
+     * 요청 지문 (프롬프트에 들어가는 인바디/설문 값 전체의 SHA-256)
+     */
+    private String fingerprint(InbodyDataRequestDto request) {
+        try {
+            byte[] json = objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (Exception e) {
+            throw new IllegalStateException("추측 실행 요청 지문 생성 실패", e);
+        }
+    }
+
+    private String key(Kind kind, Long userId) {
+        return kind + ":" + userId;
+    }
+}
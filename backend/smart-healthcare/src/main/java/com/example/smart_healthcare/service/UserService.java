@@ -2,12 +2,16 @@ package com.example.smart_healthcare.service;
 
 import com.example.smart_healthcare.common.error.BusinessException;
 import com.example.smart_healthcare.common.error.ErrorCode;
+import com.example.smart_healthcare.config.CacheConfig;
 import com.example.smart_healthcare.dto.request.UpdateUserRequestDto;
 import com.example.smart_healthcare.dto.response.UserResponseDto;
 import com.example.smart_healthcare.entity.User;
 import com.example.smart_healthcare.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +31,7 @@ public class UserService {
     /**
      * 사용자 조회 (ID)
      */
+    @Cacheable(value = CacheConfig.USERS, key = "#id")
     public UserResponseDto getUserById(Long id) {
         log.info("사용자 조회 요청: id={}", id);
         
@@ -89,6 +94,10 @@ public class UserService {
      * 사용자 정보 수정
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.USERS, key = "#id"),
+            @CacheEvict(value = CacheConfig.USER_DETAILS, allEntries = true)
+    })
     public UserResponseDto updateUser(Long id, UpdateUserRequestDto request) {
         log.info("사용자 정보 수정 요청: id={}", id);
         
@@ -123,6 +132,10 @@ public class UserService {
      * 사용자 삭제 (논리 삭제)
      */
     @Transactional
+    @Caching(evict = {
+            @CacheEvict(value = CacheConfig.USERS, key = "#id"),
+            @CacheEvict(value = CacheConfig.USER_DETAILS, allEntries = true)
+    })
     public void deleteUser(Long id) {
         log.info("사용자 삭제 요청: id={}", id);
         
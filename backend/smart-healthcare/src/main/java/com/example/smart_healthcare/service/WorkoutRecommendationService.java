@@ -1,5 +1,6 @@
 package com.example.smart_healthcare.service;
 
+import com.example.smart_healthcare.config.CacheConfig;
 import com.example.smart_healthcare.dto.response.WorkoutRecommendationResponseDto;
 import com.example.smart_healthcare.entity.AIWorkoutRecommendation;
 import com.example.smart_healthcare.entity.User;
@@ -9,6 +10,8 @@ import com.example.smart_healthcare.common.error.BusinessException;
 import com.example.smart_healthcare.common.error.ErrorCode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -34,6 +37,7 @@ public class WorkoutRecommendationService {
     /**
      * 사용자별 최신 운동 추천 조회
      */
+    @Cacheable(value = CacheConfig.LATEST_WORKOUT_RECOMMENDATION, key = "#userId")
     public Optional<WorkoutRecommendationResponseDto> getLatestWorkoutRecommendation(Long userId) {
         log.info("🔍 최신 운동 추천 조회: userId={}", userId);
         
@@ -94,6 +98,7 @@ public class WorkoutRecommendationService {
      * 운동 추천 저장 (AI 생성 후 호출) - 중복 방지 로직 포함
      */
     @Transactional
+    @CacheEvict(value = CacheConfig.LATEST_WORKOUT_RECOMMENDATION, key = "#userId")
     public AIWorkoutRecommendation saveWorkoutRecommendation(WorkoutRecommendationResponseDto dto, Long userId, String goal) {
         log.info("💾 운동 추천 저장: userId={}, program={}", userId, dto.programName());
         
@@ -154,6 +159,7 @@ public class WorkoutRecommendationService {
      * 특정 운동 추천 논리 삭제 (ID + 사용자 ID) - 본인 기록만 삭제 가능
      */
     @Transactional
+    @CacheEvict(value = CacheConfig.LATEST_WORKOUT_RECOMMENDATION, key = "#userId")
     public void deleteWorkoutRecommendation(Long id, Long userId) {
         log.info("운동 추천 삭제 요청: id={}, userId={}", id, userId);
         
@@ -1,5 +1,8 @@
 package com.example.smart_healthcare.service;
 
+import com.example.smart_healthcare.common.util.ExerciseAliases;
+import com.example.smart_healthcare.common.util.SingleFlight;
+import com.example.smart_healthcare.config.CacheConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -21,25 +24,37 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class YoutubeService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
     
     @Value("${youtube.api.key:}")
     private String apiKey;
     
     private static final String API_URL = "https://www.googleapis.com/youtube/v3/search";
+    private static final String SEARCH_URL = "https://www.youtube.com/results?search_query=";
+    
+    // 캐시 미스가 동시에 몰려도 같은 검색어는 API를 한 번만 호출
+    private final SingleFlight<String, String> inFlightSearches = new SingleFlight<>();
     
     /**
-     * YouTube 영상 검색 (캐싱 적용)
+     * YouTube 영상 검색 (캐싱 적용, 검색 페이지 fallback은 캐시하지 않음, 같은 검색어의 동시 호출은 하나로 합침)
      * 
      * @param query 검색어 (GPT가 최적화한 쿼리 권장)
      * @param type 'exercise' 또는 'diet'
      * @param exerciseName 운동 이름 (관련성 검증용, 선택사항)
      * @return YouTube 영상 URL 또는 검색 페이지 URL (fallback)
      */
-    @Cacheable(value = "youtubeVideos", key = "#query + '_' + (#exerciseName != null ? #exerciseName : '')")
+    @Cacheable(value = CacheConfig.YOUTUBE_VIDEOS, key = "#query + '_' + (#exerciseName != null ? #exerciseName : '')",
+               unless = "#result == null || #result.startsWith('" + SEARCH_URL + "')")
     public String findVideoUrl(String query, String type, String exerciseName) {
+        return inFlightSearches.execute(type + "_" + query + "_" + exerciseName, () -> search(query, type, exerciseName));
+    }
+    
+    /**
+     * YouTube Data API 검색 + 관련성 검증 (실패 시 검색 페이지 URL)
+     */
+    private String search(String query, String type, String exerciseName) {
         // API 키가 없으면 검색 링크로 fallback
-        if (apiKey == null || apiKey.isEmpty() || apiKey.equals("YOUR_YOUTUBE_API_KEY")) {
+        if (!isApiKeyConfigured()) {
             log.warn("⚠️ YouTube API 키가 설정되지 않음, 검색 링크로 fallback");
             return buildSearchUrl(query);
         }
@@ -114,15 +129,22 @@ public class YoutubeService {
         }
     }
     
+    /**
+     * API 키 설정 여부 (없으면 항상 검색 링크로 fallback)
+     */
+    public boolean isApiKeyConfigured() {
+        return apiKey != null && !apiKey.isEmpty() && !apiKey.equals("YOUR_YOUTUBE_API_KEY");
+    }
+    
     /**
      * YouTube 검색 페이지 URL 생성 (fallback)
      */
     private String buildSearchUrl(String query) {
         try {
             String encoded = URLEncoder.encode(query, StandardCharsets.UTF_8);
-            return "https://www.youtube.com/results?search_query=" + encoded;
+            return SEARCH_URL + encoded;
         } catch (Exception e) {
-            return "https://www.youtube.com/results?search_query=exercise+tutorial";
+            return SEARCH_URL + "exercise+tutorial";
         }
     }
     
@@ -189,7 +211,7 @@ public class YoutubeService {
                 for (String word : exerciseWords) {
                     if (word.length() >= 2) {
                         // 직접 포함 또는 유사 단어 매칭
-                        if (combined.contains(word) || containsSimilarWord(combined, word)) {
+                        if (combined.contains(word) || ExerciseAliases.containsAlias(combined, word)) {
                             matchedWords++;
                         }
                     }
@@ -240,82 +262,4 @@ public class YoutubeService {
         log.debug("✅ 관련 영상으로 판단: title={}", title);
         return true;
     }
-    
-    /**
-     * 유사 단어 포함 여부 확인 (한글/영어 매칭)
-     */
-    private boolean containsSimilarWord(String text, String word) {
-        // 한글-영어 매핑 (운동명)
-        if (word.contains("로우") || word.contains("row")) {
-            return text.contains("row");
-        }
-        if (word.contains("스쿼트") || word.contains("squat")) {
-            return text.contains("squat");
-        }
-        if (word.contains("프레스") || word.contains("press")) {
-            return text.contains("press");
-        }
-        if (word.contains("풀업") || word.contains("pull")) {
-            return text.contains("pull");
-        }
-        if (word.contains("랫풀다운") || word.contains("랫풀") || word.contains("pulldown")) {
-            return text.contains("pulldown") || text.contains("pull down") || text.contains("lat pulldown");
-        }
-        if (word.contains("크런치") || word.contains("crunch")) {
-            return text.contains("crunch");
-        }
-        if (word.contains("플랭크") || word.contains("plank")) {
-            return text.contains("plank");
-        }
-        if (word.contains("런지") || word.contains("lunge")) {
-            return text.contains("lunge");
-        }
-        if (word.contains("데드리프트") || word.contains("deadlift")) {
-            return text.contains("deadlift");
-        }
-        if (word.contains("푸시업") || word.contains("푸쉬업") || word.contains("push")) {
-            return text.contains("push");
-        }
-        if (word.contains("덤벨") || word.contains("dumbbell")) {
-            return text.contains("dumbbell") || text.contains("dumb bell");
-        }
-        if (word.contains("바벨") || word.contains("barbell")) {
-            return text.contains("barbell") || text.contains("bar bell");
-        }
-        if (word.contains("숄더") || word.contains("shoulder")) {
-            return text.contains("shoulder");
-        }
-        if (word.contains("레터럴") || word.contains("lateral")) {
-            return text.contains("lateral");
-        }
-        if (word.contains("레즈") || word.contains("raise")) {
-            return text.contains("raise");
-        }
-        if (word.contains("컬") || word.contains("curl")) {
-            return text.contains("curl");
-        }
-        if (word.contains("익스텐션") || word.contains("extension")) {
-            return text.contains("extension");
-        }
-        if (word.contains("마운틴") || word.contains("mountain")) {
-            return text.contains("mountain");
-        }
-        if (word.contains("클라이머") || word.contains("climber")) {
-            return text.contains("climber");
-        }
-        if (word.contains("버피") || word.contains("burpee")) {
-            return text.contains("burpee");
-        }
-        if (word.contains("점프") || word.contains("jump")) {
-            return text.contains("jump");
-        }
-        if (word.contains("러닝") || word.contains("running")) {
-            return text.contains("running") || text.contains("run");
-        }
-        if (word.contains("걷기") || word.contains("walking")) {
-            return text.contains("walking") || text.contains("walk");
-        }
-        return false;
-    }
 }
-
@@ -1,6 +1,9 @@
 package com.example.smart_healthcare.service.ai;
 
+import com.example.smart_healthcare.client.ChatCompletionResponse;
 import com.example.smart_healthcare.client.OpenAIClient;
+import com.example.smart_healthcare.client.OpenAIModelRouter;
+import com.example.smart_healthcare.config.CacheConfig;
 import com.example.smart_healthcare.dto.response.BodyAnalysisResponseDto;
 import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
 import com.example.smart_healthcare.entity.AIBodyAnalysisResult;
@@ -12,6 +15,7 @@ import com.example.smart_healthcare.repository.UserRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -23,6 +27,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * AI 기반 체형 분석 서비스
@@ -38,6 +44,10 @@ public class ChatGPTBodyAnalysisService {
     private final AIBodyAnalysisResultRepository analysisResultRepository;
     private final UserRepository userRepository;
     private final InbodyRecordRepository inbodyRecordRepository;
+    private final Executor aiTaskExecutor;
+    private final TolerantJsonParser jsonParser;
+    private final PromptTemplateRegistry promptTemplates;
+    private final OpenAIModelRouter modelRouter;
     
     /**
      * 인바디 데이터를 기반으로 체형 분석 수행 (외부 API 호출만)
@@ -46,72 +56,97 @@ public class ChatGPTBodyAnalysisService {
      */
     public String analyzeBodyType(InbodyDataRequestDto inbody) {
         try {
-            log.info("🔍 체형 분석 시작: 성별={}, 나이={}, BMI={}", 
-                    inbody.getGenderKorean(), inbody.getCurrentAge(), inbody.bmi());
-            
-            // 1. 프롬프트 구성
-            String systemPrompt = buildSystemPrompt();
-            String userPrompt = buildUserPrompt(inbody);
-            
-            // 2. ChatGPT API 요청 구성
-            Map<String, Object> request = new HashMap<>();
-            request.put("model", openAIClient.getDefaultModel());
-            request.put("messages", List.of(
-                    Map.of("role", "system", "content", systemPrompt),
-                    Map.of("role", "user", "content", userPrompt)
-            ));
-            // 체형 분석은 보수적으로: temperature를 0.3으로 고정
-            request.put("temperature", 0.3);
-            request.put("max_tokens", openAIClient.getDefaultMaxTokens());
+            Map<String, Object> request = buildAnalysisRequest(inbody);
             
             // 3. API 호출
-            Map<String, Object> response = openAIClient.chatCompletions(request);
-            
-            if (response == null) {
-                throw new RuntimeException("OpenAI API 응답이 null입니다.");
-            }
+            ChatCompletionResponse response = openAIClient.chatCompletions(request);
             
-            // 4. 응답 파싱
-            String content = extractContentFromResponse(response);
-            log.info("📝 GPT 응답 내용: {}", content);
-            
-            BodyAnalysisResponseDto result = parseGptResponse(content);
-            log.info("✅ 체형 분석 완료: {}", result.label());
-            
-            // 5. JSON 문자열로 반환 (DB 저장은 별도 서비스에서 처리)
-            return objectMapper.writeValueAsString(result);
+            return toAnalysisJson(response, request);
             
         } catch (Exception e) {
-            log.error("❌ 체형 분석 실패: {}", e.getMessage(), e);
-            // 예외를 그대로 던져서 컨트롤러에서 처리
-            throw new RuntimeException("체형 분석 중 오류가 발생했습니다: " + e.getMessage(), e);
+            throw wrapAnalysisFailure(e);
         }
     }
-    
+
     /**
-     * ChatGPT 응답에서 content 추출
+     * 체형 분석 수행 (논블로킹)
+     * - OpenAI 응답을 기다리는 동안 호출 스레드를 점유하지 않음
+     * - 응답 파싱은 aiTaskExecutor에서 수행
      */
-    @SuppressWarnings("unchecked")
-    private String extractContentFromResponse(Map<String, Object> response) {
+    public CompletableFuture<String> analyzeBodyTypeAsync(InbodyDataRequestDto inbody) {
+        Map<String, Object> request;
         try {
-            List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
-            if (choices != null && !choices.isEmpty()) {
-                Map<String, Object> choice = choices.get(0);
-                Map<String, Object> message = (Map<String, Object>) choice.get("message");
-                if (message != null) {
-                    return (String) message.get("content");
-                }
-            }
+            request = buildAnalysisRequest(inbody);
         } catch (Exception e) {
-            log.error("응답 파싱 실패: {}", e.getMessage(), e);
+            return CompletableFuture.failedFuture(wrapAnalysisFailure(e));
         }
-        throw new RuntimeException("ChatGPT 응답에서 content를 추출할 수 없습니다.");
+
+        return openAIClient.chatCompletionsAsync(request)
+                .thenApplyAsync(response -> {
+                    try {
+                        return toAnalysisJson(response, request);
+                    } catch (Exception e) {
+                        throw wrapAnalysisFailure(e);
+                    }
+                }, aiTaskExecutor);
+    }
+
+    /**
+     * 프롬프트 및 ChatGPT API 요청 구성
+     */
+    private Map<String, Object> buildAnalysisRequest(InbodyDataRequestDto inbody) {
+        log.info("🔍 체형 분석 시작: 성별={}, 나이={}, BMI={}", 
+                inbody.getGenderKorean(), inbody.getCurrentAge(), inbody.bmi());
+        
+        // 1. 프롬프트 구성
+        String systemPrompt = buildSystemPrompt();
+        String userPrompt = buildUserPrompt(inbody);
+        
+        // 2. ChatGPT API 요청 구성
+        Map<String, Object> request = new HashMap<>();
+        request.put("messages", List.of(
+                Map.of("role", "system", "content", systemPrompt),
+                Map.of("role", "user", "content", userPrompt)
+        ));
+        // 체형 분석은 짧은 JSON 분류 작업: 작은 모델, 낮은 temperature(기본 0.3), 작은 max_tokens
+        modelRouter.apply(request, OpenAIModelRouter.TaskType.BODY_ANALYSIS);
+        promptTemplates.applyCacheKey(request, PromptTemplateRegistry.BODY_ANALYSIS_SYSTEM);
+        return request;
+    }
+
+    /**
+     * ChatGPT 응답을 분석 결과 JSON 문자열로 변환
+     */
+    private String toAnalysisJson(ChatCompletionResponse response, Map<String, Object> request) throws Exception {
+        if (response == null) {
+            throw new RuntimeException("OpenAI API 응답이 null입니다.");
+        }
+        
+        // 4. 응답 파싱
+        String content = response.firstContent();
+        if (content == null) {
+            throw new RuntimeException("ChatGPT 응답에서 content를 추출할 수 없습니다.");
+        }
+        log.info("📝 GPT 응답 내용: {}", content);
+        
+        BodyAnalysisResponseDto result = parseGptResponse(content, request);
+        log.info("✅ 체형 분석 완료: {}", result.label());
+        
+        // 5. JSON 문자열로 반환 (DB 저장은 별도 서비스에서 처리)
+        return objectMapper.writeValueAsString(result);
+    }
+
+    private RuntimeException wrapAnalysisFailure(Exception e) {
+        log.error("❌ 체형 분석 실패: {}", e.getMessage(), e);
+        // 예외를 그대로 던져서 컨트롤러에서 처리
+        return new RuntimeException("체형 분석 중 오류가 발생했습니다: " + e.getMessage(), e);
     }
     
     /**
      * GPT 응답을 BodyAnalysisResponseDto로 파싱
+     * - fallback 결과를 반환할 때는 같은 요청에 캐시된 응답이 재사용되지 않도록 제거
      */
-    private BodyAnalysisResponseDto parseGptResponse(String content) {
+    private BodyAnalysisResponseDto parseGptResponse(String content, Map<String, Object> request) {
         try {
             log.info("🔍 GPT 응답 파싱 시작: length={}", content != null ? content.length() : 0);
             if (content == null || content.isBlank()) {
@@ -120,12 +155,14 @@ public class ChatGPTBodyAnalysisService {
 
             String originalContent = content;
 
-            // 1) 코드펜스 제거
-            String cleaned = stripCodeFences(content);
-            // 2) 첫 번째 JSON 객체만 추출
-            String json = extractFirstJsonObject(cleaned);
+            // 1) 코드펜스/앞뒤 설명을 건너뛰고 JSON 객체 추출 (잘린 경우 완성된 필드까지만 복구)
+            TolerantJsonParser.Result repaired = jsonParser.repair(content);
+            String json = repaired != null ? repaired.json() : null;
+            if (repaired != null && repaired.truncated()) {
+                log.warn("✂️ 체형 분석 응답이 잘려 완성된 필드만 사용: 잘린 위치={}", repaired.truncatedPath());
+            }
 
-            if (json != null && json.trim().startsWith("{")) {
+            if (json != null) {
                 log.debug("🔍 JSON 파싱 시도: {}", json.length() > 300 ? json.substring(0, 300) + "..." : json);
                 BodyAnalysisResponseDto result = objectMapper.readValue(json, BodyAnalysisResponseDto.class);
                 log.info("✅ JSON 파싱 성공: label={}", result.label());
@@ -135,56 +172,17 @@ public class ChatGPTBodyAnalysisService {
             // 3) 여전히 JSON을 찾지 못한 경우, 텍스트 응답으로 간주하고 기본 분석 결과로 fallback
             log.warn("⚠️ 유효한 JSON을 찾지 못해 텍스트 기반 기본 분석으로 fallback: {}",
                     originalContent.substring(0, Math.min(150, originalContent.length())));
+            openAIClient.evictCachedResponse(request);
             return buildDefaultAnalysisFallback(originalContent);
 
         } catch (Exception e) {
             log.error("❌ GPT 응답 파싱 실패: {}, 응답: {}", e.getMessage(), content);
+            openAIClient.evictCachedResponse(request);
             // 완전 실패 시에는 '분석불가'로 반환
             return buildErrorFallback();
         }
     }
 
-    /**
-     * ```json ... ``` 또는 ``` ... ``` 제거
-     */
-    private String stripCodeFences(String s) {
-        if (s == null) return null;
-        String t = s.trim();
-        if (t.startsWith("```")) {
-            int firstNewline = t.indexOf('\n');
-            if (firstNewline > 0) {
-                t = t.substring(firstNewline + 1);
-            }
-            int lastFence = t.lastIndexOf("```");
-            if (lastFence >= 0) {
-                t = t.substring(0, lastFence);
-            }
-        }
-        return t.trim();
-    }
-
-    /**
-     * 가장 바깥 중괄호 쌍으로 감싸진 첫 JSON 객체만 추출
-     */
-    private String extractFirstJsonObject(String s) {
-        if (s == null) return null;
-        int start = -1;
-        int depth = 0;
-        for (int i = 0; i < s.length(); i++) {
-            char c = s.charAt(i);
-            if (c == '{') {
-                if (depth == 0) start = i;
-                depth++;
-            } else if (c == '}') {
-                depth--;
-                if (depth == 0 && start >= 0) {
-                    return s.substring(start, i + 1);
-                }
-            }
-        }
-        return null;
-    }
-
     /**
      * JSON 파싱 실패 시 사용할 기본 분석 결과 (텍스트 기반)
      */
@@ -230,76 +228,7 @@ public class ChatGPTBodyAnalysisService {
      * 인바디의 거의 모든 항목(30여 개)을 최대한 활용하도록 요구한다.
      */
     private String buildSystemPrompt() {
-        return """
-            당신은 한국의 전문 체성분 분석가이자 운동생리학 전문가입니다.
-            
-            사용자가 제공한 인바디 측정 데이터(체중, BMI, 체지방률, 근육량, 분절 근육/지방, 내장지방, 복부지방률, 허리둘레, 체중/지방/근육 조절량, 인바디 점수 등)를
-            가능한 한 **모두 반영**하여 체형을 분석해야 합니다.
-            
-            [세분화된 체형 분류 기준]
-            - BMI: 16-18.5(마름), 18.5-22(날씬), 20-23(근육형날씬), 18.5-23(적정), 23-26(근육형), 23-27(운동선수급),
-                    17-19(약간마름), 23-25(과체중), 25-28(경도비만), 28-32(비만), 23-27(마른비만), 28+(근육형비만),
-                    32+(고도비만), 25+(복부비만형)
-            - 체지방률(남성): 6-10%(마름), 8-12%(운동선수급/근육형날씬), 10-15%(날씬), 12-18%(적정/근육형),
-                           20-25%(과체중), 25-30%(경도비만/근육형비만), 25%+(마른비만), 30%+(비만), 35%+(고도비만), 30%+(복부비만형)
-            - 체지방률(여성): 12-16%(마름), 14-18%(운동선수급), 14-20%(근육형날씬), 16-22%(날씬),
-                           18-25%(적정/근육형), 28-32%(과체중), 32-37%(경도비만/근육형비만),
-                           35%+(마른비만), 37%+(비만), 40%+(고도비만), 37%+(복부비만형)
-            - 내장지방레벨: 1-9(정상), 10-14(주의), 15+(위험/복부비만형)
-            - 인바디점수: 80+(우수), 70-79(양호), 60-69(표준), 60 미만(관리필요)
-            - 분절 근육량/체지방량: 좌우/상하체 불균형이 10% 이상이면 “불균형”으로 간주
-            
-            [체형 라벨 후보 (14개 세분화된 분류)]
-            운동선수급, 근육형, 적정, 날씬, 근육형날씬, 약간마름, 마름,
-            과체중, 경도비만, 비만, 마른비만, 고도비만, 복부비만형, 근육형비만
-            
-            [분석 시 반드시 다루어야 할 요소들]
-            1. 전체적인 체성분 균형
-               - 체중, BMI, 체지방률, 근육량, 제지방량, 총체수분을 함께 고려하여
-                 “체성분이 얼마나 건강한지”를 한 문단 이상으로 상세히 설명합니다.
-            2. 분절 근육/지방 분포와 좌우·상하체 균형
-               - 팔/다리/몸통의 근육량과 체지방량을 비교하여
-                 어느 부위가 약한지, 어느 부위가 강한지, 좌우 차이가 있는지를 구체적인 수치와 함께 설명합니다.
-            3. 대사 건강 지표
-               - 기초대사량, 내장지방레벨, 복부지방률, 허리둘레, 비만도 등을 활용해
-                 대사질환(당뇨, 고혈압, 심혈관 질환 등)의 위험도를 판단하고 이유를 제시합니다.
-            4. 체중/지방/근육 조절량
-               - “체중조절, 지방조절, 근육조절” 항목을 이용해
-                 얼마만큼 감량·증량이 필요한지, 그 방향이 “감량 위주 / 근육 증가 위주 / 체중 유지” 중 어디에 해당하는지 설명합니다.
-            5. 연령·성별 표준 대비 평가
-               - 같은 성별/연령대 평균과 비교했을 때 어떤 점이 강점/약점인지, 구체적인 표현으로 설명합니다.
-            6. 종합 건강 위험도 및 관리 우선순위
-               - 건강Risk를 “낮음/보통/높음” 중 하나로 분류하되,
-                 왜 그렇게 판단했는지(인바디 점수, 내장지방, 복부지방률, 혈관·대사 위험 등)를 2~3문장으로 구체적으로 설명하고
-                 특히 관리가 필요한 항목(복부 지방, 근육 부족, 저체중 등)을 2~3가지로 요약합니다.
-            
-            [특별 주의 체형 판별 규칙]
-            - 복부비만형: 내장지방 레벨이 15 이상이거나, 복부지방률/허리둘레가 높은데 체중/전신 BMI는 상대적으로 낮은 경우.
-            - 고도비만: BMI 32 이상이거나, 체지방률이 매우 높고 비만도가 크게 증가한 경우.
-            - 근육형비만: 근육량은 높은데 체지방률과 BMI도 함께 높은 경우.
-            - 마른비만: 체중과 BMI는 정상 또는 낮지만, 체지방률과 복부지방률이 높은 경우.
-            
-            [출력 형식 (JSON 스키마)]
-            아래 JSON 필드를 모두 채워서 하나의 JSON 객체로만 응답하세요.
-            각 텍스트 필드는 최소 2~3문장 이상의 한국어 문단으로 작성합니다
-            (healthRisk, bmiCategory, bodyFatCategory, visceralFatCategory는 짧은 문장/키워드도 허용).
-            {
-              "label": "위의 14개 분류 중 하나를 선택",
-              "summary": "현재 체형을 한 문장으로 요약 (예: '상체 근육이 발달한 근육형 체형으로, 체지방은 약간 높은 편입니다.')",
-              "reasoning": "BMI, 체지방률, 근육량, 내장지방, 체중/지방/근육 조절량 등 핵심 수치를 직접 언급하면서 체형을 이렇게 분류한 이유를 상세히 설명",
-              "tips": "체형에 따라 우선적으로 실천하면 좋은 운동/식단/생활 습관을 3~5개 항목 정도로 구체적으로 제안",
-              "healthRisk": "건강 위험도 요약과 이유 (예: '낮음 - 인바디 점수와 내장지방 수치가 모두 양호하여 대사질환 위험이 낮은 편입니다. 다만 복부지방이 약간 높아 향후 체중 증가에만 주의하면 됩니다.' 처럼 수준 + 근거를 최소 2문장으로 작성)",
-              "muscleBalance": "팔/다리/몸통의 근육량과 좌우 균형을 분석하여, 어느 부위를 강화/보완해야 하는지 설명",
-              "metabolicHealth": "기초대사량, 내장지방레벨, 복부지방률, 허리둘레 등을 근거로 대사 건강 상태와 질환 위험도를 평가",
-              "bodyComposition": "총체수분, 단백질, 무기질, 체지방량, 제지방량, 비만도를 종합하여 체성분의 장점과 보완점을 정리",
-              "bmiCategory": "BMI를 기반으로 한 간단 분류 (예: '정상', '과체중', '비만', '저체중' 등)",
-              "bodyFatCategory": "체지방률을 기반으로 한 분류 (예: '정상 범위', '높은 편', '매우 높은 편' 등)",
-              "visceralFatCategory": "내장지방레벨/복부지방률/허리둘레를 바탕으로 한 복부 비만 위험도 (예: '정상', '주의', '위험' 등)",
-              "inbodyScore": "인바디점수가 제공된 경우 그대로 숫자로 기입"
-            }
-            
-            반드시 위 JSON 형식만 출력하고, 설명 문장이나 마크다운, 코드블록(```json 등)은 포함하지 마세요.
-            """;
+        return promptTemplates.get(PromptTemplateRegistry.BODY_ANALYSIS_SYSTEM);
     }
     
     /**
@@ -403,6 +332,7 @@ public class ChatGPTBodyAnalysisService {
      * 분석 결과를 별도 트랜잭션에서 저장
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @CacheEvict(value = CacheConfig.LATEST_BODY_ANALYSIS, key = "#userId")
     public void saveAnalysisResultInSeparateTransaction(BodyAnalysisResponseDto result, Long userId) {
         saveAnalysisResult(result, userId);
     }
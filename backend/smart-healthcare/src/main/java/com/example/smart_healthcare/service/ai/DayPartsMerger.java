@@ -0,0 +1,92 @@
+package com.example.smart_healthcare.service.ai;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 요일별 분할 생성 결과의 공통 필드 병합 규칙 (운동/식단 서비스 공용)
+ * - 요일마다 따로 생성된 응답은 공통 필드도 각자 작성하므로 첫 요일 값만 쓰지 않고 모든 요일에서 도출
+ * - 설명형 필드(programName, mealStyle 등): 요일 순서대로 처음 비어 있지 않은 값
+ * - 목록형 필드(equipment, shoppingList 등): 모든 요일의 항목을 중복 없이 합침 (다른 요일에만 필요한 항목 누락 방지)
+ */
+public final class DayPartsMerger {
+
+    private static final String ITEM_SEPARATOR = ", ";
+
+    private DayPartsMerger() {
+    }
+
+    /**
+     * 요일 순서대로 처음 비어 있지 않은 값 (문자열은 공백만 있으면 비어 있는 것으로 취급)
+     */
+    public static <T, V> V first(List<T> parts, Function<T, V> field) {
+        for (T part : parts) {
+            V value = field.apply(part);
+            if (value != null && !(value instanceof String text && text.isBlank())) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 요일별 값을 통째로 중복 없이 이어 붙임 (mainSets처럼 요일마다 내용이 다른 설명)
+     */
+    public static <T> String join(List<T> parts, Function<T, String> field, String separator) {
+        Set<String> values = new LinkedHashSet<>();
+        for (T part : parts) {
+            String value = field.apply(part);
+            if (value != null && !value.isBlank()) {
+                values.add(value.trim());
+            }
+        }
+        return values.isEmpty() ? null : String.join(separator, values);
+    }
+
+    /**
+     * 쉼표로 구분된 항목을 모든 요일에서 중복 없이 합침 ("덤벨, 요가매트" + "덤벨, 저항밴드" → "덤벨, 요가매트, 저항밴드")
+     */
+    public static <T> String unionItems(List<T> parts, Function<T, String> field) {
+        Set<String> items = collectItems(parts, field);
+        return items.isEmpty() ? null : String.join(ITEM_SEPARATOR, items);
+    }
+
+    /**
+     * 배열 또는 쉼표 문자열로 오는 목록 필드 합침 (첫 값이 배열이면 배열, 아니면 문자열로 반환)
+     */
+    public static <T> Object unionList(List<T> parts, Function<T, Object> field) {
+        Object first = first(parts, field);
+        if (first == null) {
+            return null;
+        }
+        Set<String> items = collectItems(parts, field);
+        return first instanceof Collection<?> ? new ArrayList<>(items) : String.join(ITEM_SEPARATOR, items);
+    }
+
+    private static <T> Set<String> collectItems(List<T> parts, Function<T, ?> field) {
+        Set<String> items = new LinkedHashSet<>();
+        for (T part : parts) {
+            Object value = field.apply(part);
+            if (value instanceof Collection<?> collection) {
+                collection.stream().filter(Objects::nonNull).map(Object::toString).forEach(item -> addItem(items, item));
+            } else if (value != null) {
+                for (String item : value.toString().split(",")) {
+                    addItem(items, item);
+                }
+            }
+        }
+        return items;
+    }
+
+    private static void addItem(Set<String> items, String item) {
+        String trimmed = item.trim();
+        if (!trimmed.isEmpty()) {
+            items.add(trimmed);
+        }
+    }
+}
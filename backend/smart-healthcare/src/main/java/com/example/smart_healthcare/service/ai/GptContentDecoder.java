@@ -0,0 +1,112 @@
+package com.example.smart_healthcare.service.ai;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GPT content(JSON 문자열) → 응답 DTO(record) 단일 패스 디코더
+ * - Map 파싱 후 DTO로 다시 파싱하던 2회 파싱을 스트리밍 파서 1회로 대체
+ * - 코드펜스/앞쪽 설명은 첫 '{'까지 건너뛰고, 루트 객체가 닫히면 뒤쪽 텍스트는 읽지 않음
+ * - String 필드에 숫자/배열/객체가 오면 JSON 텍스트로 변환 (기존 Map fallback과 동일하게 최대한 수용)
+ * - Map 필드에 객체가 아닌 값이 오면 null
+ */
+@Component
+@RequiredArgsConstructor
+public class GptContentDecoder {
+
+    private final ObjectMapper objectMapper;
+    private final Map<Class<?>, RecordSpec<?>> specs = new ConcurrentHashMap<>();
+
+    public <T extends Record> T decode(String content, Class<T> type) throws IOException {
+        if (content == null || content.isBlank()) {
+            throw new IllegalArgumentException("응답이 비어있습니다.");
+        }
+        int start = content.indexOf('{');
+        if (start < 0) {
+            throw new IllegalArgumentException("응답에 유효한 JSON 객체가 없습니다.");
+        }
+
+        @SuppressWarnings("unchecked")
+        RecordSpec<T> spec = (RecordSpec<T>) specs.computeIfAbsent(type, RecordSpec::new);
+        Object[] args = new Object[spec.types.length];
+
+        StringReader reader = new StringReader(content);
+        reader.skip(start);
+        try (JsonParser parser = objectMapper.getFactory().createParser(reader)) {
+            parser.nextToken(); // START_OBJECT
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                Integer index = spec.indexByName.get(parser.currentName());
+                JsonToken value = parser.nextToken();
+                if (index == null) {
+                    parser.skipChildren();
+                    continue;
+                }
+                args[index] = readValue(parser, value, spec.types[index]);
+            }
+            if (parser.currentToken() != JsonToken.END_OBJECT) {
+                throw new IOException("JSON 객체가 닫히지 않았습니다. (응답이 잘렸을 수 있습니다)");
+            }
+        }
+        return spec.newInstance(args);
+    }
+
+    private Object readValue(JsonParser parser, JsonToken value, Class<?> type) throws IOException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (type == String.class) {
+            if (value.isStructStart()) {
+                return objectMapper.writeValueAsString(parser.readValueAsTree());
+            }
+            return parser.getText();
+        }
+        if (Map.class.isAssignableFrom(type) && value != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        return parser.readValueAs(type);
+    }
+
+    /**
+     * record 컴포넌트 이름/타입과 canonical 생성자 (타입별 1회 계산)
+     */
+    private static final class RecordSpec<T> {
+        private final Constructor<T> constructor;
+        private final Class<?>[] types;
+        private final Map<String, Integer> indexByName = new HashMap<>();
+
+        private RecordSpec(Class<T> type) {
+            RecordComponent[] components = type.getRecordComponents();
+            this.types = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                types[i] = components[i].getType();
+                indexByName.put(components[i].getName(), i);
+            }
+            try {
+                this.constructor = type.getDeclaredConstructor(types);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("record 생성자를 찾을 수 없습니다: " + type.getSimpleName(), e);
+            }
+        }
+
+        private T newInstance(Object[] args) {
+            try {
+                return constructor.newInstance(args);
+            } catch (InstantiationException | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("응답 DTO 생성 실패: " + constructor.getDeclaringClass().getSimpleName(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.smart_healthcare.service.ai;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시스템 프롬프트 템플릿 레지스트리
+ * - classpath:prompts/{name}.{version}.txt 를 기동 시 1회 로드하여 매 요청마다 동일한 문자열 인스턴스를 사용
+ * - 버전은 ai.prompt.{name}.version 으로 지정 (기본 v1)
+ * - 시스템 프롬프트가 바이트 단위로 항상 같아야 OpenAI 프롬프트 캐시(prefix 재사용)가 적중함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PromptTemplateRegistry {
+
+    public static final String WORKOUT_SYSTEM = "workout-system";
+    public static final String DIET_SYSTEM = "diet-system";
+    public static final String BODY_ANALYSIS_SYSTEM = "body-analysis-system";
+
+    private static final List<String> TEMPLATE_NAMES = List.of(WORKOUT_SYSTEM, DIET_SYSTEM, BODY_ANALYSIS_SYSTEM);
+
+    private final Environment environment;
+
+    @Value("${ai.prompt.cache-key-enabled:true}")
+    private boolean cacheKeyEnabled;
+
+    private final Map<String, String> templates = new ConcurrentHashMap<>();
+    private final Map<String, String> versions = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void load() {
+        for (String name : TEMPLATE_NAMES) {
+            String version = environment.getProperty("ai.prompt." + name + ".version", "v1");
+            String path = "prompts/" + name + "." + version + ".txt";
+            ClassPathResource resource = new ClassPathResource(path);
+            if (!resource.exists()) {
+                throw new IllegalStateException("프롬프트 템플릿을 찾을 수 없습니다: " + path);
+            }
+            try {
+                String content = resource.getContentAsString(StandardCharsets.UTF_8).strip();
+                templates.put(name, content.intern());
+                versions.put(name, version);
+                log.info("📝 프롬프트 템플릿 로드: {} ({}자)", path, content.length());
+            } catch (IOException e) {
+                throw new IllegalStateException("프롬프트 템플릿 로드 실패: " + path, e);
+            }
+        }
+    }
+
+    /**
+     * 템플릿 본문
+     */
+    public String get(String name) {
+        String template = templates.get(name);
+        if (template == null) {
+            throw new IllegalStateException("등록되지 않은 프롬프트 템플릿: " + name);
+        }
+        return template;
+    }
+
+    /**
+     * 템플릿 버전 (예: v1)
+     */
+    public String version(String name) {
+        return versions.get(name);
+    }
+
+    /**
+     * 프롬프트 캐시 라우팅 키 (템플릿 이름 + 버전)
+     */
+    public String cacheKey(String name) {
+        return name + "." + version(name);
+    }
+
+    /**
+     * 요청에 prompt_cache_key 지정 (같은 템플릿 요청이 같은 캐시 노드로 라우팅되도록)
+     */
+    public void applyCacheKey(Map<String, Object> request, String name) {
+        if (cacheKeyEnabled) {
+            request.put("prompt_cache_key", cacheKey(name));
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.smart_healthcare.service.ai;
+
+import java.util.function.BiConsumer;
+
+/**
+ * 스트리밍 JSON 요일 블록 파서
+ * - GPT 스트리밍 응답 조각을 순서대로 입력받아
+ *   최상위 컨테이너(예: "workouts", "diets") 아래 요일 값이 닫히는 즉시 콜백 호출
+ * - 전체 JSON을 기다리지 않고 완성된 요일부터 클라이언트에 전달하기 위한 용도
+ * - 문자열 내부의 괄호/따옴표는 무시 (이스케이프 처리 포함)
+ */
+public class StreamingDayJsonParser {
+
+    private final String containerKey;
+    private final BiConsumer<String, String> onDayComplete;
+
+    private final StringBuilder buffer = new StringBuilder();
+    private int depth = 0;
+    private boolean inString = false;
+    private boolean escape = false;
+    private int stringStart = -1;
+    private String lastString;
+    private String topLevelKey;
+    private String currentDay;
+    private int valueStart = -1;
+
+    /**
+     * @param containerKey  요일 블록을 담고 있는 최상위 키
+     * @param onDayComplete (요일, 요일 값 JSON 원문) 콜백
+     */
+    public StreamingDayJsonParser(String containerKey, BiConsumer<String, String> onDayComplete) {
+        this.containerKey = containerKey;
+        this.onDayComplete = onDayComplete;
+    }
+
+    /**
+     * 응답 조각 입력
+     */
+    public void feed(String chunk) {
+        int from = buffer.length();
+        buffer.append(chunk);
+        for (int i = from; i < buffer.length(); i++) {
+            process(buffer.charAt(i), i);
+        }
+    }
+
+    /**
+     * 지금까지 입력된 전체 응답
+     */
+    public String getContent() {
+        return buffer.toString();
+    }
+
+    private void process(char c, int index) {
+        if (inString) {
+            if (escape) {
+                escape = false;
+            } else if (c == '\\') {
+                escape = true;
+            } else if (c == '"') {
+                inString = false;
+                lastString = buffer.substring(stringStart + 1, index);
+            }
+            return;
+        }
+
+        switch (c) {
+            case '"' -> {
+                inString = true;
+                stringStart = index;
+            }
+            case ':' -> {
+                if (depth == 1) {
+                    topLevelKey = lastString;
+                } else if (depth == 2 && containerKey.equals(topLevelKey)) {
+                    currentDay = lastString;
+                    valueStart = -1;
+                }
+            }
+            case '{', '[' -> {
+                depth++;
+                if (depth == 3 && currentDay != null && valueStart < 0) {
+                    valueStart = index;
+                }
+            }
+            case '}', ']' -> {
+                if (depth == 3 && currentDay != null && valueStart >= 0) {
+                    onDayComplete.accept(currentDay, buffer.substring(valueStart, index + 1));
+                    currentDay = null;
+                    valueStart = -1;
+                }
+                depth--;
+            }
+            default -> {
+                // 값/공백은 무시
+            }
+        }
+    }
+}
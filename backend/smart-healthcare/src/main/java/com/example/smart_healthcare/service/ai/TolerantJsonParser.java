@@ -0,0 +1,178 @@
+package com.example.smart_healthcare.service.ai;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * GPT 응답 JSON 복구 파서 (운동/식단/체형 분석 서비스 공용)
+ * - 코드펜스/앞쪽 설명은 첫 '{'까지 건너뛰고, 루트 객체가 닫힌 뒤의 텍스트는 버림
+ * - max_tokens로 중간에 잘린 경우 마지막으로 완성된 값까지만 남기고 열린 문자열/배열/객체를 닫음
+ * - 잘린 위치의 경로(예: ["workouts", "Friday"])를 함께 반환하여 누락된 부분만 다시 생성할 수 있게 함
+ */
+@Component
+public class TolerantJsonParser {
+
+    /**
+     * 복구 결과
+     * @param json          파싱 가능한 JSON (잘리지 않았으면 루트 객체 원문)
+     * @param truncated     응답이 잘려 일부를 버리고 닫았는지 여부
+     * @param truncatedPath 잘린 지점에서 열려 있던 객체 키 경로 (루트 제외)
+     */
+    public record Result(String json, boolean truncated, List<String> truncatedPath) {
+
+        /**
+         * containerKey 바로 아래에서 잘린 항목 키 (예: "workouts" → "Friday"), 없으면 null
+         */
+        public String truncatedChildOf(String containerKey) {
+            if (truncatedPath.size() >= 2 && truncatedPath.get(0).equals(containerKey)) {
+                return truncatedPath.get(1);
+            }
+            return null;
+        }
+
+        /**
+         * 다시 생성해야 하는 키: 기대한 키 중 복구된 컨테이너에 없거나, 잘린 채로 닫힌 항목
+         */
+        public List<String> missingKeys(Map<String, ?> container, List<String> expectedKeys, String containerKey) {
+            String partial = truncatedChildOf(containerKey);
+            List<String> missing = new ArrayList<>();
+            for (String key : expectedKeys) {
+                if (container == null || !container.containsKey(key) || key.equals(partial)) {
+                    missing.add(key);
+                }
+            }
+            return missing;
+        }
+    }
+
+    /**
+     * JSON 복구
+     * @return 복구 결과, 객체를 전혀 찾을 수 없으면 null
+     */
+    public Result repair(String content) {
+        if (content == null) {
+            return null;
+        }
+        int start = content.indexOf('{');
+        if (start < 0) {
+            return null;
+        }
+
+        ScanState state = new ScanState();
+        for (int i = start; i < content.length(); i++) {
+            char c = content.charAt(i);
+
+            if (state.inString) {
+                if (state.escaped) {
+                    state.escaped = false;
+                } else if (c == '\\') {
+                    state.escaped = true;
+                } else if (c == '"') {
+                    state.inString = false;
+                    if (state.stringIsKey) {
+                        state.keys[state.depth - 1] = content.substring(state.stringStart + 1, i);
+                    } else {
+                        state.markSafe(i + 1);
+                    }
+                }
+                continue;
+            }
+
+            switch (c) {
+                case '"' -> {
+                    state.inString = true;
+                    state.stringStart = i;
+                    state.stringIsKey = state.depth > 0 && state.isObject[state.depth - 1] && state.expectKey[state.depth - 1];
+                    if (state.stringIsKey) {
+                        state.expectKey[state.depth - 1] = false;
+                    }
+                }
+                case '{', '[' -> {
+                    state.push(c == '{');
+                    state.markSafe(i + 1);
+                }
+                case '}', ']' -> {
+                    if (state.depth == 0) {
+                        continue;
+                    }
+                    state.depth--;
+                    if (state.depth == 0) {
+                        // 루트 객체 완성: 뒤쪽 텍스트는 버림
+                        return new Result(content.substring(start, i + 1), false, List.of());
+                    }
+                    state.markSafe(i + 1);
+                }
+                case ',' -> {
+                    state.markSafe(i);
+                    if (state.depth > 0 && state.isObject[state.depth - 1]) {
+                        state.expectKey[state.depth - 1] = true;
+                    }
+                }
+                default -> {
+                    // 숫자/true/false/null/공백/콜론: 구분자(, } ])를 만나야 완성된 값으로 취급
+                }
+            }
+        }
+
+        if (state.safeEnd < 0) {
+            return null;
+        }
+        String json = content.substring(start, state.safeEnd) + state.safeClosers;
+        return new Result(json, true, state.safePath);
+    }
+
+    /**
+     * 스캔 상태 (열린 컨테이너 스택 + 마지막 안전 절단 지점)
+     */
+    private static final class ScanState {
+        private static final int MAX_DEPTH = 64;
+
+        private final boolean[] isObject = new boolean[MAX_DEPTH];
+        private final boolean[] expectKey = new boolean[MAX_DEPTH];
+        private final String[] keys = new String[MAX_DEPTH];        // 각 객체에서 마지막으로 읽은 키
+        private final String[] openedAt = new String[MAX_DEPTH];    // 컨테이너가 열린 부모 객체의 키
+        private int depth;
+
+        private boolean inString;
+        private boolean escaped;
+        private boolean stringIsKey;
+        private int stringStart;
+
+        private int safeEnd = -1;
+        private String safeClosers;
+        private List<String> safePath;
+
+        private void push(boolean object) {
+            if (depth >= MAX_DEPTH) {
+                throw new IllegalArgumentException("JSON 중첩이 너무 깊습니다.");
+            }
+            openedAt[depth] = depth > 0 && isObject[depth - 1] ? keys[depth - 1] : null;
+            isObject[depth] = object;
+            expectKey[depth] = object;
+            keys[depth] = null;
+            depth++;
+        }
+
+        /**
+         * 여기서 잘라도 완성된 값만 남는 위치 기록 (닫는 괄호와 경로를 함께 저장)
+         */
+        private void markSafe(int end) {
+            StringBuilder closers = new StringBuilder(depth);
+            List<String> path = new ArrayList<>();
+            for (int d = depth - 1; d >= 0; d--) {
+                closers.append(isObject[d] ? '}' : ']');
+            }
+            for (int d = 1; d < depth; d++) {
+                if (openedAt[d] != null) {
+                    path.add(openedAt[d]);
+                }
+            }
+            safeEnd = end;
+            safeClosers = closers.toString();
+            safePath = path;
+        }
+    }
+}
@@ -4,10 +4,15 @@ import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
 import com.example.smart_healthcare.dto.response.BodyAnalysisResponseDto;
 import com.example.smart_healthcare.service.ai.ChatGPTBodyAnalysisService;
 import com.example.smart_healthcare.service.BodyAnalysisResultService;
+import com.example.smart_healthcare.service.SpeculativeResultStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
 
 /**
  * 체형 분석 Facade
@@ -21,6 +26,8 @@ public class BodyAnalysisFacade {
 
     private final ChatGPTBodyAnalysisService chatgptService; // 외부 호출 전용 (트랜잭션 없음)
     private final BodyAnalysisResultService resultService;   // DB 저장 전용 (짧은 트랜잭션)
+    private final Executor aiTaskExecutor;                   // 응답 이후 후처리 전용 풀
+    private final SpeculativeResultStore speculativeStore;   // 인바디 저장 직후 미리 생성한 결과
 
     /**
      * 체형 분석 및 결과 저장
@@ -45,4 +52,38 @@ public class BodyAnalysisFacade {
         }
     }
 
+    /**
+     * 체형 분석 및 결과 저장 (논블로킹)
+     * - OpenAI 대기 중에는 어떤 스레드도 점유하지 않고, DB 저장만 aiTaskExecutor에서 수행
+     */
+    public CompletableFuture<BodyAnalysisResponseDto> analyzeAndSaveAsync(InbodyDataRequestDto request) {
+        log.info("체형 분석 시작 (비동기): userId={}", request.userId());
+
+        // 같은 입력으로 미리 분석 중/완료된 결과가 있으면 그대로 사용
+        Optional<CompletableFuture<String>> speculated =
+                speculativeStore.take(SpeculativeResultStore.Kind.BODY_ANALYSIS, request);
+
+        CompletableFuture<String> analysis = speculated
+                .map(future -> future.exceptionallyCompose(e -> {
+                    log.warn("⚠️ 추측 체형 분석 실패, 다시 분석: userId={}, error={}", request.userId(), e.getMessage());
+                    return chatgptService.analyzeBodyTypeAsync(request);
+                }))
+                .orElseGet(() -> chatgptService.analyzeBodyTypeAsync(request));
+
+        return analysis
+                .thenApplyAsync(aiAnalysisResult -> resultService.saveAnalysisResult(request, aiAnalysisResult), aiTaskExecutor)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("체형 분석 실패: userId={}", request.userId(), e);
+                    }
+                });
+    }
+
+    /**
+     * 체형 분석 추측 실행 (GPT 호출까지만, 저장은 실제 분석 요청 시)
+     */
+    public void speculate(InbodyDataRequestDto request) {
+        speculativeStore.speculate(SpeculativeResultStore.Kind.BODY_ANALYSIS, request,
+                () -> chatgptService.analyzeBodyTypeAsync(request));
+    }
 }
\ No newline at end of file
@@ -1,7 +1,10 @@
 package com.example.smart_healthcare.service.facade;
 
+import com.example.smart_healthcare.common.util.CancellableFutures;
 import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
 import com.example.smart_healthcare.dto.response.DietRecommendationResponseDto;
+import com.example.smart_healthcare.service.RecommendationTemplateService;
+import com.example.smart_healthcare.service.SpeculativeResultStore;
 import com.example.smart_healthcare.service.ai.DietRecommendAIService;
 import com.example.smart_healthcare.service.DietRecommendationService;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +12,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 
 /**
  * 식단 추천 Facade
@@ -22,6 +31,9 @@ public class DietRecommendationFacade {
 
     private final DietRecommendAIService aiService;        // 외부 AI 호출 전용 (트랜잭션 없음)
     private final DietRecommendationService dbService; // DB 저장 전용 (짧은 트랜잭션)
+    private final Executor aiTaskExecutor;             // 응답 이후 후처리 전용 풀
+    private final RecommendationTemplateService templateService; // 체형 클러스터별 사전 생성 템플릿
+    private final SpeculativeResultStore speculativeStore;       // 설문 저장 직후 미리 생성한 결과
 
     /**
      * 식단 추천 및 결과 저장
@@ -32,17 +44,23 @@ public class DietRecommendationFacade {
         log.info("식단 추천 시작: userId={}", request.userId());
         
         try {
+            // 0) 같은 입력으로 미리 생성 중/완료된 결과 또는 같은 체형 클러스터의 템플릿이 있으면 GPT 호출 없이 사용
+            Optional<CompletableFuture<DietRecommendationResponseDto>> speculated =
+                    speculativeStore.take(SpeculativeResultStore.Kind.DIET, request);
+            DietRecommendationResponseDto speculatedResult = awaitSpeculation(speculated, request);
+            if (speculatedResult != null) {
+                return saveResult(request, speculatedResult);
+            }
+            Optional<DietRecommendationResponseDto> templated = findTemplate(request);
+            if (templated.isPresent()) {
+                return saveResult(request, templated.get());
+            }
+
             // 1) 외부 AI API 호출: 트랜잭션 없음
             DietRecommendationResponseDto result = aiService.recommend(request, request.userId());
             
             // 2) DB 저장: 짧은 트랜잭션으로 처리
-            String preference = request.survey() != null && request.survey().text() != null ? 
-                               request.survey().text() : "균형잡힌 건강 식단";
-            
-            dbService.saveDietRecommendation(result, request.userId(), preference);
-            log.info("✅ 식단 추천 및 저장 완료: userId={}", request.userId());
-            
-            return result;
+            return saveResult(request, result);
             
         } catch (Exception e) {
             log.error("식단 추천 실패: userId={}", request.userId(), e);
@@ -51,6 +69,150 @@ public class DietRecommendationFacade {
         }
     }
 
+    /**
+     * 식단 추천 및 결과 저장 (논블로킹)
+     * - OpenAI 대기 중에는 어떤 스레드도 점유하지 않고, DB 저장만 aiTaskExecutor에서 수행
+     */
+    public CompletableFuture<DietRecommendationResponseDto> recommendAndSaveAsync(InbodyDataRequestDto request) {
+        log.info("식단 추천 시작 (비동기): userId={}", request.userId());
+
+        Optional<CompletableFuture<DietRecommendationResponseDto>> speculated =
+                speculativeStore.take(SpeculativeResultStore.Kind.DIET, request);
+        if (speculated.isPresent()) {
+            return speculated.get()
+                    .exceptionallyCompose(e -> {
+                        log.warn("⚠️ 추측 식단 추천 실패, 다시 생성: userId={}, error={}", request.userId(), e.getMessage());
+                        return aiService.recommendAsync(request, request.userId());
+                    })
+                    .thenApplyAsync(result -> saveResult(request, result), aiTaskExecutor);
+        }
+        Optional<DietRecommendationResponseDto> templated = findTemplate(request);
+        if (templated.isPresent()) {
+            return saveAsync(request, templated.get());
+        }
+
+        return aiService.recommendAsync(request, request.userId())
+                .thenApplyAsync(result -> saveResult(request, result), aiTaskExecutor)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("식단 추천 실패: userId={}", request.userId(), e);
+                    }
+                });
+    }
+
+    /**
+     * 식단 추천 및 결과 저장 (스트리밍)
+     * - 요일 블록이 완성될 때마다 onDayComplete 호출, 전체 응답 수신 후 DB 저장
+     * - 반환된 future를 취소하면 진행 중인 GPT 스트림과 저장을 중단
+     */
+    public CompletableFuture<DietRecommendationResponseDto> recommendAndSaveStream(InbodyDataRequestDto request,
+                                                                                   BiConsumer<String, Object> onDayComplete) {
+        log.info("식단 추천 시작 (스트리밍): userId={}", request.userId());
+
+        Optional<CompletableFuture<DietRecommendationResponseDto>> speculated =
+                speculativeStore.take(SpeculativeResultStore.Kind.DIET, request);
+        if (speculated.isPresent()) {
+            // 추측 결과는 요일 블록을 한 번에 전달, 진행 중 실패하면 스트리밍 호출로 다시 생성
+            return CancellableFutures.handleCompose(speculated.get(), (result, e) -> {
+                if (e != null) {
+                    log.warn("⚠️ 추측 식단 추천 실패, 다시 생성: userId={}, error={}", request.userId(), e.getMessage());
+                    return streamAndSave(request, onDayComplete);
+                }
+                return CompletableFuture.supplyAsync(() -> {
+                    if (result.diets() != null) {
+                        result.diets().forEach(onDayComplete);
+                    }
+                    return saveResult(request, result);
+                }, aiTaskExecutor);
+            });
+        }
+        Optional<DietRecommendationResponseDto> templated = findTemplate(request);
+        if (templated.isPresent()) {
+            DietRecommendationResponseDto result = templated.get();
+            if (result.diets() != null) {
+                result.diets().forEach(onDayComplete);
+            }
+            return saveAsync(request, result);
+        }
+
+        return streamAndSave(request, onDayComplete);
+    }
+
+    private CompletableFuture<DietRecommendationResponseDto> streamAndSave(InbodyDataRequestDto request,
+                                                                          BiConsumer<String, Object> onDayComplete) {
+        CompletableFuture<DietRecommendationResponseDto> streamed = aiService.recommendStream(request, request.userId(), onDayComplete);
+        return CancellableFutures.propagateCancel(streamed
+                .thenApplyAsync(result -> saveResult(request, result), aiTaskExecutor)
+                .whenComplete((result, e) -> {
+                    // 클라이언트 연결 종료로 취소된 경우는 실패로 기록하지 않음
+                    if (e != null && !streamed.isCancelled()) {
+                        log.error("식단 추천 실패: userId={}", request.userId(), e);
+                    }
+                }), streamed);
+    }
+
+    /**
+     * aiTaskExecutor에서 저장 (대기열이 가득 차 거절되면 예외를 던지지 않고 503으로 실패한 future 반환)
+     */
+    private CompletableFuture<DietRecommendationResponseDto> saveAsync(InbodyDataRequestDto request,
+                                                                       DietRecommendationResponseDto result) {
+        return CompletableFuture.completedFuture(result)
+                .thenApplyAsync(value -> saveResult(request, value), aiTaskExecutor);
+    }
+
+    /**
+     * 추측 결과 대기 (진행 중이던 추측이 실패했으면 null → 템플릿/GPT 경로로 생성)
+     */
+    private DietRecommendationResponseDto awaitSpeculation(
+            Optional<CompletableFuture<DietRecommendationResponseDto>> speculated, InbodyDataRequestDto request) {
+        if (speculated.isEmpty()) {
+            return null;
+        }
+        try {
+            return speculated.get().join();
+        } catch (CompletionException | CancellationException e) {
+            log.warn("⚠️ 추측 식단 추천 실패, 다시 생성: userId={}, error={}", request.userId(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 템플릿 조회 (템플릿/수요 기록 오류는 추천 실패로 이어지지 않도록 GPT 경로로 진행)
+     */
+    private Optional<DietRecommendationResponseDto> findTemplate(InbodyDataRequestDto request) {
+        try {
+            return templateService.findDiet(request);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 추천 템플릿 조회 실패, GPT로 생성: userId={}, error={}", request.userId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 식단 추천 추측 실행 (GPT 호출까지만, 저장은 실제 요청 시)
+     */
+    public void speculate(InbodyDataRequestDto request) {
+        speculativeStore.speculate(SpeculativeResultStore.Kind.DIET, request,
+                () -> aiService.recommendAsync(request, request.userId()));
+    }
+
+    /**
+     * 템플릿 생성용 기본 식단 (GPT 호출만, 저장 없음)
+     */
+    public DietRecommendationResponseDto generateBasePlan(InbodyDataRequestDto representative) {
+        return aiService.recommend(representative, null);
+    }
+
+    private DietRecommendationResponseDto saveResult(InbodyDataRequestDto request, DietRecommendationResponseDto result) {
+        String preference = request.survey() != null && request.survey().text() != null ? 
+                           request.survey().text() : "균형잡힌 건강 식단";
+        
+        dbService.saveDietRecommendation(result, request.userId(), preference);
+        log.info("✅ 식단 추천 및 저장 완료: userId={}", request.userId());
+        
+        return result;
+    }
+
     /**
      * 사용자별 식단 추천 히스토리 조회
      */
@@ -0,0 +1,59 @@
+package com.example.smart_healthcare.service.facade;
+
+import com.example.smart_healthcare.entity.ExerciseVideo;
+import com.example.smart_healthcare.service.ExerciseVideoIndexService;
+import com.example.smart_healthcare.service.YoutubeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 운동 영상 인덱스 백그라운드 갱신 Facade
+ * - 영상을 확보하지 못한(PENDING) 운동과 TTL이 지난 항목을 주기적으로 YouTube API로 다시 조회
+ * - API 호출은 트랜잭션 밖에서, 결과 저장만 짧은 트랜잭션으로 처리
+ * - 한 번에 max-per-run개만 갱신하여 YouTube API 쿼터를 사용자 요청 경로에 남겨 둠
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExerciseVideoIndexFacade {
+
+    private final ExerciseVideoIndexService indexService;
+    private final YoutubeService youtubeService;
+
+    @Value("${youtube.index.enabled:true}")
+    private boolean enabled;
+
+    @Value("${youtube.index.ttl-hours:720}")
+    private int ttlHours;
+
+    @Value("${youtube.index.max-per-run:20}")
+    private int maxPerRun;
+
+    @Scheduled(initialDelayString = "${youtube.index.refresh-interval-ms:300000}",
+               fixedDelayString = "${youtube.index.refresh-interval-ms:300000}")
+    public void refreshIndex() {
+        // API 키가 없으면 검색 링크만 돌아오므로 갱신하지 않음
+        if (!enabled || !youtubeService.isApiKeyConfigured()) {
+            return;
+        }
+        List<ExerciseVideo> targets = indexService.findRefreshTargets(ttlHours, maxPerRun);
+        if (targets.isEmpty()) {
+            return;
+        }
+        log.info("🗂️ 운동 영상 인덱스 갱신 시작: {}건", targets.size());
+        for (ExerciseVideo target : targets) {
+            try {
+                String videoUrl = youtubeService.findVideoUrl(target.getSearchQuery(), "exercise", target.getDisplayName());
+                indexService.storeRefreshed(target.getId(), target.getExerciseKey(), videoUrl);
+            } catch (Exception e) {
+                // 다음 주기에 다시 시도
+                log.warn("⚠️ 운동 영상 인덱스 갱신 실패: key={}, error={}", target.getExerciseKey(), e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.smart_healthcare.service.facade;
+
+import com.example.smart_healthcare.client.ChatCompletionResponse;
+import com.example.smart_healthcare.client.OpenAIBatch;
+import com.example.smart_healthcare.client.OpenAIClient;
+import com.example.smart_healthcare.common.error.BusinessException;
+import com.example.smart_healthcare.common.error.ErrorCode;
+import com.example.smart_healthcare.dto.response.RecommendationBatchResponseDto;
+import com.example.smart_healthcare.entity.AIDietRecommendation;
+import com.example.smart_healthcare.entity.AIWorkoutRecommendation;
+import com.example.smart_healthcare.entity.RecommendationBatch;
+import com.example.smart_healthcare.entity.RecommendationJob;
+import com.example.smart_healthcare.repository.RecommendationBulkInsertRepository.Row;
+import com.example.smart_healthcare.service.RecommendationBatchService;
+import com.example.smart_healthcare.service.RecommendationBatchService.BatchInput;
+import com.example.smart_healthcare.service.ai.DietRecommendAIService;
+import com.example.smart_healthcare.service.ai.WorkoutRecommendAIService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 대량 추천 재생성 Facade (OpenAI Batch API)
+ * - 저장된 인바디/설문으로 JSONL 요청 파일을 만들어 업로드 후 배치 작업 제출 (max-requests-per-batch 단위로 분할)
+ * - 주기적으로 제출된 배치 상태를 확인하고, 완료되면 결과 파일을 파싱하여 JDBC 배치 insert로 일괄 저장
+ * - 프롬프트 변경 후 전체 재생성 등 오프피크 작업용이므로 실시간 경로의 10분 중복 방지 조회는 적용하지 않음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationBatchFacade {
+
+    private final RecommendationBatchService batchService;
+    private final WorkoutRecommendAIService workoutRecommendAIService;
+    private final DietRecommendAIService dietRecommendAIService;
+    private final OpenAIClient openAIClient;
+    private final ObjectMapper objectMapper;
+
+    @Value("${ai.batch.max-requests-per-batch:1000}")
+    private int maxRequestsPerBatch;
+
+    /**
+     * 배치 제출 (userIds가 비어 있으면 설문이 있는 전체 사용자)
+     */
+    public List<RecommendationBatchResponseDto> submit(RecommendationJob.JobType jobType, List<Long> userIds) {
+        List<RecommendationBatchResponseDto> submitted = new ArrayList<>();
+        if (userIds != null && !userIds.isEmpty()) {
+            List<BatchInput> inputs = batchService.findInputs(userIds, null, 0);
+            for (int from = 0; from < inputs.size(); from += maxRequestsPerBatch) {
+                submitted.add(submitChunk(jobType, inputs.subList(from, Math.min(from + maxRequestsPerBatch, inputs.size()))));
+            }
+        } else {
+            long afterSurveyId = 0L;
+            while (true) {
+                List<BatchInput> inputs = batchService.findInputs(null, afterSurveyId, maxRequestsPerBatch);
+                if (inputs.isEmpty()) {
+                    break;
+                }
+                submitted.add(submitChunk(jobType, inputs));
+                afterSurveyId = inputs.get(inputs.size() - 1).surveyId();
+            }
+        }
+        if (submitted.isEmpty()) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "재생성할 설문/인바디 데이터가 없습니다.");
+        }
+        return submitted;
+    }
+
+    /**
+     * 제출된 배치 상태 확인 및 완료 결과 저장
+     */
+    @Scheduled(initialDelayString = "${ai.batch.poll-interval-ms:60000}",
+               fixedDelayString = "${ai.batch.poll-interval-ms:60000}")
+    public void pollBatches() {
+        List<RecommendationBatch> batches = batchService.findSubmittedBatches();
+        if (batches.isEmpty() || !openAIClient.isApiKeyValid()) {
+            return;
+        }
+        for (RecommendationBatch batch : batches) {
+            try {
+                poll(batch);
+            } catch (Exception e) {
+                // 일시적인 조회 실패는 다음 주기에 다시 확인
+                log.warn("⚠️ 대량 추천 배치 상태 확인 실패: batchId={}, error={}", batch.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private RecommendationBatchResponseDto submitChunk(RecommendationJob.JobType jobType, List<BatchInput> inputs) {
+        byte[] jsonl = toJsonl(jobType, inputs);
+        String inputFileId = openAIClient.uploadBatchFile(jsonl, "recommendation-" + jobType.name().toLowerCase() + ".jsonl");
+        OpenAIBatch openAIBatch = openAIClient.createBatch(inputFileId, Map.of("jobType", jobType.name()));
+        if (openAIBatch == null || openAIBatch.id() == null) {
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "배치 작업 생성 응답이 올바르지 않습니다.");
+        }
+        RecommendationBatch batch = batchService.createBatch(jobType, inputFileId, openAIBatch.id(), openAIBatch.status(), inputs.size());
+        log.info("📦 대량 추천 배치 제출: batchId={}, type={}, 요청 {}건", batch.getId(), jobType, inputs.size());
+        return RecommendationBatchResponseDto.toDto(batch);
+    }
+
+    /**
+     * JSONL 요청 파일 구성 (한 줄 = custom_id + /v1/chat/completions 요청 본문)
+     */
+    private byte[] toJsonl(RecommendationJob.JobType jobType, List<BatchInput> inputs) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            for (BatchInput input : inputs) {
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("custom_id", input.customId(jobType));
+                line.put("method", "POST");
+                line.put("url", "/v1/chat/completions");
+                line.put("body", jobType == RecommendationJob.JobType.WORKOUT
+                        ? workoutRecommendAIService.buildBatchRequest(input.request())
+                        : dietRecommendAIService.buildBatchRequest(input.request()));
+                out.write(objectMapper.writeValueAsBytes(line));
+                out.write('\n');
+            }
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.INTERNAL_ERROR, "배치 요청 파일 생성에 실패했습니다.", e);
+        }
+        return out.toByteArray();
+    }
+
+    private void poll(RecommendationBatch batch) {
+        OpenAIBatch openAIBatch = openAIClient.getBatch(batch.getOpenaiBatchId());
+        if (openAIBatch == null) {
+            return;
+        }
+        if (openAIBatch.isTerminalFailure()) {
+            batchService.markFailed(batch.getId(), "OpenAI 배치 상태: " + openAIBatch.status());
+            log.warn("⚠️ 대량 추천 배치 실패: batchId={}, status={}", batch.getId(), openAIBatch.status());
+            return;
+        }
+        if (!openAIBatch.isCompleted()) {
+            if (!openAIBatch.status().equals(batch.getProviderStatus())) {
+                batchService.updateProviderStatus(batch.getId(), openAIBatch.status());
+            }
+            return;
+        }
+        if (openAIBatch.outputFileId() == null) {
+            batchService.markFailed(batch.getId(), "완료된 배치에 결과 파일이 없습니다.");
+            return;
+        }
+
+        List<String> lines = openAIClient.downloadFileLines(openAIBatch.outputFileId());
+        if (batch.getJobType() == RecommendationJob.JobType.WORKOUT) {
+            List<Row<AIWorkoutRecommendation>> rows = toRows(lines, result -> AIWorkoutRecommendation.toEntity(
+                    workoutRecommendAIService.fromBatchResponse(result.response(), result.input().request(), result.input().userId()),
+                    null, null, result.input().goal()));
+            batchService.completeWorkoutBatch(batch.getId(), openAIBatch.outputFileId(), rows, failedCount(batch, rows.size()));
+        } else {
+            List<Row<AIDietRecommendation>> rows = toRows(lines, result -> AIDietRecommendation.toEntity(
+                    dietRecommendAIService.fromBatchResponse(result.response(), result.input().request(), result.input().userId()),
+                    null, null, result.input().goal()));
+            batchService.completeDietBatch(batch.getId(), openAIBatch.outputFileId(), rows, failedCount(batch, rows.size()));
+        }
+    }
+
+    /**
+     * 결과 줄을 저장할 행으로 변환 (파싱/검증에 실패한 줄은 건너뛰고 실패 건수로 집계)
+     * - 모든 줄의 custom_id를 먼저 모은 뒤 인바디/설문을 일괄 조회하여 입력 복원 (줄마다 조회하지 않음)
+     */
+    private <T> List<Row<T>> toRows(List<String> lines, Function<LineResult, T> converter) {
+        List<ParsedLine> parsed = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            parseLine(line).ifPresent(parsed::add);
+        }
+        Map<String, BatchInput> inputs = batchService.findInputs(parsed.stream().map(ParsedLine::customId).toList());
+
+        List<Row<T>> rows = new ArrayList<>(parsed.size());
+        for (ParsedLine line : parsed) {
+            BatchInput input = inputs.get(line.customId());
+            if (input == null) {
+                log.warn("⚠️ 배치 결과의 인바디/설문 기록을 찾을 수 없음: customId={}", line.customId());
+                continue;
+            }
+            try {
+                rows.add(new Row<>(input.userId(), input.inbodyRecordId(), converter.apply(new LineResult(input, line.response()))));
+            } catch (Exception e) {
+                log.warn("⚠️ 배치 결과 변환 실패: userId={}, error={}", input.userId(), e.getMessage());
+            }
+        }
+        return rows;
+    }
+
+    private record ParsedLine(String customId, ChatCompletionResponse response) {}
+
+    private record LineResult(BatchInput input, ChatCompletionResponse response) {}
+
+    /**
+     * 결과 JSONL 한 줄 파싱 ({custom_id, response: {status_code, body}}), 실패한 줄은 empty
+     */
+    private Optional<ParsedLine> parseLine(String line) {
+        String customId = null;
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            customId = node.path("custom_id").asText();
+            JsonNode response = node.path("response");
+            if (response.path("status_code").asInt() != 200) {
+                log.warn("⚠️ 배치 요청 실패: customId={}, status={}, error={}",
+                        customId, response.path("status_code").asInt(), node.path("error"));
+                return Optional.empty();
+            }
+            return Optional.of(new ParsedLine(customId,
+                    objectMapper.treeToValue(response.path("body"), ChatCompletionResponse.class)));
+        } catch (Exception e) {
+            log.warn("⚠️ 배치 결과 파싱 실패: customId={}, error={}", customId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static int failedCount(RecommendationBatch batch, int savedCount) {
+        return Math.max(batch.getRequestCount() - savedCount, 0);
+    }
+
+    public RecommendationBatchResponseDto getBatch(Long batchId) {
+        return batchService.getBatch(batchId);
+    }
+
+    public List<RecommendationBatchResponseDto> getRecentBatches(int size) {
+        return batchService.getRecentBatches(size);
+    }
+}
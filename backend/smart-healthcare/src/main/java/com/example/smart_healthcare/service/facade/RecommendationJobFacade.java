@@ -0,0 +1,108 @@
+package com.example.smart_healthcare.service.facade;
+
+import com.example.smart_healthcare.common.error.BusinessException;
+import com.example.smart_healthcare.common.error.ErrorCode;
+import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
+import com.example.smart_healthcare.dto.response.RecommendationJobResponseDto;
+import com.example.smart_healthcare.entity.RecommendationJob;
+import com.example.smart_healthcare.service.RecommendationJobService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * AI 추천 비동기 작업 Facade
+ * - POST 요청은 작업만 등록하고 즉시 반환 (요청 지연과 모델 지연 분리)
+ * - 제한된 워커 풀(recommendationJobExecutor)에서 추천 + DB 저장 수행
+ *   → 동시 OpenAI 호출 수를 서블릿 스레드 수와 무관하게 제한
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationJobFacade {
+
+    private final RecommendationJobService jobService;
+    private final WorkoutRecommendationFacade workoutRecommendationFacade;
+    private final DietRecommendationFacade dietRecommendationFacade;
+    private final ObjectMapper objectMapper;
+    private final Executor recommendationJobExecutor;
+
+    /**
+     * 추천 작업 등록
+     */
+    public RecommendationJobResponseDto submit(RecommendationJob.JobType jobType, InbodyDataRequestDto request) {
+        String requestPayload;
+        try {
+            requestPayload = objectMapper.writeValueAsString(request);
+        } catch (Exception e) {
+            throw new BusinessException(ErrorCode.BAD_REQUEST, "요청 데이터를 저장할 수 없습니다.", e);
+        }
+
+        RecommendationJob job = jobService.createJob(jobType, request.userId(), requestPayload);
+        enqueue(job.getId(), jobType, request);
+        return jobService.getJob(job.getId(), request.userId());
+    }
+
+    /**
+     * 작업 상태 조회 (requesterId: 인증된 사용자 ID)
+     */
+    public RecommendationJobResponseDto getJob(Long jobId, Long requesterId) {
+        return jobService.getJob(jobId, requesterId);
+    }
+
+    /**
+     * 서버 재시작 시 미완료 작업 정리
+     * - PENDING: 아직 실행되지 않았으므로 다시 등록
+     * - RUNNING: 추천 결과가 이미 저장되었을 수 있어 다시 실행하지 않고 FAILED 처리 (중복 저장 방지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        List<RecommendationJob> unfinished = jobService.findUnfinishedJobs();
+        if (unfinished.isEmpty()) {
+            return;
+        }
+        log.info("🔁 미완료 추천 작업 정리: {}건", unfinished.size());
+        for (RecommendationJob job : unfinished) {
+            if (job.getStatus() == RecommendationJob.JobStatus.RUNNING) {
+                jobService.markFailed(job.getId(), "서버 재시작으로 작업이 중단되었습니다. 다시 요청해주세요.");
+                continue;
+            }
+            try {
+                InbodyDataRequestDto request = objectMapper.readValue(job.getRequestPayload(), InbodyDataRequestDto.class);
+                enqueue(job.getId(), job.getJobType(), request);
+            } catch (Exception e) {
+                jobService.markFailed(job.getId(), "작업 복구 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    private void enqueue(Long jobId, RecommendationJob.JobType jobType, InbodyDataRequestDto request) {
+        try {
+            recommendationJobExecutor.execute(() -> run(jobId, jobType, request));
+        } catch (RejectedExecutionException e) {
+            jobService.markFailed(jobId, "작업 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private void run(Long jobId, RecommendationJob.JobType jobType, InbodyDataRequestDto request) {
+        log.info("🏃 추천 작업 실행: jobId={}, type={}, userId={}", jobId, jobType, request.userId());
+        try {
+            jobService.markRunning(jobId);
+            Object result = switch (jobType) {
+                case WORKOUT -> workoutRecommendationFacade.recommendAndSave(request);
+                case DIET -> dietRecommendationFacade.recommendAndSave(request);
+            };
+            jobService.markDone(jobId, result);
+        } catch (Exception e) {
+            String errorMessage = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName() + " 발생";
+            jobService.markFailed(jobId, errorMessage);
+        }
+    }
+}
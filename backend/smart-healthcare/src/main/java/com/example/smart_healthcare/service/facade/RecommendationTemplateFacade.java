@@ -0,0 +1,71 @@
+package com.example.smart_healthcare.service.facade;
+
+import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
+import com.example.smart_healthcare.entity.RecommendationJob;
+import com.example.smart_healthcare.entity.RecommendationTemplate;
+import com.example.smart_healthcare.service.RecommendationTemplateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * 추천 템플릿 백그라운드 생성 Facade
+ * - 수요가 쌓인(PENDING) 클러스터와 TTL이 지난 템플릿을 주기적으로 생성/갱신
+ * - GPT 호출은 트랜잭션 밖에서, 템플릿 저장만 짧은 트랜잭션으로 처리
+ * - 한 번에 max-per-run개만 생성하여 사용자 요청의 OpenAI 쿼터를 잠식하지 않도록 함
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecommendationTemplateFacade {
+
+    private final RecommendationTemplateService templateService;
+    private final WorkoutRecommendationFacade workoutRecommendationFacade;
+    private final DietRecommendationFacade dietRecommendationFacade;
+
+    @Value("${ai.template.enabled:false}")
+    private boolean enabled;
+
+    @Value("${ai.template.min-demand:2}")
+    private int minDemand;
+
+    @Value("${ai.template.ttl-hours:168}")
+    private int ttlHours;
+
+    @Value("${ai.template.max-per-run:2}")
+    private int maxPerRun;
+
+    @Scheduled(initialDelayString = "${ai.template.generation-interval-ms:60000}",
+               fixedDelayString = "${ai.template.generation-interval-ms:60000}")
+    public void generatePendingTemplates() {
+        if (!enabled) {
+            return;
+        }
+        List<RecommendationTemplate> targets = templateService.findGenerationTargets(minDemand, ttlHours, maxPerRun);
+        if (targets.isEmpty()) {
+            return;
+        }
+        log.info("🧩 추천 템플릿 생성 시작: {}건", targets.size());
+        for (RecommendationTemplate target : targets) {
+            generate(target);
+        }
+    }
+
+    private void generate(RecommendationTemplate template) {
+        try {
+            InbodyDataRequestDto representative = templateService.representativeOf(template);
+            Object result = template.getTemplateType() == RecommendationJob.JobType.WORKOUT
+                    ? workoutRecommendationFacade.generateBasePlan(representative)
+                    : dietRecommendationFacade.generateBasePlan(representative);
+            templateService.storeGenerated(template.getId(), result, representative);
+        } catch (Exception e) {
+            // 다음 주기에 다시 시도 (PENDING 유지)
+            log.warn("⚠️ 추천 템플릿 생성 실패: type={}, cluster={}, error={}",
+                    template.getTemplateType(), template.getClusterKey(), e.getMessage());
+        }
+    }
+}
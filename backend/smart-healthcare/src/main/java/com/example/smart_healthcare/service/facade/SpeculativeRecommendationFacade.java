@@ -0,0 +1,71 @@
+package com.example.smart_healthcare.service.facade;
+
+import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
+import com.example.smart_healthcare.dto.request.SurveyDataRequestDto;
+import com.example.smart_healthcare.dto.request.SurveyRequestDto;
+import com.example.smart_healthcare.service.InbodyRecordService;
+import com.example.smart_healthcare.service.SpeculativeResultStore;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 추측 실행(speculative pre-generation) Facade
+ * - 인바디 저장 직후: 체형 분석을 미리 시작 (설문이 함께 오면 운동/식단도 시작)
+ * - 설문 저장 직후: 연결된 인바디 기록 + 설문으로 운동/식단 추천을 미리 시작
+ * - 결과는 SpeculativeResultStore에 보관되고, 같은 입력의 후속 요청이 그대로 사용 (ai.speculative.enabled로 활성화)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SpeculativeRecommendationFacade {
+
+    private final SpeculativeResultStore speculativeStore;
+    private final InbodyRecordService inbodyRecordService;
+    private final BodyAnalysisFacade bodyAnalysisFacade;
+    private final WorkoutRecommendationFacade workoutRecommendationFacade;
+    private final DietRecommendationFacade dietRecommendationFacade;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 인바디 기록 저장 이후 호출
+     */
+    public void onInbodySaved(InbodyDataRequestDto request) {
+        if (!speculativeStore.isEnabled()) {
+            return;
+        }
+        try {
+            bodyAnalysisFacade.speculate(request);
+            if (request.survey() != null) {
+                workoutRecommendationFacade.speculate(request);
+                dietRecommendationFacade.speculate(request);
+            }
+        } catch (Exception e) {
+            // 추측 실행 실패는 저장 응답에 영향을 주지 않음
+            log.warn("⚠️ 인바디 저장 후 추측 실행 실패: userId={}, error={}", request.userId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 설문 저장 이후 호출
+     */
+    public void onSurveySaved(SurveyRequestDto request) {
+        if (!speculativeStore.isEnabled() || request.getSurveyData() == null) {
+            return;
+        }
+        try {
+            SurveyDataRequestDto survey = objectMapper.readerFor(SurveyDataRequestDto.class)
+                    .without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                    .readValue(request.getSurveyData());
+            inbodyRecordService.findRequestForSurvey(request.getUserId(), request.getInbodyRecordId(), survey)
+                    .ifPresent(inbodyRequest -> {
+                        workoutRecommendationFacade.speculate(inbodyRequest);
+                        dietRecommendationFacade.speculate(inbodyRequest);
+                    });
+        } catch (Exception e) {
+            log.warn("⚠️ 설문 저장 후 추측 실행 실패: userId={}, error={}", request.getUserId(), e.getMessage());
+        }
+    }
+}
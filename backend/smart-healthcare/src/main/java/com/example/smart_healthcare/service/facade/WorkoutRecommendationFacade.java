@@ -1,18 +1,36 @@
 package com.example.smart_healthcare.service.facade;
 
+import com.example.smart_healthcare.common.util.CancellableFutures;
+import com.example.smart_healthcare.common.util.ExerciseAliases;
 import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
 import com.example.smart_healthcare.dto.response.WorkoutRecommendationResponseDto;
+import com.example.smart_healthcare.service.ExerciseVideoIndexService;
+import com.example.smart_healthcare.service.RecommendationTemplateService;
+import com.example.smart_healthcare.service.SpeculativeResultStore;
 import com.example.smart_healthcare.service.ai.WorkoutRecommendAIService;
 import com.example.smart_healthcare.service.WorkoutRecommendationService;
 import com.example.smart_healthcare.service.YoutubeService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import org.springframework.data.domain.Page;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
 
 /**
  * 운동 추천 Facade
@@ -26,6 +44,14 @@ public class WorkoutRecommendationFacade {
 
     private final WorkoutRecommendAIService aiService;        // 외부 AI 호출 전용 (트랜잭션 없음)
     private final WorkoutRecommendationService dbService;     // DB 저장 전용 (짧은 트랜잭션)
+    private final Executor aiTaskExecutor;                    // 응답 이후 후처리 전용 풀
+    private final RecommendationTemplateService templateService; // 체형 클러스터별 사전 생성 템플릿
+    private final SpeculativeResultStore speculativeStore;       // 설문 저장 직후 미리 생성한 결과
+    private final Executor youtubeLookupExecutor;                // YouTube 검색어별 동시 조회 풀
+    private final ExerciseVideoIndexService videoIndexService;    // 운동 → 영상 인덱스 (API 호출 전 우선 조회)
+
+    @Value("${youtube.enrich.timeout-ms:8000}")
+    private long youtubeEnrichTimeoutMs;
     
     @Autowired(required = false)
     private YoutubeService youtubeService;  // YouTube API 서비스 (선택사항)
@@ -42,26 +68,24 @@ public class WorkoutRecommendationFacade {
         log.info("==========================================");
         
         try {
+            // 0) 같은 입력으로 미리 생성 중/완료된 결과 또는 같은 체형 클러스터의 템플릿이 있으면 GPT/YouTube 호출 없이 사용
+            Optional<CompletableFuture<WorkoutRecommendationResponseDto>> speculated =
+                    speculativeStore.take(SpeculativeResultStore.Kind.WORKOUT, request);
+            WorkoutRecommendationResponseDto speculatedResult = awaitSpeculation(speculated, request);
+            if (speculatedResult != null) {
+                return save(request, speculatedResult);
+            }
+            Optional<WorkoutRecommendationResponseDto> templated = findTemplate(request);
+            if (templated.isPresent()) {
+                return save(request, templated.get());
+            }
+
             log.info("🔄 1단계: AI 서비스 호출 시작...");
             // 1) 외부 AI API 호출: 트랜잭션 없음
             WorkoutRecommendationResponseDto result = aiService.recommend(request, request.userId());
             log.info("✅ 1단계 완료: AI 서비스 응답 수신");
             
-            log.info("🔄 2단계: YouTube 영상 링크 업그레이드...");
-            // 2) YouTube 영상 링크 업그레이드 (선택사항)
-            result = enhanceWithYoutubeVideos(result);
-            log.info("✅ 2단계 완료: YouTube 링크 처리 완료");
-            
-            log.info("🔄 3단계: DB 저장 시작...");
-            // 3) DB 저장: 짧은 트랜잭션으로 처리
-            String goal = request.survey() != null && request.survey().text() != null ? 
-                         request.survey().text() : "체지방 감량 및 근력 향상";
-            
-            dbService.saveWorkoutRecommendation(result, request.userId(), goal);
-            log.info("✅ 3단계 완료: DB 저장 완료");
-            log.info("✅ 운동 추천 및 저장 완료: userId={}", request.userId());
-            
-            return result;
+            return enhanceAndSave(request, result);
             
         } catch (Exception e) {
             log.error("==========================================");
@@ -76,6 +100,175 @@ public class WorkoutRecommendationFacade {
         }
     }
 
+    /**
+     * 운동 추천 및 결과 저장 (논블로킹)
+     * - OpenAI 대기 중에는 어떤 스레드도 점유하지 않고, YouTube 보강과 DB 저장만 aiTaskExecutor에서 수행
+     */
+    public CompletableFuture<WorkoutRecommendationResponseDto> recommendAndSaveAsync(InbodyDataRequestDto request) {
+        log.info("🔄 Facade: 운동 추천 시작 (비동기): userId={}", request.userId());
+
+        Optional<CompletableFuture<WorkoutRecommendationResponseDto>> speculated =
+                speculativeStore.take(SpeculativeResultStore.Kind.WORKOUT, request);
+        if (speculated.isPresent()) {
+            return speculated.get()
+                    .exceptionallyCompose(e -> {
+                        log.warn("⚠️ 추측 운동 추천 실패, 다시 생성: userId={}, error={}", request.userId(), e.getMessage());
+                        return generateAsync(request);
+                    })
+                    .thenApplyAsync(result -> save(request, result), aiTaskExecutor);
+        }
+        Optional<WorkoutRecommendationResponseDto> templated = findTemplate(request);
+        if (templated.isPresent()) {
+            return saveAsync(request, templated.get());
+        }
+
+        return aiService.recommendAsync(request, request.userId())
+                .thenApplyAsync(result -> {
+                    log.info("✅ 1단계 완료: AI 서비스 응답 수신");
+                    return enhanceAndSave(request, result);
+                }, aiTaskExecutor)
+                .whenComplete((result, e) -> {
+                    if (e != null) {
+                        log.error("❌ Facade: 운동 추천 실패: userId={}", request.userId(), e);
+                    }
+                });
+    }
+
+    /**
+     * 운동 추천 및 결과 저장 (스트리밍)
+     * - 요일 블록이 완성될 때마다 onDayComplete 호출, 전체 응답 수신 후 YouTube 보강 및 DB 저장
+     * - 반환된 future를 취소하면 진행 중인 GPT 스트림과 저장을 중단
+     */
+    public CompletableFuture<WorkoutRecommendationResponseDto> recommendAndSaveStream(InbodyDataRequestDto request,
+                                                                                      BiConsumer<String, Object> onDayComplete) {
+        log.info("🔄 Facade: 운동 추천 시작 (스트리밍): userId={}", request.userId());
+
+        Optional<CompletableFuture<WorkoutRecommendationResponseDto>> speculated =
+                speculativeStore.take(SpeculativeResultStore.Kind.WORKOUT, request);
+        if (speculated.isPresent()) {
+            // 추측 결과는 요일 블록을 한 번에 전달, 진행 중 실패하면 스트리밍 호출로 다시 생성
+            return CancellableFutures.handleCompose(speculated.get(), (result, e) -> {
+                if (e != null) {
+                    log.warn("⚠️ 추측 운동 추천 실패, 다시 생성: userId={}, error={}", request.userId(), e.getMessage());
+                    return streamAndSave(request, onDayComplete);
+                }
+                return CompletableFuture.supplyAsync(() -> {
+                    if (result.workouts() != null) {
+                        result.workouts().forEach(onDayComplete);
+                    }
+                    return save(request, result);
+                }, aiTaskExecutor);
+            });
+        }
+        Optional<WorkoutRecommendationResponseDto> templated = findTemplate(request);
+        if (templated.isPresent()) {
+            WorkoutRecommendationResponseDto result = templated.get();
+            if (result.workouts() != null) {
+                result.workouts().forEach(onDayComplete);
+            }
+            return saveAsync(request, result);
+        }
+
+        return streamAndSave(request, onDayComplete);
+    }
+
+    private CompletableFuture<WorkoutRecommendationResponseDto> streamAndSave(InbodyDataRequestDto request,
+                                                                             BiConsumer<String, Object> onDayComplete) {
+        CompletableFuture<WorkoutRecommendationResponseDto> streamed = aiService.recommendStream(request, request.userId(), onDayComplete);
+        return CancellableFutures.propagateCancel(streamed
+                .thenApplyAsync(result -> enhanceAndSave(request, result), aiTaskExecutor)
+                .whenComplete((result, e) -> {
+                    // 클라이언트 연결 종료로 취소된 경우는 실패로 기록하지 않음
+                    if (e != null && !streamed.isCancelled()) {
+                        log.error("❌ Facade: 운동 추천 실패: userId={}", request.userId(), e);
+                    }
+                }), streamed);
+    }
+
+    /**
+     * 템플릿 조회 (템플릿/수요 기록 오류는 추천 실패로 이어지지 않도록 GPT 경로로 진행)
+     */
+    private Optional<WorkoutRecommendationResponseDto> findTemplate(InbodyDataRequestDto request) {
+        try {
+            return templateService.findWorkout(request);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ 추천 템플릿 조회 실패, GPT로 생성: userId={}, error={}", request.userId(), e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 운동 추천 추측 실행 (GPT 호출 + YouTube 보강까지만, 저장은 실제 요청 시)
+     */
+    public void speculate(InbodyDataRequestDto request) {
+        speculativeStore.speculate(SpeculativeResultStore.Kind.WORKOUT, request, () -> generateAsync(request));
+    }
+
+    /**
+     * GPT 호출 + YouTube 보강 (저장 없음, 추측 실행과 추측 실패 시 재생성에 사용)
+     */
+    private CompletableFuture<WorkoutRecommendationResponseDto> generateAsync(InbodyDataRequestDto request) {
+        return aiService.recommendAsync(request, request.userId())
+                .thenApplyAsync(this::enhanceWithYoutubeVideos, aiTaskExecutor);
+    }
+
+    /**
+     * aiTaskExecutor에서 저장 (대기열이 가득 차 거절되면 예외를 던지지 않고 503으로 실패한 future 반환)
+     */
+    private CompletableFuture<WorkoutRecommendationResponseDto> saveAsync(InbodyDataRequestDto request,
+                                                                          WorkoutRecommendationResponseDto result) {
+        return CompletableFuture.completedFuture(result)
+                .thenApplyAsync(value -> save(request, value), aiTaskExecutor);
+    }
+
+    /**
+     * 추측 결과 대기 (진행 중이던 추측이 실패했으면 null → 템플릿/GPT 경로로 생성)
+     */
+    private WorkoutRecommendationResponseDto awaitSpeculation(
+            Optional<CompletableFuture<WorkoutRecommendationResponseDto>> speculated, InbodyDataRequestDto request) {
+        if (speculated.isEmpty()) {
+            return null;
+        }
+        try {
+            return speculated.get().join();
+        } catch (CompletionException | CancellationException e) {
+            log.warn("⚠️ 추측 운동 추천 실패, 다시 생성: userId={}, error={}", request.userId(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 템플릿 생성용 기본 운동 계획 (GPT 호출 + YouTube 보강, 저장 없음)
+     */
+    public WorkoutRecommendationResponseDto generateBasePlan(InbodyDataRequestDto representative) {
+        return enhanceWithYoutubeVideos(aiService.recommend(representative, null));
+    }
+
+    /**
+     * YouTube 영상 링크 보강 후 DB 저장
+     */
+    private WorkoutRecommendationResponseDto enhanceAndSave(InbodyDataRequestDto request, WorkoutRecommendationResponseDto result) {
+        log.info("🔄 2단계: YouTube 영상 링크 업그레이드...");
+        // 2) YouTube 영상 링크 업그레이드 (선택사항)
+        result = enhanceWithYoutubeVideos(result);
+        log.info("✅ 2단계 완료: YouTube 링크 처리 완료");
+
+        return save(request, result);
+    }
+
+    private WorkoutRecommendationResponseDto save(InbodyDataRequestDto request, WorkoutRecommendationResponseDto result) {
+        log.info("🔄 3단계: DB 저장 시작...");
+        // 3) DB 저장: 짧은 트랜잭션으로 처리
+        String goal = request.survey() != null && request.survey().text() != null ? 
+                     request.survey().text() : "체지방 감량 및 근력 향상";
+        
+        dbService.saveWorkoutRecommendation(result, request.userId(), goal);
+        log.info("✅ 3단계 완료: DB 저장 완료");
+        log.info("✅ 운동 추천 및 저장 완료: userId={}", request.userId());
+        
+        return result;
+    }
+
     /**
      * 사용자별 최신 운동 추천 결과 조회
      */
@@ -105,10 +298,24 @@ public class WorkoutRecommendationFacade {
         }
     }
     
+    /**
+     * YouTube 검색 단위 (같은 검색어 + 운동명은 주간 계획 전체에서 한 번만 조회)
+     */
+    private record VideoLookup(String searchQuery, String exerciseName) {
+
+        // 운동 영상 인덱스 키 (운동명이 없으면 검색어 기준)
+        String indexKey() {
+            return ExerciseAliases.normalize(exerciseName != null ? exerciseName : searchQuery);
+        }
+    }
+
     /**
      * YouTube 영상 링크 강화 (AI가 생성한 youtubeQuery 활용)
-     * - youtubeService가 있고 API 키가 설정되어 있으면 실제 영상 링크로 교체
-     * - 없으면 AI가 생성한 검색 링크 그대로 사용
+     * - 운동 영상 인덱스에 정규화 키로 등록된 영상이 있으면 API 호출 없이 사용
+     * - 없으면 youtubeService로 조회하여 실제 영상 링크로 교체하고 결과를 인덱스에 등록
+     * - 영상을 찾지 못하면 AI가 생성한 검색 링크 그대로 사용
+     * - 요일별로 반복되는 운동의 검색어를 중복 제거한 뒤 youtubeLookupExecutor에서 동시에 조회하므로
+     *   전체 지연은 대략 가장 느린 검색 한 건 수준 (youtube.enrich.timeout-ms까지 대기, 미완료 건은 원본 유지)
      */
     @SuppressWarnings("unchecked")
     private WorkoutRecommendationResponseDto enhanceWithYoutubeVideos(WorkoutRecommendationResponseDto dto) {
@@ -125,65 +332,81 @@ public class WorkoutRecommendationFacade {
         try {
             Map<String, Object> workouts = dto.workouts();
             
-            // 각 요일별 운동 처리
-            for (Map.Entry<String, Object> entry : workouts.entrySet()) {
-                Object workoutList = entry.getValue();
-                
-                if (workoutList instanceof List) {
-                    List<Map<String, Object>> exercises = (List<Map<String, Object>>) workoutList;
+            // 1) 모든 요일의 운동을 검색 단위로 묶기 (같은 검색어는 한 번만 조회)
+            Map<VideoLookup, List<Map<String, Object>>> lookups = new LinkedHashMap<>();
+            for (Object workoutList : workouts.values()) {
+                if (!(workoutList instanceof List)) {
+                    continue;
+                }
+                for (Map<String, Object> exercise : (List<Map<String, Object>>) workoutList) {
+                    String exerciseName = (String) exercise.get("name");
+                    String searchQuery = resolveSearchQuery(exerciseName, (String) exercise.get("youtubeQuery"));
                     
-                    for (Map<String, Object> exercise : exercises) {
-                        String exerciseName = (String) exercise.get("name");
-                        String youtubeQuery = (String) exercise.get("youtubeQuery");
-                        
-                        // 검색어 우선순위: 1) AI가 생성한 youtubeQuery (최우선) 2) 영어 변환 3) 한글 그대로
-                        String searchQuery = null;
-                        
-                        // 1순위: AI가 생성한 youtubeQuery 사용 (최적화된 검색어)
-                        if (youtubeQuery != null && !youtubeQuery.trim().isEmpty()) {
-                            // 검색 링크 형태가 아닌 실제 검색어인지 확인
-                            if (!youtubeQuery.startsWith("http") && !youtubeQuery.contains("search_query")) {
-                                searchQuery = youtubeQuery.trim();
-                                log.debug("✅ AI 생성 youtubeQuery 사용: {}", searchQuery);
-                            }
-                        }
-                        
-                        // 2순위: 영어로 변환된 운동명 사용 (매핑 테이블 활용)
-                        if (searchQuery == null && exerciseName != null && !exerciseName.trim().isEmpty()) {
-                            String englishExerciseName = convertToEnglishExerciseName(exerciseName);
-                            if (englishExerciseName != null && !englishExerciseName.equals(exerciseName)) {
-                                searchQuery = englishExerciseName + " tutorial proper form";
-                                log.debug("✅ 영어 변환 사용: {} → {}", exerciseName, searchQuery);
-                            }
-                        }
-                        
-                        // 3순위: 한글 운동명 그대로 사용 (YouTube 한글 검색 지원)
-                        if (searchQuery == null && exerciseName != null && !exerciseName.trim().isEmpty()) {
-                            searchQuery = exerciseName + " 운동 자세 tutorial";
-                            log.debug("✅ 한글 운동명 사용: {}", searchQuery);
-                        }
-                        
-                        // 검색어가 없으면 스킵
-                        if (searchQuery == null || searchQuery.trim().isEmpty()) {
-                            log.warn("⚠️ 검색어를 생성할 수 없음, 스킵: exerciseName={}, youtubeQuery={}", exerciseName, youtubeQuery);
-                            continue;
-                        }
-                        
-                        log.info("🔍 YouTube 검색: 운동명={}, 검색어={}", exerciseName, searchQuery);
-                        
-                        // YouTube API로 실제 영상 검색 (운동 이름 전달)
-                        String actualVideoUrl = youtubeService.findVideoUrl(searchQuery, "exercise", exerciseName);
-                        
-                        // 검색 링크가 아닌 실제 영상 링크인 경우만 교체
-                        if (actualVideoUrl != null && actualVideoUrl.contains("watch?v=")) {
-                            exercise.put("videoUrl", actualVideoUrl);
-                            log.info("✨ YouTube 영상 교체: {} → {}", exerciseName, actualVideoUrl);
-                        } else {
-                            log.warn("⚠️ 관련 영상 없음, 원본 videoUrl 유지: {}", exerciseName);
-                        }
+                    // 검색어가 없으면 스킵
+                    if (searchQuery == null) {
+                        log.warn("⚠️ 검색어를 생성할 수 없음, 스킵: exerciseName={}, youtubeQuery={}", exerciseName, exercise.get("youtubeQuery"));
+                        continue;
+                    }
+                    lookups.computeIfAbsent(new VideoLookup(searchQuery, exerciseName), key -> new ArrayList<>()).add(exercise);
+                }
+            }
+            if (lookups.isEmpty()) {
+                return dto;
+            }
+            
+            // 2) 운동 영상 인덱스 우선 조회, 없는 검색어만 YouTube API 동시 조회
+            long startedAt = System.currentTimeMillis();
+            int replaced = 0;
+            int indexed = 0;
+            Map<VideoLookup, CompletableFuture<String>> futures = new LinkedHashMap<>();
+            for (VideoLookup lookup : lookups.keySet()) {
+                String indexedUrl = lookup.indexKey() != null ? videoIndexService.findVideoUrl(lookup.indexKey()) : null;
+                if (indexedUrl != null) {
+                    for (Map<String, Object> exercise : lookups.get(lookup)) {
+                        exercise.put("videoUrl", indexedUrl);
+                        replaced++;
+                    }
+                    indexed++;
+                    continue;
+                }
+                log.info("🔍 YouTube 검색: 운동명={}, 검색어={}", lookup.exerciseName(), lookup.searchQuery());
+                try {
+                    futures.put(lookup, CompletableFuture.supplyAsync(
+                            () -> youtubeService.findVideoUrl(lookup.searchQuery(), "exercise", lookup.exerciseName()),
+                            youtubeLookupExecutor));
+                } catch (RejectedExecutionException e) {
+                    // 조회 풀 대기열이 가득 참 → 이 검색어는 원본 videoUrl 유지 (다음 요청이나 인덱스 갱신에서 보강)
+                    log.warn("⚠️ YouTube 조회 풀 포화, 검색 건너뜀: {}", lookup.exerciseName());
+                }
+            }
+            try {
+                CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new))
+                        .get(youtubeEnrichTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                log.warn("⚠️ YouTube 검색 대기 시간 초과({}ms), 완료된 결과만 반영", youtubeEnrichTimeoutMs);
+            } catch (ExecutionException e) {
+                log.warn("⚠️ 일부 YouTube 검색 실패, 완료된 결과만 반영: {}", e.getCause().getMessage());
+            }
+            
+            // 3) 결과를 해당 검색어의 모든 운동에 반영하고 인덱스에 등록
+            for (Map.Entry<VideoLookup, CompletableFuture<String>> entry : futures.entrySet()) {
+                CompletableFuture<String> future = entry.getValue();
+                String actualVideoUrl = future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+                registerIndex(entry.getKey(), actualVideoUrl);
+                
+                // 검색 링크가 아닌 실제 영상 링크인 경우만 교체
+                if (actualVideoUrl != null && actualVideoUrl.contains("watch?v=")) {
+                    for (Map<String, Object> exercise : lookups.get(entry.getKey())) {
+                        exercise.put("videoUrl", actualVideoUrl);
+                        replaced++;
                     }
+                    log.info("✨ YouTube 영상 교체: {} → {}", entry.getKey().exerciseName(), actualVideoUrl);
+                } else {
+                    log.warn("⚠️ 관련 영상 없음, 원본 videoUrl 유지: {}", entry.getKey().exerciseName());
                 }
             }
+            log.info("🎬 YouTube 보강 완료: 인덱스 {}건, 검색 {}건(중복 제거), 교체 {}건, {}ms",
+                    indexed, futures.size(), replaced, System.currentTimeMillis() - startedAt);
             
             // 수정된 workouts로 새 DTO 생성
             return new WorkoutRecommendationResponseDto(
@@ -199,6 +422,10 @@ public class WorkoutRecommendationFacade {
                 workouts
             );
             
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("⚠️ YouTube 영상 링크 강화 중단, 원본 유지");
+            return dto;
         } catch (Exception e) {
             log.warn("⚠️ YouTube 영상 링크 강화 실패, 원본 유지: {}", e.getMessage());
             return dto;
@@ -206,88 +433,45 @@ public class WorkoutRecommendationFacade {
     }
     
     /**
-     * 한글 운동명을 영어로 변환 (보조 수단 - AI의 youtubeQuery가 없을 때만 사용)
-     * 
-     * 주의: 이 메서드는 제한적인 매핑만 제공합니다.
-     * 새로운 운동이 추가될 때마다 매핑을 추가해야 하므로 확장성이 떨어집니다.
-     * 따라서 AI가 생성한 youtubeQuery를 최우선으로 사용하고,
-     * 이 메서드는 fallback으로만 사용됩니다.
+     * API 조회 결과를 운동 영상 인덱스에 등록 (미완료/실패 건은 PENDING으로 등록되어 백그라운드에서 재시도)
      */
-    private String convertToEnglishExerciseName(String koreanName) {
-        if (koreanName == null || koreanName.trim().isEmpty()) {
-            return null;
-        }
-        
-        String lower = koreanName.toLowerCase().trim();
-        
-        // 주요 운동명 매핑 (제한적 - 확장 시 매핑 추가 필요)
-        if (lower.contains("푸시업") || lower.contains("푸쉬업")) {
-            return "push up";
-        }
-        if (lower.contains("풀업") || lower.contains("턱걸이")) {
-            return "pull up";
+    private void registerIndex(VideoLookup lookup, String videoUrl) {
+        if (lookup.indexKey() == null) {
+            return;
         }
-        if (lower.contains("랫풀다운") || lower.contains("랫풀")) {
-            return "lat pulldown";
-        }
-        if (lower.contains("스쿼트")) {
-            return "squat";
-        }
-        if (lower.contains("런지")) {
-            return "lunge";
-        }
-        if (lower.contains("플랭크")) {
-            return "plank";
-        }
-        if (lower.contains("크런치")) {
-            return "crunch";
-        }
-        if (lower.contains("데드리프트")) {
-            return "deadlift";
-        }
-        if (lower.contains("로우") && (lower.contains("덤벨") || lower.contains("바벨"))) {
-            if (lower.contains("덤벨")) {
-                return "dumbbell row";
-            } else {
-                return "barbell row";
-            }
-        }
-        if (lower.contains("프레스")) {
-            if (lower.contains("벤치")) {
-                return "bench press";
-            } else if (lower.contains("숄더") || lower.contains("어깨")) {
-                return "shoulder press";
-            } else if (lower.contains("덤벨")) {
-                return "dumbbell press";
-            }
-        }
-        if (lower.contains("레터럴") && lower.contains("레이즈")) {
-            return "lateral raise";
+        try {
+            videoIndexService.register(lookup.indexKey(), lookup.exerciseName(), lookup.searchQuery(), videoUrl);
+        } catch (Exception e) {
+            // 동시 등록(유니크 키 충돌) 등은 다음 요청에서 다시 등록
+            log.debug("운동 영상 인덱스 등록 생략: key={}, error={}", lookup.indexKey(), e.getMessage());
         }
-        if (lower.contains("컬")) {
-            if (lower.contains("이두") || lower.contains("바이셉")) {
-                return "bicep curl";
-            } else if (lower.contains("해머")) {
-                return "hammer curl";
+    }
+    
+    /**
+     * 검색어 결정: 1) AI가 생성한 youtubeQuery (최우선) 2) 영어 변환 3) 한글 그대로
+     */
+    private String resolveSearchQuery(String exerciseName, String youtubeQuery) {
+        // 1순위: AI가 생성한 youtubeQuery 사용 (최적화된 검색어)
+        if (youtubeQuery != null && !youtubeQuery.trim().isEmpty()) {
+            // 검색 링크 형태가 아닌 실제 검색어인지 확인
+            if (!youtubeQuery.startsWith("http") && !youtubeQuery.contains("search_query")) {
+                log.debug("✅ AI 생성 youtubeQuery 사용: {}", youtubeQuery);
+                return youtubeQuery.trim();
             }
         }
-        if (lower.contains("마운틴") && lower.contains("클라이머")) {
-            return "mountain climber";
-        }
-        if (lower.contains("버피")) {
-            return "burpee";
-        }
-        if (lower.contains("레그") && lower.contains("레이즈")) {
-            return "leg raise";
-        }
-        if (lower.contains("러닝") || lower.contains("달리기")) {
-            return "running";
+        if (exerciseName == null || exerciseName.trim().isEmpty()) {
+            return null;
         }
-        if (lower.contains("걷기")) {
-            return "walking";
+        
+        // 2순위: 영어로 변환된 운동명 사용 (ExerciseAliases 별칭 테이블)
+        String englishExerciseName = ExerciseAliases.englishNameOf(exerciseName);
+        if (englishExerciseName != null && !englishExerciseName.equals(exerciseName)) {
+            log.debug("✅ 영어 변환 사용: {} → {}", exerciseName, englishExerciseName);
+            return englishExerciseName + " tutorial proper form";
         }
         
-        // 매핑되지 않으면 null 반환 (원본 사용)
-        return null;
+        // 3순위: 한글 운동명 그대로 사용 (YouTube 한글 검색 지원)
+        log.debug("✅ 한글 운동명 사용: {}", exerciseName);
+        return exerciseName + " 운동 자세 tutorial";
     }
 }
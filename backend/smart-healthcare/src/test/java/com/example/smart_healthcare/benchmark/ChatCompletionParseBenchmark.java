@@ -0,0 +1,226 @@
+package com.example.smart_healthcare.benchmark;
+
+import com.example.smart_healthcare.client.ChatCompletionResponse;
+import com.example.smart_healthcare.dto.response.DietRecommendationResponseDto;
+import com.example.smart_healthcare.dto.response.WorkoutRecommendationResponseDto;
+import com.example.smart_healthcare.service.ai.GptContentDecoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenAI 응답 파싱 경로 비교 벤치마크 (20~30KB GPT 응답 기준)
+ * - legacy: envelope Map 파싱 → choices/message 캐스팅 → content를 Map, DTO로 두 번 파싱
+ * - typed: envelope record 파싱 → content를 스트리밍 파서로 한 번에 DTO 디코딩
+ * 실행: gradle jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ChatCompletionParseBenchmark {
+
+    private static final int TARGET_CONTENT_BYTES = 25 * 1024;
+
+    private ObjectMapper objectMapper;
+    private GptContentDecoder decoder;
+    private String workoutEnvelope;
+    private String dietEnvelope;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper();
+        decoder = new GptContentDecoder(objectMapper);
+        workoutEnvelope = envelope(objectMapper.writeValueAsString(workoutContent()));
+        dietEnvelope = envelope(objectMapper.writeValueAsString(dietContent()));
+    }
+
+    @Benchmark
+    public WorkoutRecommendationResponseDto legacyWorkout() throws Exception {
+        String content = legacyExtractContent(workoutEnvelope);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> jsonMap = objectMapper.readValue(content, Map.class);
+        WorkoutRecommendationResponseDto result = objectMapper.readValue(content, WorkoutRecommendationResponseDto.class);
+        return jsonMap.isEmpty() ? null : result;
+    }
+
+    @Benchmark
+    public WorkoutRecommendationResponseDto typedWorkout() throws Exception {
+        ChatCompletionResponse response = objectMapper.readValue(workoutEnvelope, ChatCompletionResponse.class);
+        return decoder.decode(response.firstContent(), WorkoutRecommendationResponseDto.class);
+    }
+
+    @Benchmark
+    public DietRecommendationResponseDto legacyDiet() throws Exception {
+        String content = legacyExtractContent(dietEnvelope);
+        @SuppressWarnings("unchecked")
+        Map<String, Object> jsonMap = objectMapper.readValue(content, Map.class);
+        DietRecommendationResponseDto result = objectMapper.readValue(content, DietRecommendationResponseDto.class);
+        return jsonMap.isEmpty() ? null : result;
+    }
+
+    @Benchmark
+    public DietRecommendationResponseDto typedDiet() throws Exception {
+        ChatCompletionResponse response = objectMapper.readValue(dietEnvelope, ChatCompletionResponse.class);
+        return decoder.decode(response.firstContent(), DietRecommendationResponseDto.class);
+    }
+
+    /**
+     * 기존 서비스의 envelope 처리 (Map 파싱 + 캐스팅 + 코드펜스/JSON 블록 추출)
+     */
+    @SuppressWarnings("unchecked")
+    private String legacyExtractContent(String envelope) throws Exception {
+        Map<String, Object> response = objectMapper.readValue(envelope, Map.class);
+        List<Map<String, Object>> choices = (List<Map<String, Object>>) response.get("choices");
+        Map<String, Object> message = (Map<String, Object>) choices.get(0).get("message");
+        String content = ((String) message.get("content")).trim();
+        int start = content.indexOf('{');
+        int end = content.lastIndexOf('}');
+        return content.substring(start, end + 1);
+    }
+
+    private String envelope(String content) throws Exception {
+        Map<String, Object> envelope = new LinkedHashMap<>();
+        envelope.put("id", "chatcmpl-benchmark");
+        envelope.put("object", "chat.completion");
+        envelope.put("created", 1_700_000_000L);
+        envelope.put("model", "gpt-4o");
+        envelope.put("choices", List.of(Map.of(
+                "index", 0,
+                "message", Map.of("role", "assistant", "content", content),
+                "finish_reason", "stop")));
+        envelope.put("usage", Map.of("prompt_tokens", 3100, "completion_tokens", 6800, "total_tokens", 9900));
+        envelope.put("system_fingerprint", "fp_benchmark");
+        return objectMapper.writeValueAsString(envelope);
+    }
+
+    private Map<String, Object> workoutContent() throws Exception {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("programName", "복부비만 맞춤 4주 체지방 감량 프로그램");
+        root.put("weeklySchedule", "주 3회 (월/수/금), 각 30~40분. 월요일은 상체+코어, 수요일은 하체 집중, 금요일은 전신 + 유산소 위주로 구성합니다.");
+        root.put("caution", "무릎·허리 통증이 있는 경우 통증이 느껴지는 범위에서는 즉시 중단하고, 호흡을 참지 말고 자연스럽게 이어가야 합니다.");
+        root.put("warmup", "목·어깨·팔·허리·무릎·발목 순서로 관절을 크게 돌리는 관절 가동성 운동을 5분간 진행합니다.");
+        root.put("mainSets", "본운동1: 상체와 코어를 동시에 사용하는 푸시업·플랭크 계열을 중심으로 상체 근지구력을 키웁니다.");
+        root.put("cooldown", "하체와 허리·둔근을 중심으로 10~15초씩 유지하는 정적 스트레칭을 5~7분간 진행합니다.");
+        root.put("equipment", "덤벨(또는 생수병), 요가 매트, 물병");
+        root.put("targetMuscles", "전신(가슴, 등, 어깨, 팔, 복부, 둔근, 하체 대근육)");
+        root.put("expectedResults", "4주간 프로그램을 성실히 수행하면 체지방률이 점진적으로 감소하고 일상 동작이 수월해집니다.");
+
+        String[] days = {"Monday", "Wednesday", "Friday"};
+        Map<String, Object> workouts = new LinkedHashMap<>();
+        for (String day : days) {
+            workouts.put(day, new ArrayList<>());
+        }
+        root.put("workouts", workouts);
+
+        int index = 0;
+        while (objectMapper.writeValueAsString(root).getBytes(StandardCharsets.UTF_8).length < TARGET_CONTENT_BYTES) {
+            @SuppressWarnings("unchecked")
+            List<Object> dayWorkouts = (List<Object>) workouts.get(days[index % days.length]);
+            dayWorkouts.add(exercise(index++));
+        }
+        return root;
+    }
+
+    private Map<String, Object> exercise(int index) {
+        Map<String, Object> exercise = new LinkedHashMap<>();
+        exercise.put("name", "푸시업 " + index);
+        exercise.put("description", "상체 전반 근지구력을 키우는 대표적인 맨몸 운동");
+        exercise.put("duration", 10);
+        exercise.put("intensity", "medium");
+        exercise.put("difficulty", "beginner");
+        exercise.put("calories", 60);
+        exercise.put("type", "strength");
+        exercise.put("exerciseCategory", "가슴운동");
+        exercise.put("reason", "상체 근력 향상: 가슴과 삼두, 전면 어깨를 동시에 사용해 상체 밀기 힘을 키워줍니다. "
+                + "자세 교정: 플랭크와 유사한 정렬을 유지해야 하기 때문에 굽은 어깨를 펴 주는 데 효과적입니다. "
+                + "기구 없이 간편: 매트 한 장만 있으면 집·사무실 어디서든 수행할 수 있습니다.");
+        exercise.put("part", "상체");
+        exercise.put("targetMuscles", List.of("가슴", "삼두근", "전면 어깨"));
+        exercise.put("sets", 3);
+        exercise.put("reps", 10);
+        exercise.put("restTime", "60초");
+        exercise.put("steps", List.of(
+                "어깨 너비보다 약간 넓게 손을 짚고 플랭크 자세를 취해 머리부터 발끝까지 일직선을 만듭니다.",
+                "가슴이 바닥에서 약 5cm 남을 때까지 팔꿈치를 굽혀 천천히 내려갑니다.",
+                "가슴과 팔에 힘을 주어 숨을 내쉬면서 시작 위치까지 밀어 올립니다."));
+        exercise.put("effects", List.of(
+                "가슴과 삼두근의 근력이 향상되어 상체 밀기 동작이 강해집니다.",
+                "코어 근육이 함께 활성화되어 허리 통증 예방에 도움이 됩니다."));
+        exercise.put("tips", "팔꿈치는 몸통과 약 45° 각도로 유지하세요.");
+        exercise.put("caution", "어깨나 손목에 통증이 있다면 무릎을 바닥에 대는 쉬운 버전부터 시작하세요.");
+        exercise.put("videoUrl", "https://www.youtube.com/results?search_query=push+up+tutorial+correct+form");
+        exercise.put("youtubeQuery", "push up proper form tutorial for beginners");
+        exercise.put("unsplashQuery", "man doing push up exercise gym floor perspective");
+        return exercise;
+    }
+
+    private Map<String, Object> dietContent() throws Exception {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("mealStyle", "고단백·균형형 한식 위주");
+        root.put("dailyCalories", 1900);
+        root.put("macroSplit", Map.of("carbs", 45, "protein", 30, "fat", 25));
+        root.put("sampleMenu", "현미·살코기·채소 중심, 가공당 저감");
+        root.put("shoppingList", List.of("현미", "닭가슴살", "두부", "브로콜리", "연어", "고구마", "계란", "그릭요거트"));
+        root.put("precautions", "과식·야식 자제, 나트륨·당류 저감");
+        root.put("mealTiming", "아침 07:00 ~ 08:30 / 점심 12:00 ~ 13:00 / 저녁 18:00 ~ 19:30");
+        root.put("hydration", "하루 2L 이상 수분 섭취");
+        root.put("supplements", "오메가3, 종합비타민(필요 시)");
+
+        String[] days = {"Monday", "Tuesday", "Wednesday", "Thursday", "Friday"};
+        String[] meals = {"breakfast", "lunch", "dinner", "snack"};
+        Map<String, Object> diets = new LinkedHashMap<>();
+        for (String day : days) {
+            diets.put(day, new LinkedHashMap<>());
+        }
+        root.put("diets", diets);
+
+        int index = 0;
+        while (objectMapper.writeValueAsString(root).getBytes(StandardCharsets.UTF_8).length < TARGET_CONTENT_BYTES
+                && index < days.length * meals.length) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> dayMeals = (Map<String, Object>) diets.get(days[index / meals.length]);
+            dayMeals.put(meals[index % meals.length], meal(index++));
+        }
+        return root;
+    }
+
+    private Map<String, Object> meal(int index) {
+        Map<String, Object> meal = new LinkedHashMap<>();
+        meal.put("name", "연어 현미 덮밥 " + index);
+        meal.put("description", "오메가3와 양질의 단백질을 함께 섭취할 수 있는 한 그릇 식사");
+        meal.put("calories", 520);
+        meal.put("nutrients", Map.of("carbs", 55, "protein", 32, "fat", 16));
+        meal.put("reason", "근육 회복: 연어 150g에서 약 30g의 단백질을 섭취해 운동 후 근육 회복을 돕습니다. "
+                + "혈당 안정: 현미는 백미보다 식이섬유가 많아 식후 혈당 상승을 완만하게 해 줍니다. "
+                + "지방 대사: 오메가3 지방산이 염증을 낮추고 체지방 감량을 돕습니다.");
+        meal.put("ingredients", List.of("연어 150g", "현미밥 150g", "아보카도 1/2개", "양파 1/4개", "간장 1큰술"));
+        meal.put("instructions", "1. 연어를 한 입 크기로 썬다. 2. 양파를 얇게 채 썰어 찬물에 5분 담근다. "
+                + "3. 팬을 중불로 달궈 연어를 3분간 굽는다. 4. 간장과 물을 1:1로 섞어 소스를 만든다. "
+                + "5. 현미밥 위에 연어와 아보카도를 올린다. 6. 소스를 뿌려 마무리한다.");
+        meal.put("tips", "외식 시에는 사케동을 선택하고 밥 양을 2/3로 줄이세요.");
+        meal.put("unsplashQuery", "salmon rice bowl avocado healthy meal");
+        return meal;
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(args.length > 0 ? args : new String[]{ChatCompletionParseBenchmark.class.getSimpleName()});
+    }
+}
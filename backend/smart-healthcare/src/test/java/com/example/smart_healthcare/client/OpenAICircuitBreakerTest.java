@@ -0,0 +1,141 @@
+package com.example.smart_healthcare.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서킷 브레이커 검증: 실패/지연 비율에 따른 상태 전이, OPEN 유지 시간, HALF_OPEN 탐색 슬롯, 호출 종류별 p99 타임아웃
+ */
+class OpenAICircuitBreakerTest {
+
+    private static final String PLAN_KEY = "gpt-4o|8192";
+    private static final String CLASSIFY_KEY = "gpt-4o-mini|256";
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+    private OpenAICircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        // 창 10건, 최소 4건, 실패율 50%, 지연 기준 10초 / 비율 50%, OPEN 30초, 탐색 1건, 타임아웃 1~60초 (p99 x 2, 표본 5건 이상)
+        breaker = new OpenAICircuitBreaker(10, 4, 50, 10, 50, 30, 1, 1, 60, 2.0, 10, 5, now::get);
+    }
+
+    @Test
+    void opensWhenFailureRateReachesThreshold() {
+        breaker.onSuccess(PLAN_KEY, 100);
+        breaker.onSuccess(PLAN_KEY, 100);
+        breaker.onFailure(100);
+        assertThat(breaker.getState()).isEqualTo(OpenAICircuitBreaker.State.CLOSED);
+
+        breaker.onFailure(100);
+
+        assertThat(breaker.getState()).isEqualTo(OpenAICircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+        assertThat(breaker.getMetrics()).containsEntry("shortCircuited", 1L);
+    }
+
+    @Test
+    void opensWhenSlowCallRateReachesThreshold() {
+        breaker.onSuccess(PLAN_KEY, 100);
+        breaker.onSuccess(PLAN_KEY, 100);
+        breaker.onSuccess(PLAN_KEY, 20_000);
+        assertThat(breaker.getState()).isEqualTo(OpenAICircuitBreaker.State.CLOSED);
+
+        breaker.onSuccess(PLAN_KEY, 20_000);
+
+        assertThat(breaker.getState()).isEqualTo(OpenAICircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void staysOpenUntilWaitElapsesThenAllowsLimitedProbes() {
+        open();
+
+        now.addAndGet(29_999);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        now.addAndGet(1);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.getState()).isEqualTo(OpenAICircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onSuccess(PLAN_KEY, 100);
+
+        assertThat(breaker.getState()).isEqualTo(OpenAICircuitBreaker.State.CLOSED);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void failedOrSlowProbeReopensForAnotherWait() {
+        open();
+        now.addAndGet(30_000);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.onSuccess(PLAN_KEY, 20_000);
+
+        assertThat(breaker.getState()).isEqualTo(OpenAICircuitBreaker.State.OPEN);
+        now.addAndGet(29_999);
+        assertThat(breaker.tryAcquire()).isFalse();
+        now.addAndGet(1);
+        assertThat(breaker.tryAcquire()).isTrue();
+
+        breaker.onFailure(100);
+
+        assertThat(breaker.getState()).isEqualTo(OpenAICircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void ignoredProbeReleasesSlotWithoutChangingState() {
+        open();
+        now.addAndGet(30_000);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+
+        breaker.onIgnored();
+
+        assertThat(breaker.getState()).isEqualTo(OpenAICircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isTrue();
+        assertThat(breaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void timeoutFollowsP99OfSameCallKind() {
+        for (long latency : new long[]{1_000, 2_000, 3_000, 4_000, 9_000}) {
+            breaker.onSuccess(PLAN_KEY, latency);
+        }
+        for (int i = 0; i < 5; i++) {
+            breaker.onSuccess(CLASSIFY_KEY, 100);
+        }
+        breaker.onSuccess("gpt-4o|1024", 500);
+
+        // p99 9초 x 2
+        assertThat(breaker.currentTimeout(PLAN_KEY)).isEqualTo(Duration.ofSeconds(18));
+        // 짧은 호출은 최소값으로 제한되고 긴 호출 타임아웃에 섞이지 않음
+        assertThat(breaker.currentTimeout(CLASSIFY_KEY)).isEqualTo(Duration.ofSeconds(1));
+        // 표본이 부족하거나 처음 보는 종류는 최대값
+        assertThat(breaker.currentTimeout("gpt-4o|1024")).isEqualTo(Duration.ofSeconds(60));
+        assertThat(breaker.currentTimeout("unknown|0")).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    @Test
+    void streamSuccessDoesNotCountAsSlowCall() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onStreamSuccess();
+        }
+
+        assertThat(breaker.getState()).isEqualTo(OpenAICircuitBreaker.State.CLOSED);
+        assertThat(breaker.currentTimeout(PLAN_KEY)).isEqualTo(Duration.ofSeconds(60));
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure(100);
+        }
+        assertThat(breaker.getState()).isEqualTo(OpenAICircuitBreaker.State.OPEN);
+    }
+}
@@ -0,0 +1,315 @@
+package com.example.smart_healthcare.client;
+
+import com.example.smart_healthcare.exception.OpenAIException;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 호출 제한기 검증: FIFO 허가 순서, 예상 대기 초과 즉시 실패와 대기 시간 초과, 분당 요청/토큰 보충, 취소·오류 시 허가 반납
+ */
+class OpenAIRateLimiterTest {
+
+    private final ManualScheduler timer = new ManualScheduler();
+
+    @Test
+    void grantsWaitersInArrivalOrder() {
+        OpenAIRateLimiter limiter = limiter(1, 600, 100_000, 30);
+        CompletableFuture<OpenAIRateLimiter.Permit> first = limiter.acquire(100).toFuture();
+        List<String> granted = new ArrayList<>();
+        List<OpenAIRateLimiter.Permit> held = new ArrayList<>();
+        for (String name : List.of("a", "b", "c")) {
+            limiter.acquire(100).subscribe(permit -> {
+                granted.add(name);
+                held.add(permit);
+            });
+        }
+        assertThat(first).isCompleted();
+        assertThat(granted).isEmpty();
+
+        first.join().release();
+        assertThat(granted).containsExactly("a");
+        held.get(0).release();
+        held.get(1).release();
+
+        assertThat(granted).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    void smallRequestDoesNotOvertakeHeadWaitingForTokens() {
+        OpenAIRateLimiter limiter = limiter(4, 600, 1_000, 60);
+        limiter.acquire(1_000).toFuture().join();
+        CompletableFuture<OpenAIRateLimiter.Permit> large = limiter.acquire(600).toFuture();
+        CompletableFuture<OpenAIRateLimiter.Permit> small = limiter.acquire(1).toFuture();
+
+        // 600 토큰이 보충되기 직전에는 뒤의 작은 요청도 대기
+        timer.advance(Duration.ofMillis(35_999));
+        assertThat(large).isNotDone();
+        assertThat(small).isNotDone();
+
+        timer.advance(Duration.ofMillis(1));
+        assertThat(large).isCompleted();
+        assertThat(small).isNotDone();
+
+        timer.advance(Duration.ofMillis(60));
+        assertThat(small).isCompleted();
+    }
+
+    @Test
+    void failsFastWhenExpectedWaitExceedsMaxWaitOrQueueIsFull() {
+        OpenAIRateLimiter limiter = new OpenAIRateLimiter(1, 600, 10_000, 10, 2, timer, timer::nanos);
+        limiter.acquire(10_000).toFuture().join();
+
+        // 부족분 2,000 토큰 = 예상 대기 12초 > 제한 10초
+        assertThatThrownBy(() -> limiter.acquire(2_000).block())
+                .isInstanceOf(OpenAIException.class)
+                .hasMessageContaining("예상 대기");
+
+        CompletableFuture<OpenAIRateLimiter.Permit> queued1 = limiter.acquire(500).toFuture();
+        CompletableFuture<OpenAIRateLimiter.Permit> queued2 = limiter.acquire(500).toFuture();
+        assertThat(queued1).isNotDone();
+        assertThat(queued2).isNotDone();
+        assertThatThrownBy(() -> limiter.acquire(1).block())
+                .isInstanceOf(OpenAIException.class)
+                .hasMessageContaining("대기열");
+
+        assertThat(limiter.getMetrics())
+                .containsEntry("rejected", 2L)
+                .containsEntry("queueDepth", 2);
+    }
+
+    @Test
+    void queuedWaiterTimesOutAfterMaxWait() {
+        OpenAIRateLimiter limiter = limiter(1, 600, 100_000, 10);
+        limiter.acquire(1).toFuture().join();
+        CompletableFuture<OpenAIRateLimiter.Permit> waiting = limiter.acquire(1).toFuture();
+
+        timer.advance(Duration.ofMillis(9_999));
+        assertThat(waiting).isNotDone();
+        timer.advance(Duration.ofMillis(1));
+
+        assertThat(waiting).isCompletedExceptionally();
+        assertThatThrownBy(waiting::join).hasCauseInstanceOf(OpenAIException.class);
+        assertThat(limiter.getMetrics())
+                .containsEntry("timedOut", 1L)
+                .containsEntry("queueDepth", 0);
+    }
+
+    @Test
+    void refillsRequestsPerMinute() {
+        OpenAIRateLimiter limiter = limiter(10, 2, 100_000, 60);
+        limiter.acquire(1).toFuture().join().release();
+        limiter.acquire(1).toFuture().join().release();
+        CompletableFuture<OpenAIRateLimiter.Permit> third = limiter.acquire(1).toFuture();
+
+        // 분당 2건 = 30초마다 1건 보충
+        timer.advance(Duration.ofMillis(29_999));
+        assertThat(third).isNotDone();
+        timer.advance(Duration.ofMillis(1));
+
+        assertThat(third).isCompleted();
+    }
+
+    @Test
+    void refillsTokensPerMinute() {
+        OpenAIRateLimiter limiter = limiter(10, 600, 1_000, 60);
+        limiter.acquire(1_000).toFuture().join().release();
+        CompletableFuture<OpenAIRateLimiter.Permit> next = limiter.acquire(500).toFuture();
+
+        timer.advance(Duration.ofMillis(29_999));
+        assertThat(next).isNotDone();
+        timer.advance(Duration.ofMillis(1));
+
+        assertThat(next).isCompleted();
+        assertThat(limiter.getMetrics()).containsEntry("maxWaitMillis", 30_000L);
+    }
+
+    @Test
+    void cancelledWaiterLeavesQueueAndIsNeverGranted() {
+        OpenAIRateLimiter limiter = limiter(1, 600, 100_000, 30);
+        OpenAIRateLimiter.Permit held = limiter.acquire(1).toFuture().join();
+        AtomicInteger cancelledGrants = new AtomicInteger();
+        Disposable cancelled = limiter.acquire(1).subscribe(permit -> cancelledGrants.incrementAndGet());
+        CompletableFuture<OpenAIRateLimiter.Permit> next = limiter.acquire(1).toFuture();
+
+        cancelled.dispose();
+        assertThat(limiter.getMetrics()).containsEntry("queueDepth", 1);
+        held.release();
+
+        assertThat(next).isCompleted();
+        assertThat(cancelledGrants).hasValue(0);
+    }
+
+    @Test
+    void permitIsReleasedWhenCallFailsOrIsCancelled() {
+        OpenAIRateLimiter limiter = limiter(1, 600, 100_000, 30);
+
+        // OpenAIClient와 같은 방식: 호출이 끝나면(성공/오류/취소) doFinally에서 허가 반납
+        Mono<String> failing = limiter.acquire(1)
+                .flatMap(permit -> Mono.<String>error(new IllegalStateException("boom")).doFinally(signal -> permit.release()));
+        assertThatThrownBy(failing::block).isInstanceOf(IllegalStateException.class);
+        assertThat(limiter.getMetrics()).containsEntry("inFlight", 0);
+
+        Disposable running = limiter.acquire(1)
+                .flatMap(permit -> Mono.<String>never().doFinally(signal -> permit.release()))
+                .subscribe();
+        CompletableFuture<OpenAIRateLimiter.Permit> waiting = limiter.acquire(1).toFuture();
+        assertThat(waiting).isNotDone();
+
+        running.dispose();
+
+        assertThat(waiting).isCompleted();
+        waiting.join().release();
+        waiting.join().release();
+        assertThat(limiter.getMetrics()).containsEntry("inFlight", 0);
+    }
+
+    @Test
+    void concurrentCallersNeverExceedMaxInFlight() throws Exception {
+        OpenAIRateLimiter limiter = limiter(2, 600, 100_000, 30);
+        int callers = 16;
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<CompletableFuture<String>> calls = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                calls.add(CompletableFuture.supplyAsync(() -> {
+                    await(start);
+                    return limiter.acquire(10)
+                            .flatMap(permit -> Mono.fromCallable(() -> {
+                                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                                        Thread.sleep(5);
+                                        running.decrementAndGet();
+                                        return "done";
+                                    })
+                                    .subscribeOn(Schedulers.boundedElastic())
+                                    .doFinally(signal -> permit.release()))
+                            .block(Duration.ofSeconds(10));
+                }, pool));
+            }
+            start.countDown();
+
+            CompletableFuture.allOf(calls.toArray(CompletableFuture[]::new)).get(20, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+        assertThat(limiter.getMetrics())
+                .containsEntry("acquired", (long) callers)
+                .containsEntry("inFlight", 0)
+                .containsEntry("queueDepth", 0);
+    }
+
+    private OpenAIRateLimiter limiter(int maxInFlight, double rpm, double tpm, long maxWaitSeconds) {
+        return new OpenAIRateLimiter(maxInFlight, rpm, tpm, maxWaitSeconds, 100, timer, timer::nanos);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 수동 진행 타이머: advance()로 시각을 옮기면 그 사이에 예약된 작업을 예약 시각 순서로 실행
+     */
+    private static final class ManualScheduler implements Scheduler {
+        private final List<Task> tasks = new ArrayList<>();
+        private long nanos;
+
+        synchronized long nanos() {
+            return nanos;
+        }
+
+        @Override
+        public synchronized long now(TimeUnit unit) {
+            return unit.convert(nanos, TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public Disposable schedule(Runnable task) {
+            task.run();
+            return () -> {
+            };
+        }
+
+        @Override
+        public synchronized Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+            Task scheduled = new Task(nanos + unit.toNanos(delay), task);
+            tasks.add(scheduled);
+            return scheduled;
+        }
+
+        @Override
+        public Worker createWorker() {
+            throw new UnsupportedOperationException();
+        }
+
+        void advance(Duration duration) {
+            long target;
+            synchronized (this) {
+                target = nanos + duration.toNanos();
+            }
+            while (true) {
+                Task next;
+                synchronized (this) {
+                    tasks.removeIf(task -> task.disposed);
+                    next = tasks.stream()
+                            .filter(task -> task.dueNanos <= target)
+                            .min(Comparator.comparingLong(task -> task.dueNanos))
+                            .orElse(null);
+                    if (next == null) {
+                        nanos = target;
+                        return;
+                    }
+                    tasks.remove(next);
+                    nanos = next.dueNanos;
+                }
+                next.runnable.run();
+            }
+        }
+
+        private static final class Task implements Disposable {
+            private final long dueNanos;
+            private final Runnable runnable;
+            private volatile boolean disposed;
+
+            private Task(long dueNanos, Runnable runnable) {
+                this.dueNanos = dueNanos;
+                this.runnable = runnable;
+            }
+
+            @Override
+            public void dispose() {
+                disposed = true;
+            }
+
+            @Override
+            public boolean isDisposed() {
+                return disposed;
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.smart_healthcare.common.util;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 취소 전파 검증: 최종 future 취소가 앞 단계의 스트림 구독과 이어 붙인 future까지 전달되는지 확인
+ */
+class CancellableFuturesTest {
+
+    @Test
+    void cancellingDownstreamDisposesUpstreamSubscription() {
+        AtomicBoolean upstreamCancelled = new AtomicBoolean();
+        CompletableFuture<Void> streamed = Flux.interval(Duration.ofSeconds(1))
+                .doOnCancel(() -> upstreamCancelled.set(true))
+                .then()
+                .toFuture();
+        CompletableFuture<String> saved = CancellableFutures.propagateCancel(streamed.thenApply(ignored -> "saved"), streamed);
+
+        saved.cancel(true);
+
+        assertThat(streamed.isCancelled()).isTrue();
+        assertThat(upstreamCancelled).isTrue();
+    }
+
+    @Test
+    void handleComposeSkipsNextStageOnceCancelled() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        AtomicBoolean nextCalled = new AtomicBoolean();
+        CompletableFuture<String> result = CancellableFutures.handleCompose(source, (value, e) -> {
+            nextCalled.set(true);
+            return CompletableFuture.completedFuture(value);
+        });
+
+        result.cancel(true);
+        source.complete("speculated");
+
+        assertThat(nextCalled).isFalse();
+        assertThat(result.isCancelled()).isTrue();
+    }
+
+    @Test
+    void handleComposeCancelsRunningInnerFuture() {
+        CompletableFuture<String> source = new CompletableFuture<>();
+        CompletableFuture<String> regenerated = new CompletableFuture<>();
+        CompletableFuture<String> result = CancellableFutures.handleCompose(source, (value, e) -> regenerated);
+
+        source.completeExceptionally(new IllegalStateException("speculation failed"));
+        result.cancel(true);
+
+        assertThat(regenerated.isCancelled()).isTrue();
+    }
+
+    @Test
+    void handleComposePassesThroughInnerResult() {
+        CompletableFuture<String> source = CompletableFuture.completedFuture("speculated");
+        CompletableFuture<String> result = CancellableFutures.handleCompose(source,
+                (value, e) -> CompletableFuture.completedFuture(value + "-saved"));
+
+        assertThat(result.join()).isEqualTo("speculated-saved");
+    }
+}
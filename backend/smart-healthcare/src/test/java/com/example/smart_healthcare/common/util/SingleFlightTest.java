@@ -0,0 +1,115 @@
+package com.example.smart_healthcare.common.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동시 요청 합치기 검증: 같은 키의 동시 호출 N건이 외부 호출 1건으로 합쳐지는지 확인
+ */
+class SingleFlightTest {
+
+    private static final int CALLERS = 16;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentCallersForSameKeyShareOneDownstreamCall() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger downstreamCalls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return singleFlight.execute("squat", () -> {
+                    downstreamCalls.incrementAndGet();
+                    // 나머지 호출이 모두 합류할 때까지 응답 지연
+                    awaitShared(singleFlight, CALLERS - 1);
+                    return "https://www.youtube.com/watch?v=squat";
+                });
+            }));
+        }
+        start.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("https://www.youtube.com/watch?v=squat");
+        }
+        assertThat(downstreamCalls.get()).isEqualTo(1);
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(1);
+        assertThat(singleFlight.getSharedCount()).isEqualTo(CALLERS - 1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void asyncCallersForSameKeyShareOneDownstreamCall() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        AtomicInteger downstreamCalls = new AtomicInteger();
+        CompletableFuture<String> downstream = new CompletableFuture<>();
+
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(singleFlight.executeAsync("prompt-hash", () -> {
+                downstreamCalls.incrementAndGet();
+                return downstream;
+            }));
+        }
+        downstream.complete("response");
+
+        results.forEach(result -> assertThat(result.join()).isEqualTo("response"));
+        assertThat(downstreamCalls.get()).isEqualTo(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    void failureIsSharedAndKeyIsReleased() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return singleFlight.execute("salad", () -> {
+                    awaitShared(singleFlight, 3);
+                    throw new IllegalStateException("Unsplash 호출 실패");
+                });
+            }));
+        }
+        start.countDown();
+
+        for (Future<String> result : results) {
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(IllegalStateException.class);
+        }
+        // 실패 후에는 키가 해제되어 다음 호출이 다시 실행됨
+        assertThat(singleFlight.execute("salad", () -> "https://images.unsplash.com/salad"))
+                .isEqualTo("https://images.unsplash.com/salad");
+        assertThat(singleFlight.getExecutionCount()).isEqualTo(2);
+    }
+
+    private static void awaitShared(SingleFlight<?, ?> singleFlight, long expected) {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (singleFlight.getSharedCount() < expected && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}
@@ -0,0 +1,214 @@
+package com.example.smart_healthcare.config;
+
+import com.example.smart_healthcare.entity.FoodImageCache;
+import com.example.smart_healthcare.entity.User;
+import com.example.smart_healthcare.repository.AIWorkoutRecommendationRepository;
+import com.example.smart_healthcare.repository.FoodImageCacheRepository;
+import com.example.smart_healthcare.repository.UserRepository;
+import com.example.smart_healthcare.service.CustomUserDetailsService;
+import com.example.smart_healthcare.service.ImageCacheService;
+import com.example.smart_healthcare.service.ImageService;
+import com.example.smart_healthcare.service.WorkoutRecommendationService;
+import com.example.smart_healthcare.service.YoutubeService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.test.web.client.ExpectedCount;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * 캐시 적용 검증: 캐시 적중 시 외부 API/DB 호출이 일어나지 않는지, 쓰기 경로에서 무효화되는지 확인
+ */
+@SpringJUnitConfig(CacheConfigTest.TestConfig.class)
+@TestPropertySource(properties = {
+        "youtube.api.key=test-youtube-key",
+        "unsplash.access.key=test-unsplash-key"
+})
+class CacheConfigTest {
+
+    @Configuration
+    @Import({CacheConfig.class, YoutubeService.class, ImageService.class, ImageCacheService.class,
+            WorkoutRecommendationService.class, CustomUserDetailsService.class})
+    static class TestConfig {
+
+        @Bean
+        RestTemplate restTemplate() {
+            return new RestTemplate();
+        }
+
+        @Bean
+        Executor imageLookupExecutor() {
+            return Executors.newFixedThreadPool(4);
+        }
+    }
+
+    @Autowired
+    private YoutubeService youtubeService;
+
+    @Autowired
+    private ImageService imageService;
+
+    @Autowired
+    private WorkoutRecommendationService workoutRecommendationService;
+
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private RestTemplate restTemplate;
+
+    @MockitoBean
+    private AIWorkoutRecommendationRepository workoutRecommendationRepository;
+
+    @MockitoBean
+    private FoodImageCacheRepository foodImageCacheRepository;
+
+    @MockitoBean
+    private UserRepository userRepository;
+
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+    }
+
+    @Test
+    void youtubeLookupIsServedFromCacheOnSecondCall() {
+        server.expect(ExpectedCount.once(), requestTo(startsWith("https://www.googleapis.com/youtube/v3/search")))
+                .andRespond(withSuccess("""
+                        {"items":[{"id":{"videoId":"abc123"},
+                                   "snippet":{"title":"Squat tutorial - proper form","description":"how to squat"}}]}
+                        """, MediaType.APPLICATION_JSON));
+
+        String first = youtubeService.findVideoUrl("squat proper form", "exercise", "squat");
+        String second = youtubeService.findVideoUrl("squat proper form", "exercise", "squat");
+
+        assertThat(first).isEqualTo("https://www.youtube.com/watch?v=abc123");
+        assertThat(second).isEqualTo(first);
+        server.verify();
+        assertThat(hits(CacheConfig.YOUTUBE_VIDEOS)).isEqualTo(1L);
+    }
+
+    @Test
+    void youtubeSearchFallbackIsNotCached() {
+        server.expect(ExpectedCount.twice(), requestTo(startsWith("https://www.googleapis.com/youtube/v3/search")))
+                .andRespond(withSuccess("{\"items\":[]}", MediaType.APPLICATION_JSON));
+
+        youtubeService.findVideoUrl("unknown move", "exercise", "unknown move");
+        youtubeService.findVideoUrl("unknown move", "exercise", "unknown move");
+
+        server.verify();
+    }
+
+    @Test
+    void workoutImageIsServedFromCacheOnSecondCall() {
+        server.expect(ExpectedCount.once(), requestTo(startsWith("https://api.unsplash.com/search/photos")))
+                .andRespond(withSuccess("""
+                        {"results":[{"alt_description":"man doing squat workout in gym",
+                                     "urls":{"regular":"https://images.unsplash.com/squat"}}]}
+                        """, MediaType.APPLICATION_JSON));
+
+        String first = imageService.getWorkoutImageUrl("squat");
+        String second = imageService.getWorkoutImageUrl("squat");
+
+        assertThat(second).isEqualTo(first).isEqualTo("https://images.unsplash.com/squat");
+        server.verify();
+    }
+
+    @Test
+    void foodImageMissIsPersistedAndThenServedFromLocalCache() {
+        server.expect(ExpectedCount.once(), requestTo(startsWith("https://api.unsplash.com/search/photos")))
+                .andRespond(withSuccess("""
+                        {"results":[{"alt_description":"salad healthy food bowl",
+                                     "urls":{"regular":"https://images.unsplash.com/salad"}}]}
+                        """, MediaType.APPLICATION_JSON));
+
+        imageService.getImageUrl("샐러드");
+        imageService.getImageUrl("샐러드");
+
+        server.verify();
+        verify(foodImageCacheRepository, times(1)).save(any(FoodImageCache.class));
+    }
+
+    @Test
+    void foodImageIsServedFromDatabaseWithoutApiCall() {
+        FoodImageCache cached = new FoodImageCache();
+        cached.setFoodName("연어");
+        cached.setImageUrl("https://images.unsplash.com/salmon");
+        when(foodImageCacheRepository.findCached(FoodImageCache.ImageType.FOOD, "연어")).thenReturn(Optional.of(cached));
+
+        Map<String, String> imageUrls = imageService
+                .getImageUrlsAsync(FoodImageCache.ImageType.FOOD, List.of("연어", "연어", " "))
+                .join();
+
+        assertThat(imageUrls).containsExactly(Map.entry("연어", "https://images.unsplash.com/salmon"));
+        server.verify();
+    }
+
+    @Test
+    void latestWorkoutRecommendationIsCachedAndEvictedOnDelete() {
+        when(workoutRecommendationRepository.findHistoryByUserId(eq(1L), any())).thenReturn(Page.empty());
+        when(workoutRecommendationRepository.softDeleteById(anyLong())).thenReturn(1);
+
+        assertThat(workoutRecommendationService.getLatestWorkoutRecommendation(1L)).isEmpty();
+        assertThat(workoutRecommendationService.getLatestWorkoutRecommendation(1L)).isEmpty();
+        verify(workoutRecommendationRepository, times(1)).findHistoryByUserId(eq(1L), any());
+
+        workoutRecommendationService.deleteWorkoutRecommendation(10L, 1L);
+        workoutRecommendationService.getLatestWorkoutRecommendation(1L);
+        verify(workoutRecommendationRepository, times(2)).findHistoryByUserId(eq(1L), any());
+    }
+
+    @Test
+    void userDetailsAreServedFromCacheOnSecondCall() {
+        User user = new User();
+        user.setEmail("cached@sample.com");
+        user.setPassword("encoded");
+        user.setRole(User.Role.USER);
+        when(userRepository.findByEmail("cached@sample.com")).thenReturn(Optional.of(user));
+
+        userDetailsService.loadUserByUsername("cached@sample.com");
+        userDetailsService.loadUserByUsername("cached@sample.com");
+
+        verify(userRepository, times(1)).findByEmail("cached@sample.com");
+    }
+
+    @SuppressWarnings("unchecked")
+    private long hits(String cacheName) {
+        Map<String, Object> metrics = (Map<String, Object>) CacheConfig.metricsOf(cacheManager).get(cacheName);
+        return (long) metrics.get("hits");
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.smart_healthcare.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * food_image_cache 보정 검증: 이전 food_name 유니크 인덱스 삭제, image_type 채움, 재실행 시 변화 없음
+ */
+class FoodImageCacheMigrationTest {
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:food_image_cache_migration;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", ""));
+
+    @Test
+    void dropsLegacyUniqueIndexAndBackfillsImageType() {
+        jdbcTemplate.execute("CREATE TABLE food_image_cache (id BIGINT PRIMARY KEY, food_name VARCHAR(100) NOT NULL, " +
+                "image_url VARCHAR(255) NOT NULL, image_type VARCHAR(20))");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX uk_legacy_food_name ON food_image_cache (food_name)");
+        jdbcTemplate.execute("CREATE UNIQUE INDEX uk_food_image_cache_type_name ON food_image_cache (image_type, food_name)");
+        jdbcTemplate.update("INSERT INTO food_image_cache VALUES (1, '스쿼트', 'https://img/1', NULL)");
+
+        FoodImageCacheMigration migration = new FoodImageCacheMigration(jdbcTemplate);
+        migration.migrate();
+        migration.migrate();
+
+        jdbcTemplate.update("INSERT INTO food_image_cache VALUES (2, '스쿼트', 'https://img/2', 'EXERCISE')");
+        assertThat(jdbcTemplate.queryForList("SELECT image_type FROM food_image_cache ORDER BY id", String.class))
+                .containsExactly("FOOD", "EXERCISE");
+    }
+}
@@ -0,0 +1,286 @@
+package com.example.smart_healthcare.loadtest;
+
+import com.example.smart_healthcare.client.OpenAIClient;
+import com.example.smart_healthcare.dto.request.InbodyDataRequestDto;
+import com.example.smart_healthcare.dto.request.SurveyDataRequestDto;
+import com.example.smart_healthcare.repository.UserRepository;
+import com.example.smart_healthcare.service.RecommendationTemplateService;
+import com.example.smart_healthcare.service.facade.BodyAnalysisFacade;
+import com.example.smart_healthcare.service.facade.DietRecommendationFacade;
+import com.example.smart_healthcare.service.facade.WorkoutRecommendationFacade;
+import com.example.smart_healthcare.support.MockOpenAIServer;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * AI 추천/분석 Facade 종단 부하 테스트 (OpenAI 대역 서버 사용, 실제 쿼터 소모 없음)
+ * - 실행: gradle loadTest [-Ploadtest.requests=200 -Ploadtest.concurrency=16 -Ploadtest.latency-median-ms=800 ...]
+ * - 처리량, p50/p99 지연, aiTaskExecutor/DB 커넥션 풀 포화도를 로그와 build/reports/loadtest/ai-endpoints.txt 로 출력
+ */
+@Slf4j
+@Tag("load")
+@ActiveProfiles("local")
+@SpringBootTest(properties = {
+        "openai.api.key=sk-loadtest-mock-key-0000000000",
+        "openai.cache.enabled=false",
+        "youtube.api.key=",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+class AiEndpointLoadTest {
+
+    private static final int REQUESTS = Integer.getInteger("loadtest.requests", 120);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 16);
+
+    private static final MockOpenAIServer mockServer = startMockServer();
+
+    @Autowired
+    private WorkoutRecommendationFacade workoutFacade;
+
+    @Autowired
+    private DietRecommendationFacade dietFacade;
+
+    @Autowired
+    private BodyAnalysisFacade bodyAnalysisFacade;
+
+    @Autowired
+    private OpenAIClient openAIClient;
+
+    @Autowired
+    private RecommendationTemplateService templateService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ThreadPoolTaskExecutor aiTaskExecutor;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @DynamicPropertySource
+    static void openAiProperties(DynamicPropertyRegistry registry) {
+        registry.add("openai.api.base-url", mockServer::baseUrl);
+    }
+
+    @AfterAll
+    static void stopMockServer() {
+        mockServer.close();
+    }
+
+    @Test
+    void aiEndpointsUnderLoad() throws Exception {
+        List<Long> userIds = List.of("underweight@sample.com", "abdominal@sample.com", "muscular@sample.com", "normal@sample.com")
+                .stream()
+                .map(email -> userRepository.findByEmail(email).orElseThrow().getId())
+                .toList();
+
+        Map<String, Function<InbodyDataRequestDto, CompletableFuture<?>>> scenarios = new LinkedHashMap<>();
+        scenarios.put("workout", workoutFacade::recommendAndSaveAsync);
+        scenarios.put("workout-stream", request -> workoutFacade.recommendAndSaveStream(request, (day, workouts) -> { }));
+        scenarios.put("diet", dietFacade::recommendAndSaveAsync);
+        scenarios.put("body-analysis", bodyAnalysisFacade::analyzeAndSaveAsync);
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("OpenAI 대역: %s%n", describeMockSettings()));
+        report.append(String.format("요청 %d건/시나리오, 동시 요청 %d%n%n", REQUESTS, CONCURRENCY));
+        report.append(String.format("%-15s %8s %8s %10s %9s %9s %9s %12s %12s%n",
+                "scenario", "ok", "failed", "req/s", "p50(ms)", "p99(ms)", "max(ms)", "aiPool max", "dbPool max"));
+
+        int completed = 0;
+        for (Map.Entry<String, Function<InbodyDataRequestDto, CompletableFuture<?>>> scenario : scenarios.entrySet()) {
+            ScenarioResult result = run(scenario.getValue(), userIds);
+            completed += result.succeeded + result.failed;
+            report.append(String.format("%-15s %8d %8d %10.2f %9d %9d %9d %12s %12s%n",
+                    scenario.getKey(), result.succeeded, result.failed, result.throughput(),
+                    result.percentile(50), result.percentile(99), result.percentile(100),
+                    result.saturation.aiPool(), result.saturation.dbPool()));
+        }
+        report.append(String.format("%nOpenAI 대역 서버: %s%n", mockServer.getMetrics()));
+        report.append(String.format("OpenAIClient: %s%n", openAIClient.getMetrics()));
+        report.append(String.format("추천 템플릿: %s%n", templateService.getMetrics()));
+
+        log.info("📊 AI 엔드포인트 부하 테스트 결과\n{}", report);
+        Path reportFile = Path.of("build", "reports", "loadtest", "ai-endpoints.txt");
+        Files.createDirectories(reportFile.getParent());
+        Files.writeString(reportFile, report);
+
+        // 실패(호출 제한 초과, 서킷 open 등)는 측정 결과로 보고만 하고, 응답 없이 멈춘 요청이 없는지만 검증
+        assertThat(completed).isEqualTo(scenarios.size() * REQUESTS);
+    }
+
+    /**
+     * 동시 요청 수를 CONCURRENCY로 유지하며 REQUESTS건 실행하고 지연/포화도 수집
+     */
+    private ScenarioResult run(Function<InbodyDataRequestDto, CompletableFuture<?>> call, List<Long> userIds) throws InterruptedException {
+        Semaphore slots = new Semaphore(CONCURRENCY);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger failed = new AtomicInteger();
+        SaturationSampler sampler = new SaturationSampler();
+
+        long startedAt = System.nanoTime();
+        sampler.start();
+        for (int i = 0; i < REQUESTS; i++) {
+            slots.acquire();
+            InbodyDataRequestDto request = sampleRequest(userIds.get(i % userIds.size()), i);
+            long requestStartedAt = System.nanoTime();
+            CompletableFuture<?> future;
+            try {
+                future = call.apply(request);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((result, e) -> {
+                if (e != null) {
+                    failed.incrementAndGet();
+                    log.warn("⚠️ 부하 테스트 요청 실패: {}", e.getMessage());
+                } else {
+                    latencies.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - requestStartedAt));
+                }
+                slots.release();
+            });
+        }
+        slots.acquire(CONCURRENCY);
+        long elapsedNanos = System.nanoTime() - startedAt;
+        sampler.stop();
+
+        List<Long> sorted = new ArrayList<>(latencies);
+        Collections.sort(sorted);
+        return new ScenarioResult(sorted.size(), failed.get(), sorted, elapsedNanos, sampler.result());
+    }
+
+    /**
+     * 응답 캐시를 피하도록 요청마다 체중을 조금씩 바꾼 인바디/설문 데이터
+     */
+    private InbodyDataRequestDto sampleRequest(Long userId, int index) {
+        float weight = 60f + (index % 40) * 0.5f;
+        SurveyDataRequestDto survey = new SurveyDataRequestDto(
+                "체지방을 줄이고 근력을 키우고 싶습니다. 무릎이 약간 불편합니다.",
+                "주 3회",
+                List.of("월", "수", "금"),
+                List.of("Monday", "Wednesday", "Friday"),
+                "월/수/금 저녁",
+                "3",
+                "byType",
+                List.of("아침", "점심", "저녁"),
+                "아침, 점심, 저녁",
+                List.of("breakfast", "lunch", "dinner"));
+        return new InbodyDataRequestDto(
+                userId, index % 2 == 0 ? "MALE" : "FEMALE", 1990 + index % 15, weight,
+                36.5f, 9.8f, 3.4f,
+                weight * 0.25f, weight * 0.7f, weight * 0.75f, weight * 0.4f, 23.1f, 25.0f,
+                2.9f, 2.8f, 22.5f, 8.4f, 8.3f,
+                0.9f, 0.9f, 8.7f, 2.1f, 2.1f,
+                72, 64.0f, weight - 64.0f, -3.5f, 1.5f, 1450, 0.88f, 7f, 108f, 2.9f, 84.5f,
+                survey);
+    }
+
+    private String describeMockSettings() {
+        return String.format("firstToken median=%sms p99=%sms, %s tokens/s, 429=%s, 5xx=%s",
+                System.getProperty("loadtest.latency-median-ms", "800"),
+                System.getProperty("loadtest.latency-p99-ms", "4000"),
+                System.getProperty("loadtest.tokens-per-second", "400"),
+                System.getProperty("loadtest.rate-limit-ratio", "0.02"),
+                System.getProperty("loadtest.server-error-ratio", "0.02"));
+    }
+
+    private static MockOpenAIServer startMockServer() {
+        try {
+            return new MockOpenAIServer()
+                    .latency(Long.getLong("loadtest.latency-median-ms", 800), Long.getLong("loadtest.latency-p99-ms", 4000))
+                    .tokensPerSecond(Integer.getInteger("loadtest.tokens-per-second", 400))
+                    .failures(Double.parseDouble(System.getProperty("loadtest.rate-limit-ratio", "0.02")),
+                            Double.parseDouble(System.getProperty("loadtest.server-error-ratio", "0.02")))
+                    .start();
+        } catch (IOException e) {
+            throw new IllegalStateException("OpenAI 대역 서버 시작 실패", e);
+        }
+    }
+
+    private record ScenarioResult(int succeeded, int failed, List<Long> sortedLatencies, long elapsedNanos,
+                                  Saturation saturation) {
+
+        double throughput() {
+            return succeeded / (elapsedNanos / 1_000_000_000.0);
+        }
+
+        long percentile(int p) {
+            if (sortedLatencies.isEmpty()) {
+                return 0;
+            }
+            int index = (int) Math.ceil(p / 100.0 * sortedLatencies.size()) - 1;
+            return sortedLatencies.get(Math.max(0, Math.min(index, sortedLatencies.size() - 1)));
+        }
+    }
+
+    /**
+     * 최대 사용량/한도 (예: "12/32 q3" = 활성 12, 최대 32, 대기 3)
+     */
+    private record Saturation(String aiPool, String dbPool) {}
+
+    /**
+     * aiTaskExecutor와 Hikari 커넥션 풀을 50ms 간격으로 관찰하여 최대값 기록
+     */
+    private final class SaturationSampler {
+        private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+        private final HikariPoolMXBean pool = dataSource instanceof HikariDataSource hikari ? hikari.getHikariPoolMXBean() : null;
+        private int maxAiActive;
+        private int maxAiQueued;
+        private int maxDbActive;
+        private int maxDbWaiting;
+
+        void start() {
+            scheduler.scheduleAtFixedRate(this::sample, 0, 50, TimeUnit.MILLISECONDS);
+        }
+
+        void stop() throws InterruptedException {
+            scheduler.shutdown();
+            scheduler.awaitTermination(1, TimeUnit.SECONDS);
+        }
+
+        private synchronized void sample() {
+            maxAiActive = Math.max(maxAiActive, aiTaskExecutor.getActiveCount());
+            maxAiQueued = Math.max(maxAiQueued, aiTaskExecutor.getThreadPoolExecutor().getQueue().size());
+            if (pool != null) {
+                maxDbActive = Math.max(maxDbActive, pool.getActiveConnections());
+                maxDbWaiting = Math.max(maxDbWaiting, pool.getThreadsAwaitingConnection());
+            }
+        }
+
+        synchronized Saturation result() {
+            String ai = String.format("%d/%d q%d", maxAiActive, aiTaskExecutor.getMaxPoolSize(), maxAiQueued);
+            String db = pool != null
+                    ? String.format("%d/%d w%d", maxDbActive, ((HikariDataSource) dataSource).getMaximumPoolSize(), maxDbWaiting)
+                    : "n/a";
+            return new Saturation(ai, db);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.smart_healthcare.service;
+
+import com.example.smart_healthcare.config.CacheConfig;
+import com.example.smart_healthcare.dto.response.PostResponseDto;
+import com.example.smart_healthcare.entity.CommunityPost;
+import com.example.smart_healthcare.entity.CommunityPost.PostCategory;
+import com.example.smart_healthcare.entity.User;
+import com.example.smart_healthcare.event.PostIndexEvent;
+import com.example.smart_healthcare.event.ReactionAddedEvent;
+import com.example.smart_healthcare.repository.CommunityPostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 피드 캐시 검증: 앞 페이지는 한 번만 조회, 반응은 캐시에서 바로 반영, 게시글 변경은 무효화
+ */
+class CommunityFeedCacheTest {
+
+    private final CommunityPostRepository repository = mock(CommunityPostRepository.class);
+    private CommunityFeedCache feedCache;
+
+    @BeforeEach
+    void setUp() {
+        feedCache = new CommunityFeedCache(repository, new CacheConfig().cacheManager(new MockEnvironment()));
+        ReflectionTestUtils.setField(feedCache, "windowSize", 4);
+        when(repository.findFeedByCreatedAt(isNull(), any(), anyLong(), any()))
+                .thenReturn(List.of(post(3L, 0), post(2L, 0), post(1L, 0)));
+        when(repository.findFeedByLikeCount(isNull(), anyInt(), anyLong(), any()))
+                .thenReturn(List.of(post(3L, 2), post(2L, 1), post(1L, 0)));
+    }
+
+    @Test
+    void firstPagesAreLoadedOnceAndDeepPagesFallBackToDatabase() {
+        assertThat(ids(feedCache.findPage("recent", null, PageRequest.of(0, 2)))).containsExactly(3L, 2L);
+        assertThat(ids(feedCache.findPage("recent", null, PageRequest.of(1, 2)))).containsExactly(1L);
+
+        verify(repository, times(1)).findFeedByCreatedAt(isNull(), any(), anyLong(), any());
+        assertThat(feedCache.findPage("recent", null, PageRequest.of(2, 2))).isEmpty();
+        assertThat(feedCache.findPage("views", null, PageRequest.of(0, 2))).isEmpty();
+    }
+
+    @Test
+    void reactionUpdatesCachedCountsAndPopularOrder() {
+        feedCache.findPage("popular", null, PageRequest.of(0, 3));
+
+        feedCache.onReaction(new ReactionAddedEvent(1L, 5L, "LIKE"));
+        feedCache.onReaction(new ReactionAddedEvent(1L, 6L, "LIKE"));
+        feedCache.onReaction(new ReactionAddedEvent(1L, 7L, "LIKE"));
+
+        Optional<Page<PostResponseDto>> page = feedCache.findPage("popular", null, PageRequest.of(0, 3));
+        assertThat(ids(page)).containsExactly(1L, 3L, 2L);
+        assertThat(page.get().getContent().get(0).getLikeCount()).isEqualTo(3);
+        verify(repository, times(1)).findFeedByLikeCount(isNull(), anyInt(), anyLong(), any());
+    }
+
+    @Test
+    void postChangeEvictsAffectedFeeds() {
+        feedCache.findPage("recent", null, PageRequest.of(0, 2));
+
+        feedCache.onPostChanged(PostIndexEvent.delete(2L));
+        feedCache.findPage("recent", null, PageRequest.of(0, 2));
+
+        verify(repository, times(2)).findFeedByCreatedAt(isNull(), any(), anyLong(), any());
+    }
+
+    private static List<Long> ids(Optional<Page<PostResponseDto>> page) {
+        return page.orElseThrow().getContent().stream().map(PostResponseDto::getId).toList();
+    }
+
+    private static CommunityPost post(Long id, int likeCount) {
+        User author = new User();
+        author.setId(10L);
+        CommunityPost post = CommunityPost.builder()
+                .title("post " + id)
+                .content("content")
+                .category(PostCategory.FREE)
+                .author(author)
+                .likeCount(likeCount)
+                .build();
+        post.setId(id);
+        post.setCreatedAt(LocalDateTime.of(2025, 3, 1, 9, 0).plusHours(id));
+        return post;
+    }
+}
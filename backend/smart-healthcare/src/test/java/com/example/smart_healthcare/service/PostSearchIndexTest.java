@@ -0,0 +1,120 @@
+package com.example.smart_healthcare.service;
+
+import com.example.smart_healthcare.entity.CommunityPost;
+import com.example.smart_healthcare.entity.CommunityPost.PostCategory;
+import com.example.smart_healthcare.entity.User;
+import com.example.smart_healthcare.event.PostIndexEvent;
+import com.example.smart_healthcare.repository.CommunityPostRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 게시글 검색 색인 검증: 한글 부분 문자열 검색, 영문/숫자 접두어 검색, 제목 가중 관련도, 최신순 정렬, 구조 조건 필터, 삭제 반영
+ */
+class PostSearchIndexTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    private PostSearchIndex index;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        index = new PostSearchIndex(mock(CommunityPostRepository.class));
+        index.open();
+        index.onPostChanged(post(1L, "스쿼트 자세 질문", "무릎이 아파요", PostCategory.QUESTION, 10L, 0));
+        index.onPostChanged(post(2L, "오늘의 운동 기록", "하체 루틴: 스쿼트를 5세트 했어요", PostCategory.FREE, 20L, 1));
+        index.onPostChanged(post(3L, "식단 공유", "닭가슴살 샐러드 레시피", PostCategory.FREE, 10L, 2));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        index.close();
+    }
+
+    @Test
+    void keywordMatchesKoreanSubstringAndRanksTitleMatchesFirst() {
+        assertThat(search(condition("스쿼트", null, null))).containsExactly(1L, 2L);
+        assertThat(search(condition("가슴", null, null))).containsExactly(3L);
+        assertThat(search(condition("벤치프레스", null, null))).isEmpty();
+    }
+
+    @Test
+    void keywordMatchesLatinAndNumericPrefixesButNotInfixes() {
+        index.onPostChanged(post(4L, "Squat health tips", "Week 12 routine", PostCategory.FREE, 30L, 3));
+
+        assertThat(search(condition("heal", null, null))).containsExactly(4L);
+        assertThat(search(condition("SQUA", null, null))).containsExactly(4L);
+        assertThat(search(condition("health tip", null, null))).containsExactly(4L);
+        assertThat(search(condition("1", null, null))).containsExactly(4L);
+        // 단어 중간 부분 문자열은 색인하지 않음
+        assertThat(search(condition("alth", null, null))).isEmpty();
+        assertThat(search(condition("healthy", null, null))).isEmpty();
+    }
+
+    @Test
+    void titleAndContentConditionsSearchOnlyTheirField() {
+        assertThat(search(condition(null, "스쿼트", null))).containsExactly(1L);
+        assertThat(search(condition(null, null, "스쿼트"))).containsExactly(2L);
+    }
+
+    @Test
+    void structuredConditionsFilterTextMatches() {
+        assertThat(search(new PostSearchIndex.SearchCondition("스쿼트", null, null, PostCategory.FREE, null, null, null)))
+                .containsExactly(2L);
+        assertThat(search(new PostSearchIndex.SearchCondition("스쿼트", null, null, null, 10L, null, null)))
+                .containsExactly(1L);
+        assertThat(search(new PostSearchIndex.SearchCondition("스쿼트", null, null, null, null, BASE_TIME.plusDays(1), null)))
+                .containsExactly(2L);
+    }
+
+    @Test
+    void recentSearchOrdersMatchesByCreatedAtAndPagesInIndex() {
+        index.onPostChanged(post(4L, "스쿼트 100일 챌린지", "매일 기록", PostCategory.FREE, 30L, 3));
+
+        assertThat(index.searchRecent(condition("스쿼트", null, null), 0, 10).ids()).containsExactly(4L, 2L, 1L);
+        PostSearchIndex.Hits secondPage = index.searchRecent(condition("스쿼트", null, null), 2, 2);
+        assertThat(secondPage.ids()).containsExactly(1L);
+        assertThat(secondPage.totalHits()).isEqualTo(3);
+    }
+
+    @Test
+    void updatedAndDeletedPostsAreReflected() {
+        index.onPostChanged(post(3L, "스쿼트 후 식단", "닭가슴살 샐러드 레시피", PostCategory.FREE, 10L, 2));
+        index.onPostChanged(PostIndexEvent.delete(1L));
+
+        PostSearchIndex.Hits hits = index.search(condition("스쿼트", null, null), 0, 10);
+        assertThat(hits.ids()).containsExactly(3L, 2L);
+        assertThat(hits.totalHits()).isEqualTo(2);
+    }
+
+    private List<Long> search(PostSearchIndex.SearchCondition condition) {
+        return index.search(condition, 0, 10).ids();
+    }
+
+    private static PostSearchIndex.SearchCondition condition(String keyword, String title, String content) {
+        return new PostSearchIndex.SearchCondition(keyword, title, content, null, null, null, null);
+    }
+
+    private static PostIndexEvent post(Long id, String title, String content, PostCategory category,
+                                       Long authorId, int daysAfterBase) {
+        User author = new User();
+        author.setId(authorId);
+        CommunityPost post = CommunityPost.builder()
+                .title(title)
+                .content(content)
+                .category(category)
+                .author(author)
+                .build();
+        post.setId(id);
+        post.setCreatedAt(BASE_TIME.plusDays(daysAfterBase));
+        post.setIsDeleted(false);
+        return PostIndexEvent.upsert(post);
+    }
+}
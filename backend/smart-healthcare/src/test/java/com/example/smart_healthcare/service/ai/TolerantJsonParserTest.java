@@ -0,0 +1,107 @@
+package com.example.smart_healthcare.service.ai;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * GPT 응답 JSON 복구 검증: 잘린 위치별로 완성된 값까지만 남기고 닫는지, 잘린 경로를 정확히 돌려주는지 확인
+ */
+class TolerantJsonParserTest {
+
+    private static final List<String> DAYS = List.of("Monday", "Wednesday", "Friday");
+
+    private final TolerantJsonParser parser = new TolerantJsonParser();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void cutInsideStringDropsUnfinishedValue() throws Exception {
+        TolerantJsonParser.Result result = parser.repair("{\"goal\": \"근력\", \"note\": \"하체 위주로 진행하고 무릎이");
+
+        assertThat(result.truncated()).isTrue();
+        assertThat(result.truncatedPath()).isEmpty();
+        assertThat(read(result)).containsExactly(Map.entry("goal", "근력"));
+    }
+
+    @Test
+    void cutAfterCommaKeepsPrecedingValues() throws Exception {
+        TolerantJsonParser.Result result = parser.repair("{\"goal\": \"근력\", \"days\": 3,");
+
+        assertThat(result.truncated()).isTrue();
+        assertThat(read(result)).containsEntry("goal", "근력").containsEntry("days", 3).hasSize(2);
+    }
+
+    @Test
+    void cutInsideFridayReportsFridayAsTruncatedChild() throws Exception {
+        String content = "{\"workouts\": {"
+                + "\"Monday\": {\"exercises\": [{\"name\": \"스쿼트\"}]}, "
+                + "\"Wednesday\": {\"exercises\": [{\"name\": \"벤치프레스\"}]}, "
+                + "\"Friday\": {\"exercises\": [{\"name\": \"데드리프트\"}, {\"name\": \"런";
+
+        TolerantJsonParser.Result result = parser.repair(content);
+
+        assertThat(result.truncated()).isTrue();
+        assertThat(result.truncatedPath()).containsExactly("workouts", "Friday", "exercises");
+        assertThat(result.truncatedChildOf("workouts")).isEqualTo("Friday");
+
+        Map<String, Object> workouts = workouts(result);
+        assertThat(workouts).containsKeys("Monday", "Wednesday", "Friday");
+        assertThat(result.missingKeys(workouts, DAYS, "workouts")).containsExactly("Friday");
+    }
+
+    @Test
+    void cutAfterBareKeyReportsKeyAsMissing() throws Exception {
+        String content = "{\"workouts\": {"
+                + "\"Monday\": {\"exercises\": [{\"name\": \"스쿼트\"}]}, "
+                + "\"Wednesday\": {\"exercises\": [{\"name\": \"벤치프레스\"}]}, "
+                + "\"Friday\"";
+
+        TolerantJsonParser.Result result = parser.repair(content);
+
+        assertThat(result.truncated()).isTrue();
+        assertThat(result.truncatedChildOf("workouts")).isNull();
+
+        Map<String, Object> workouts = workouts(result);
+        assertThat(workouts).containsOnlyKeys("Monday", "Wednesday");
+        assertThat(result.missingKeys(workouts, DAYS, "workouts")).containsExactly("Friday");
+    }
+
+    @Test
+    void skipsCodeFenceAndProsePrefix() throws Exception {
+        TolerantJsonParser.Result fenced = parser.repair("```json\n{\"goal\": \"체중 감량\"}\n```");
+        TolerantJsonParser.Result prose = parser.repair("요청하신 운동 계획입니다: {\"goal\": \"체중 감량\"}");
+
+        assertThat(fenced.truncated()).isFalse();
+        assertThat(fenced.json()).isEqualTo("{\"goal\": \"체중 감량\"}");
+        assertThat(prose.truncated()).isFalse();
+        assertThat(prose.json()).isEqualTo("{\"goal\": \"체중 감량\"}");
+    }
+
+    @Test
+    void dropsTrailingTextAfterRootObject() {
+        TolerantJsonParser.Result result = parser.repair("{\"note\": \"괄호 } 와 \\\"따옴표\\\" 포함\"} 참고: {\"extra\": true}");
+
+        assertThat(result.truncated()).isFalse();
+        assertThat(result.json()).isEqualTo("{\"note\": \"괄호 } 와 \\\"따옴표\\\" 포함\"}");
+    }
+
+    @Test
+    void returnsNullWhenNoObjectCanBeRecovered() {
+        assertThat(parser.repair(null)).isNull();
+        assertThat(parser.repair("죄송합니다. 요청을 처리할 수 없습니다.")).isNull();
+    }
+
+    private Map<String, Object> read(TolerantJsonParser.Result result) throws Exception {
+        return objectMapper.readValue(result.json(), new TypeReference<>() {});
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> workouts(TolerantJsonParser.Result result) throws Exception {
+        return (Map<String, Object>) read(result).get("workouts");
+    }
+}
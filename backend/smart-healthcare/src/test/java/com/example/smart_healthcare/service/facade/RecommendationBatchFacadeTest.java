@@ -0,0 +1,109 @@
+package com.example.smart_healthcare.service.facade;
+
+import com.example.smart_healthcare.dto.response.RecommendationBatchResponseDto;
+import com.example.smart_healthcare.entity.RecommendationJob;
+import com.example.smart_healthcare.repository.UserRepository;
+import com.example.smart_healthcare.support.MockOpenAIServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대량 추천 재생성 배치 흐름 테스트 (OpenAI 대역 서버의 Batch API 사용)
+ * - 제출(JSONL 업로드 + 배치 생성) → 상태 확인 → 결과 파싱 → JDBC 배치 insert
+ */
+@ActiveProfiles("local")
+@SpringBootTest(properties = {
+        "openai.api.key=sk-batch-test-mock-key-0000000000",
+        "openai.cache.enabled=false",
+        "youtube.api.key=",
+        "ai.template.enabled=false",
+        "ai.batch.max-requests-per-batch=3",
+        "ai.batch.poll-interval-ms=3600000",
+        "spring.jpa.properties.hibernate.show_sql=false"
+})
+class RecommendationBatchFacadeTest {
+
+    private static final MockOpenAIServer mockServer = startMockServer();
+
+    @Autowired
+    private RecommendationBatchFacade batchFacade;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @DynamicPropertySource
+    static void openAiProperties(DynamicPropertyRegistry registry) {
+        registry.add("openai.api.base-url", mockServer::baseUrl);
+    }
+
+    @AfterAll
+    static void stopMockServer() {
+        mockServer.close();
+    }
+
+    @Test
+    void regeneratesWorkoutPlansForAllUsersInBatches() {
+        long before = countRows("ai_workout_recommendation");
+
+        List<RecommendationBatchResponseDto> submitted = batchFacade.submit(RecommendationJob.JobType.WORKOUT, null);
+        int requested = submitted.stream().mapToInt(RecommendationBatchResponseDto::requestCount).sum();
+        assertThat(requested).isGreaterThanOrEqualTo(4);
+        assertThat(submitted).allSatisfy(batch -> assertThat(batch.requestCount()).isLessThanOrEqualTo(3));
+
+        batchFacade.pollBatches();
+
+        List<RecommendationBatchResponseDto> results = submitted.stream()
+                .map(batch -> batchFacade.getBatch(batch.batchId()))
+                .toList();
+        assertThat(results).allSatisfy(batch -> {
+            assertThat(batch.status()).isEqualTo("COMPLETED");
+            assertThat(batch.failedCount()).isZero();
+        });
+        assertThat(countRows("ai_workout_recommendation") - before).isEqualTo(requested);
+    }
+
+    @Test
+    void regeneratesDietPlansForSelectedUsers() {
+        List<Long> userIds = List.of("underweight@sample.com", "normal@sample.com").stream()
+                .map(email -> userRepository.findByEmail(email).orElseThrow().getId())
+                .toList();
+        long before = countRows("ai_diet_recommendation");
+
+        List<RecommendationBatchResponseDto> submitted = batchFacade.submit(RecommendationJob.JobType.DIET, userIds);
+        assertThat(submitted).hasSize(1);
+        assertThat(submitted.get(0).requestCount()).isEqualTo(2);
+
+        batchFacade.pollBatches();
+
+        RecommendationBatchResponseDto result = batchFacade.getBatch(submitted.get(0).batchId());
+        assertThat(result.status()).isEqualTo("COMPLETED");
+        assertThat(result.savedCount()).isEqualTo(2);
+        assertThat(countRows("ai_diet_recommendation") - before).isEqualTo(2);
+    }
+
+    private long countRows(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    private static MockOpenAIServer startMockServer() {
+        try {
+            return new MockOpenAIServer().start();
+        } catch (IOException e) {
+            throw new IllegalStateException("OpenAI 대역 서버 시작 실패", e);
+        }
+    }
+}
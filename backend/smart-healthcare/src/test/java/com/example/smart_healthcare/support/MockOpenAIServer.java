@@ -0,0 +1,419 @@
+package com.example.smart_healthcare.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 부하 테스트용 OpenAI 대역 서버 (POST /chat/completions)
+ * - OpenAIClient가 사용하는 요청/응답 계약만 구현: 일반 응답, stream: true SSE, usage(cached_tokens 포함)
+ * - 첫 토큰 지연은 로그정규분포(중앙값/p99 지정), 이후 토큰은 초당 토큰 수로 지연
+ * - 429/5xx를 지정 비율로 주입
+ * - 시스템 프롬프트 종류(운동/식단/체형 분석)에 맞는 고정 JSON(openai-mock/*.json)을 반환
+ * - Batch API(POST /files, POST /batches, GET /batches/{id}, GET /files/{id}/content): 제출 즉시 결과 파일을 만들고 completed로 응답
+ */
+@Slf4j
+public class MockOpenAIServer implements AutoCloseable {
+
+    private static final Pattern FOCUS_DAY = Pattern.compile("이번 응답에서는 (\\w+) 요일");
+    private static final double Z_99 = 2.326;
+    private static final int CHARS_PER_TOKEN = 2;   // 한국어 위주 응답 기준 대략값
+    private static final int STREAM_CHUNK_TOKENS = 8;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, JsonNode> payloads = new LinkedHashMap<>();
+    private final Set<String> seenPrefixes = ConcurrentHashMap.newKeySet();
+    private final Map<String, String> files = new ConcurrentHashMap<>();
+    private final Map<String, ObjectNode> batches = new ConcurrentHashMap<>();
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    // 지연/장애 설정
+    private volatile long firstTokenMedianMs = 800;
+    private volatile long firstTokenP99Ms = 4000;
+    private volatile int tokensPerSecond = 400;
+    private volatile double rateLimitRatio = 0.0;
+    private volatile double serverErrorRatio = 0.0;
+
+    // 지표
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder streamRequests = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    public MockOpenAIServer() throws IOException {
+        payloads.put("workout", readPayload("openai-mock/workout.json"));
+        payloads.put("diet", readPayload("openai-mock/diet.json"));
+        payloads.put("body-analysis", readPayload("openai-mock/body-analysis.json"));
+
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 512);
+        server.createContext("/chat/completions", this::handle);
+        server.createContext("/files", this::handleFiles);
+        server.createContext("/batches", this::handleBatches);
+        server.setExecutor(executor);
+    }
+
+    public MockOpenAIServer start() {
+        server.start();
+        log.info("🧪 OpenAI 대역 서버 시작: {}", baseUrl());
+        return this;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 첫 토큰까지의 지연 분포 (로그정규분포의 중앙값과 p99)
+     */
+    public MockOpenAIServer latency(long medianMs, long p99Ms) {
+        this.firstTokenMedianMs = medianMs;
+        this.firstTokenP99Ms = Math.max(medianMs, p99Ms);
+        return this;
+    }
+
+    public MockOpenAIServer tokensPerSecond(int tokensPerSecond) {
+        this.tokensPerSecond = tokensPerSecond;
+        return this;
+    }
+
+    /**
+     * 장애 주입 비율 (0.0 ~ 1.0)
+     */
+    public MockOpenAIServer failures(double rateLimitRatio, double serverErrorRatio) {
+        this.rateLimitRatio = rateLimitRatio;
+        this.serverErrorRatio = serverErrorRatio;
+        return this;
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("requests", requests.sum());
+        metrics.put("streamRequests", streamRequests.sum());
+        metrics.put("rateLimited", rateLimited.sum());
+        metrics.put("serverErrors", serverErrors.sum());
+        metrics.put("maxInFlight", maxInFlight.get());
+        metrics.put("batches", batches.size());
+        return metrics;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.increment();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try (exchange) {
+            if (!"POST".equals(exchange.getRequestMethod())) {
+                writeJson(exchange, 405, error("Method not allowed", "invalid_request_error"));
+                return;
+            }
+            JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < rateLimitRatio) {
+                rateLimited.increment();
+                exchange.getResponseHeaders().add("retry-after", "1");
+                writeJson(exchange, 429, error("Rate limit reached for requests", "rate_limit_exceeded"));
+                return;
+            }
+            if (roll < rateLimitRatio + serverErrorRatio) {
+                serverErrors.increment();
+                sleep(sampleFirstTokenMs() / 2);
+                writeJson(exchange, 503, error("The server is overloaded or not ready yet.", "server_error"));
+                return;
+            }
+
+            String content = buildContent(request);
+            int promptTokens = request.path("messages").toString().length() / CHARS_PER_TOKEN;
+            int completionTokens = content.length() / CHARS_PER_TOKEN;
+            ObjectNode usage = usage(request, promptTokens, completionTokens);
+
+            if (request.path("stream").asBoolean(false)) {
+                streamRequests.increment();
+                stream(exchange, request, content, usage);
+            } else {
+                sleep(sampleFirstTokenMs() + completionTokens * 1000L / tokensPerSecond);
+                writeJson(exchange, 200, completion(request, content, usage));
+            }
+        } catch (IOException e) {
+            // 클라이언트가 타임아웃 등으로 먼저 연결을 끊은 경우
+            log.debug("OpenAI 대역 서버 응답 중단: {}", e.getMessage());
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    /**
+     * SSE 스트리밍: 첫 토큰 지연 후 STREAM_CHUNK_TOKENS 단위로 delta.content 방출
+     */
+    private void stream(HttpExchange exchange, JsonNode request, String content, ObjectNode usage) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+
+        String id = "chatcmpl-mock-" + UUID.randomUUID();
+        String model = request.path("model").asText("gpt-mock");
+        int chunkChars = STREAM_CHUNK_TOKENS * CHARS_PER_TOKEN;
+        long chunkDelayMs = STREAM_CHUNK_TOKENS * 1000L / tokensPerSecond;
+
+        sleep(sampleFirstTokenMs());
+        for (int i = 0; i < content.length(); i += chunkChars) {
+            String piece = content.substring(i, Math.min(content.length(), i + chunkChars));
+            ObjectNode chunk = chunk(id, model);
+            chunk.withArray("choices").addObject().put("index", 0)
+                    .putObject("delta").put("content", piece);
+            writeEvent(out, chunk.toString());
+            sleep(chunkDelayMs);
+        }
+
+        ObjectNode last = chunk(id, model);
+        last.withArray("choices").addObject().put("index", 0).put("finish_reason", "stop").putObject("delta");
+        writeEvent(out, last.toString());
+        if (request.path("stream_options").path("include_usage").asBoolean(false)) {
+            ObjectNode usageChunk = chunk(id, model);
+            usageChunk.putArray("choices");
+            usageChunk.set("usage", usage);
+            writeEvent(out, usageChunk.toString());
+        }
+        writeEvent(out, "[DONE]");
+    }
+
+    /**
+     * POST /files (multipart, purpose=batch) / GET /files/{id}/content
+     */
+    private void handleFiles(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            if ("POST".equals(exchange.getRequestMethod()) && "/files".equals(path)) {
+                String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+                String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                String content = multipartFile(body, contentType.substring(contentType.indexOf("boundary=") + 9));
+                String fileId = "file-mock-" + UUID.randomUUID();
+                files.put(fileId, content);
+                ObjectNode response = objectMapper.createObjectNode();
+                response.put("id", fileId);
+                response.put("object", "file");
+                response.put("purpose", "batch");
+                response.put("bytes", content.length());
+                writeJson(exchange, 200, response);
+            } else if ("GET".equals(exchange.getRequestMethod()) && path.endsWith("/content")) {
+                String content = files.get(path.substring("/files/".length(), path.length() - "/content".length()));
+                if (content == null) {
+                    writeJson(exchange, 404, error("File not found", "invalid_request_error"));
+                    return;
+                }
+                byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/jsonl");
+                exchange.sendResponseHeaders(200, bytes.length);
+                exchange.getResponseBody().write(bytes);
+            } else {
+                writeJson(exchange, 404, error("Not found", "invalid_request_error"));
+            }
+        }
+    }
+
+    /**
+     * POST /batches (입력 파일의 모든 요청을 바로 처리) / GET /batches/{id}
+     */
+    private void handleBatches(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            if ("POST".equals(exchange.getRequestMethod()) && "/batches".equals(path)) {
+                JsonNode request = objectMapper.readTree(exchange.getRequestBody());
+                String input = files.get(request.path("input_file_id").asText());
+                if (input == null) {
+                    writeJson(exchange, 400, error("Input file not found", "invalid_request_error"));
+                    return;
+                }
+                ObjectNode batch = runBatch(request.path("input_file_id").asText(), input);
+                batches.put(batch.path("id").asText(), batch);
+                writeJson(exchange, 200, batch);
+            } else if ("GET".equals(exchange.getRequestMethod())) {
+                ObjectNode batch = batches.get(path.substring("/batches/".length()));
+                if (batch == null) {
+                    writeJson(exchange, 404, error("Batch not found", "invalid_request_error"));
+                    return;
+                }
+                writeJson(exchange, 200, batch);
+            } else {
+                writeJson(exchange, 404, error("Not found", "invalid_request_error"));
+            }
+        }
+    }
+
+    private ObjectNode runBatch(String inputFileId, String input) throws IOException {
+        StringBuilder output = new StringBuilder();
+        int total = 0;
+        for (String line : input.split("\n")) {
+            if (line.isBlank()) {
+                continue;
+            }
+            total++;
+            JsonNode request = objectMapper.readTree(line);
+            JsonNode body = request.path("body");
+            String content = buildContent(body);
+            ObjectNode usage = usage(body, body.toString().length() / CHARS_PER_TOKEN, content.length() / CHARS_PER_TOKEN);
+
+            ObjectNode result = objectMapper.createObjectNode();
+            result.put("id", "batch-req-mock-" + UUID.randomUUID());
+            result.put("custom_id", request.path("custom_id").asText());
+            ObjectNode response = result.putObject("response");
+            response.put("status_code", 200);
+            response.set("body", completion(body, content, usage));
+            result.putNull("error");
+            output.append(objectMapper.writeValueAsString(result)).append('\n');
+        }
+        String outputFileId = "file-mock-" + UUID.randomUUID();
+        files.put(outputFileId, output.toString());
+
+        ObjectNode batch = objectMapper.createObjectNode();
+        batch.put("id", "batch-mock-" + UUID.randomUUID());
+        batch.put("object", "batch");
+        batch.put("status", "completed");
+        batch.put("input_file_id", inputFileId);
+        batch.put("output_file_id", outputFileId);
+        batch.putNull("error_file_id");
+        batch.putObject("request_counts").put("total", total).put("completed", total).put("failed", 0);
+        return batch;
+    }
+
+    /**
+     * multipart 본문에서 name="file" 파트 내용 추출
+     */
+    private static String multipartFile(String body, String boundary) {
+        for (String part : body.split("--" + Pattern.quote(boundary))) {
+            int headerEnd = part.indexOf("\r\n\r\n");
+            if (headerEnd > 0 && part.substring(0, headerEnd).contains("name=\"file\"")) {
+                String content = part.substring(headerEnd + 4);
+                return content.endsWith("\r\n") ? content.substring(0, content.length() - 2) : content;
+            }
+        }
+        throw new IllegalArgumentException("multipart file part not found");
+    }
+
+    /**
+     * 요청 종류에 맞는 고정 응답, 요일별 분할 요청이면 해당 요일만 남김
+     */
+    private String buildContent(JsonNode request) {
+        String system = request.path("messages").path(0).path("content").asText("");
+        String user = request.path("messages").path(1).path("content").asText("");
+        String kind = request.path("prompt_cache_key").asText("");
+        String type = kind.startsWith("diet") || system.contains("영양사") ? "diet"
+                : kind.startsWith("body-analysis") || system.contains("체성분 분석가") ? "body-analysis"
+                : "workout";
+
+        ObjectNode payload = payloads.get(type).deepCopy();
+        Matcher focus = FOCUS_DAY.matcher(user);
+        if (focus.find()) {
+            String day = focus.group(1);
+            String container = "diet".equals(type) ? "diets" : "workouts";
+            ObjectNode days = (ObjectNode) payload.path(container);
+            days.retain(day);
+        }
+        return payload.toString();
+    }
+
+    /**
+     * 같은 시스템 프롬프트가 이전에 들어온 적 있으면 그 길이만큼(128 토큰 단위) 캐시 적중으로 보고
+     */
+    private ObjectNode usage(JsonNode request, int promptTokens, int completionTokens) {
+        String system = request.path("messages").path(0).path("content").asText("");
+        int cached = 0;
+        if (!seenPrefixes.add(Integer.toHexString(system.hashCode()) + ":" + system.length())) {
+            cached = Math.min(promptTokens, system.length() / CHARS_PER_TOKEN / 128 * 128);
+        }
+        ObjectNode usage = objectMapper.createObjectNode();
+        usage.put("prompt_tokens", promptTokens);
+        usage.put("completion_tokens", completionTokens);
+        usage.put("total_tokens", promptTokens + completionTokens);
+        usage.putObject("prompt_tokens_details").put("cached_tokens", cached);
+        return usage;
+    }
+
+    private ObjectNode completion(JsonNode request, String content, ObjectNode usage) {
+        ObjectNode response = objectMapper.createObjectNode();
+        response.put("id", "chatcmpl-mock-" + UUID.randomUUID());
+        response.put("object", "chat.completion");
+        response.put("model", request.path("model").asText("gpt-mock"));
+        ObjectNode choice = response.putArray("choices").addObject();
+        choice.put("index", 0);
+        choice.putObject("message").put("role", "assistant").put("content", content);
+        choice.put("finish_reason", "stop");
+        response.set("usage", usage);
+        return response;
+    }
+
+    private ObjectNode chunk(String id, String model) {
+        ObjectNode chunk = objectMapper.createObjectNode();
+        chunk.put("id", id);
+        chunk.put("object", "chat.completion.chunk");
+        chunk.put("model", model);
+        return chunk;
+    }
+
+    private ObjectNode error(String message, String code) {
+        ObjectNode body = objectMapper.createObjectNode();
+        body.putObject("error").put("message", message).put("type", code).put("code", code);
+        return body;
+    }
+
+    private long sampleFirstTokenMs() {
+        double sigma = Math.log((double) firstTokenP99Ms / Math.max(1, firstTokenMedianMs)) / Z_99;
+        return Math.round(firstTokenMedianMs * Math.exp(sigma * ThreadLocalRandom.current().nextGaussian()));
+    }
+
+    private void writeJson(HttpExchange exchange, int status, JsonNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private void writeEvent(OutputStream out, String data) throws IOException {
+        out.write(("data: " + data + "\n\n").getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private JsonNode readPayload(String path) throws IOException {
+        return objectMapper.readTree(new ClassPathResource(path).getInputStream());
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}